@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
@@ -45,4 +46,39 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 통합 캘린더 뷰 조회용 실행자 (일정/공휴일/공지 동시 조회)
+     * 큐가 가득 차면 요청 스레드에서 직접 실행해 결과를 잃지 않는다.
+     */
+    @Bean(name = "calendarViewExecutor")
+    public Executor calendarViewExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.setMaxPoolSize(12);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("CalendarView-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 실시간 알림(SSE) 전송용 실행자
+     * 구독자별 전송을 한 번에 하나씩 맡아 처리하며, 큐가 가득 차면 해당 구독자를 끊고 재접속시킨다.
+     * 큐가 커서 코어 수 이상으로는 늘지 않으므로 코어와 최대를 같게 둔다.
+     * 소켓 쓰기가 막힌 스레드는 전송 예산(app.push.send-timeout-ms)을 넘기면 구독에서 빠지지만
+     * 쓰기가 실패할 때까지 스레드를 잡고 있으므로, 동시에 멈춘 연결이 여럿이어도 나머지 전송이 이어지도록 넉넉히 둔다.
+     */
+    @Bean(name = "pushExecutor")
+    public Executor pushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(32);
+        executor.setMaxPoolSize(32);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("Push-");
+        executor.initialize();
+        return executor;
+    }
 }
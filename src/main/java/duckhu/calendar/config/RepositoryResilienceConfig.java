@@ -0,0 +1,72 @@
+package duckhu.calendar.config;
+
+import duckhu.calendar.repository.HolidayRepository;
+import duckhu.calendar.repository.HolidayTombstoneRepository;
+import duckhu.calendar.repository.NoticeRepository;
+import duckhu.calendar.repository.ScheduleRepository;
+import duckhu.calendar.repository.ScheduleTombstoneRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import duckhu.calendar.repository.support.DeadlineAwareDataSource;
+import duckhu.calendar.repository.support.ResilientRepositoryInterceptor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.Set;
+
+/**
+ * 리포지토리 재시도/시간 제한 설정
+ * 대상 리포지토리 프록시의 가장 바깥(트랜잭션 인터셉터보다 앞)에 ResilientRepositoryInterceptor를 붙이고,
+ * 커넥션 획득 대기를 호출 시간 제한에 맞출 수 있도록 Hikari DataSource를 DeadlineAwareDataSource로 감싼다.
+ */
+@Configuration
+public class RepositoryResilienceConfig {
+
+    private static final Set<Class<?>> RESILIENT_REPOSITORIES = Set.of(
+            ScheduleRepository.class, HolidayRepository.class, NoticeRepository.class,
+            ScheduleTombstoneRepository.class, HolidayTombstoneRepository.class
+    );
+
+    /**
+     * 리포지토리 팩토리 빈 초기화 전에 프록시 후처리기 등록
+     * (BeanPostProcessor는 일찍 생성되므로 인터셉터는 첫 호출 시점에 조회)
+     */
+    @Bean
+    public static BeanPostProcessor resilientRepositoryPostProcessor(
+            ObjectProvider<ResilientRepositoryInterceptor> interceptorProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+                        && RESILIENT_REPOSITORIES.contains(factoryBean.getObjectType())) {
+                    String repositoryName = factoryBean.getObjectType().getSimpleName();
+                    MethodInterceptor advice = invocation ->
+                            interceptorProvider.getObject().invoke(repositoryName, invocation);
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                                    proxyFactory.addAdvice(0, advice)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Hikari DataSource를 호출별 커넥션 획득 기한을 따르는 DataSource로 감쌈
+     */
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new DeadlineAwareDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
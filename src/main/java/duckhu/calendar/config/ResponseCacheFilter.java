@@ -0,0 +1,225 @@
+package duckhu.calendar.config;
+
+import duckhu.calendar.dto.ScheduleFieldSet;
+import duckhu.calendar.service.cache.CompressedResponseCache;
+import duckhu.calendar.service.index.MonthVersionRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 인기 조회 응답(일정/공휴일 월 뷰, 추천 일정 목록) 캐시 필터
+ * 데이터 버전(ETag)을 핸들러보다 먼저 읽어 키로 삼고, 적중하면 직렬화·압축 없이 힙 밖 버퍼를 그대로 응답 스트림에 쓴다.
+ * 미스면 응답을 받아 원문/gzip 본문을 캐시에 넣은 뒤 같은 경로로 내보낸다.
+ * 보안 필터 체인(CORS, 인증) 뒤에서 실행된다.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern SCHEDULE_MONTH = Pattern.compile("^/api/schedules/month/(\\d{1,4})/(\\d{1,2})$");
+    private static final Pattern HOLIDAY_MONTH = Pattern.compile("^/api/holidays/month/(\\d{1,4})/(\\d{1,2})$");
+    private static final Pattern COUNTRY_CODE = Pattern.compile("^[A-Z]{2}$");
+
+    /**
+     * 추천 목록 limit 중 캐시하는 최대값 (더 큰 값은 캐시 없이 처리)
+     */
+    private static final int MAX_CACHEABLE_LIMIT = 100;
+
+    private final CompressedResponseCache responseCache;
+    private final MonthVersionRegistry monthVersionRegistry;
+
+    public ResponseCacheFilter(CompressedResponseCache responseCache, MonthVersionRegistry monthVersionRegistry) {
+        this.responseCache = responseCache;
+        this.monthVersionRegistry = monthVersionRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !responseCache.isEnabled() || !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String version = versionOf(path, request);
+        if (version == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 실제 협상 결과와 다를 수 있으나, 저장은 핸들러가 실제로 이 형식으로 응답했을 때만 하고
+        // 적중 시 내보내는 형식은 항상 클라이언트가 받겠다고 한 형식이다.
+        MediaType format = WireFormats.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String route = format != null ? routeOf(path, format, request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CompressedResponseCache.Entry cached = responseCache.get(route, version);
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean written = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpStatus.OK.value() && wrapper.getContentType() != null
+                    && wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                    && format.isCompatibleWith(MediaType.parseMediaType(wrapper.getContentType()))) {
+                CompressedResponseCache.Entry entry = responseCache.put(route, version,
+                        wrapper.getContentAsByteArray(), wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.ETAG), wrapper.getHeader(HttpHeaders.CACHE_CONTROL));
+                if (entry != null) {
+                    write(entry, request, response);
+                    written = true;
+                }
+            }
+        } finally {
+            if (!written) {
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    /**
+     * 캐시 대상 경로면 현재 데이터 버전, 아니면 null
+     */
+    private String versionOf(String path, HttpServletRequest request) {
+        Matcher scheduleMonth = SCHEDULE_MONTH.matcher(path);
+        if (scheduleMonth.matches()) {
+            int month = Integer.parseInt(scheduleMonth.group(2));
+            return month >= 1 && month <= 12
+                    ? monthVersionRegistry.scheduleMonthETag(Integer.parseInt(scheduleMonth.group(1)), month) : null;
+        }
+        Matcher holidayMonth = HOLIDAY_MONTH.matcher(path);
+        if (holidayMonth.matches()) {
+            int month = Integer.parseInt(holidayMonth.group(2));
+            String countryCode = request.getParameter("countryCode");
+            return month >= 1 && month <= 12
+                    ? monthVersionRegistry.holidayMonthETag(Integer.parseInt(holidayMonth.group(1)), month,
+                    countryCode != null ? countryCode : "KR") : null;
+        }
+        if ("/api/schedules/featured".equals(path)
+                || ("/api/schedules".equals(path) && "true".equals(request.getParameter("featured")))) {
+            return monthVersionRegistry.scheduleListETag();
+        }
+        return null;
+    }
+
+    /**
+     * 경로 + 응답에 영향을 주는 쿼리 파라미터(정규화) + 협상될 형식
+     * 임의의 파라미터나 Accept 문자열로 키를 무한히 만들어 캐시를 밀어내지 못하도록,
+     * 경로별로 정한 파라미터만 넣고 Accept는 JSON/Smile/CBOR 중 하나로 줄인다.
+     * @return 캐시하지 않을 요청이면 null (파라미터 값이 허용 범위 밖)
+     */
+    private static String routeOf(String path, MediaType format, HttpServletRequest request) {
+        StringBuilder route = new StringBuilder(path).append('?');
+        if (path.startsWith("/api/holidays/")) {
+            String countryCode = request.getParameter("countryCode");
+            if (countryCode != null && !COUNTRY_CODE.matcher(countryCode).matches()) {
+                return null;
+            }
+            route.append("countryCode=").append(countryCode != null ? countryCode : "KR");
+        } else {
+            if ("/api/schedules/featured".equals(path)) {
+                String limit = request.getParameter("limit");
+                if (limit != null && !isCacheableLimit(limit)) {
+                    return null;
+                }
+                route.append("limit=").append(limit != null ? Integer.parseInt(limit) : 10).append('&');
+            } else if (path.startsWith("/api/schedules/month/")) {
+                String view = request.getParameter("view");
+                route.append("view=").append(view == null || view.isBlank() ? "full" : view).append('&');
+            }
+            // 추천 목록(featured=true)은 sortBy/cursor/size/view 를 쓰지 않으므로 키에 넣지 않음
+            Set<String> fields = ScheduleFieldSet.parse(request.getParameter(ScheduleFieldSet.PARAM));
+            route.append("fields=").append(fields != null ? String.join(",", new TreeSet<>(fields)) : "");
+        }
+        return route.append('|').append(format.getSubtype()).toString();
+    }
+
+    private static boolean isCacheableLimit(String limit) {
+        try {
+            int value = Integer.parseInt(limit);
+            return value >= 1 && value <= MAX_CACHEABLE_LIMIT;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * gzip 본문은 원문과 다른 표현이므로 ETag 도 구분 (강한 ETag 가 표현마다 유일하도록)
+     */
+    private static String gzipETag(String etag) {
+        int end = etag.lastIndexOf('"');
+        return end > 0 ? etag.substring(0, end) + "-gzip\"" : etag + "-gzip";
+    }
+
+    private static void write(CompressedResponseCache.Entry entry, HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        boolean gzipAccepted = acceptsGzip(request);
+        String etag = entry.etag() != null && entry.isGzip(gzipAccepted) ? gzipETag(entry.etag()) : entry.etag();
+        if (etag != null && new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(entry.contentType());
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        if (entry.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entry.cacheControl());
+        }
+        response.addHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+        if (entry.isGzip(gzipAccepted)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        ByteBuffer body = entry.body(gzipAccepted);
+        response.setContentLength(body.remaining());
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * Accept-Encoding 에 gzip 이 있고 q=0 으로 거부하지 않았는지
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,12 @@
+package duckhu.calendar.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정 (조회수 일괄 반영 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
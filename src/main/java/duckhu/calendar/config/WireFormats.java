@@ -0,0 +1,66 @@
+package duckhu.calendar.config;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 응답 형식(JSON/Smile/CBOR) 협상 보조
+ * 같은 데이터라도 형식마다 본문이 다르므로, 강한 ETag 는 형식별로 구분해야 조건부 요청/공유 캐시가
+ * 다른 형식을 내주지 않는다. JSON 은 기존 ETag 를 그대로 쓰고 바이너리 형식만 접미사를 붙인다.
+ */
+public final class WireFormats {
+
+    public static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * JacksonConfig 가 응답할 수 있는 형식 (같은 품질 값이면 이 순서로 고름)
+     */
+    static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON, SMILE, MediaType.APPLICATION_CBOR);
+
+    private WireFormats() {
+    }
+
+    /**
+     * Accept 에서 응답 형식 중 받을 수 있는 것 (품질 값이 높은 범위부터, Accept 가 없으면 JSON, 맞는 형식이 없으면 null)
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType range : accepted) {
+            if (range.getQualityValue() <= 0) {
+                break;
+            }
+            for (MediaType format : FORMATS) {
+                if (range.includes(format)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 협상될 형식에 맞춘 ETag (Smile/CBOR 이면 "...-smile", "...-cbor")
+     */
+    public static String etag(String etag, String accept) {
+        MediaType format = negotiate(accept);
+        if (etag == null || format == null || MediaType.APPLICATION_JSON.equals(format)) {
+            return etag;
+        }
+        String suffix = MediaType.APPLICATION_CBOR.equals(format) ? "-cbor" : "-smile";
+        int end = etag.lastIndexOf('"');
+        return end > 0 ? etag.substring(0, end) + suffix + "\"" : etag + suffix;
+    }
+}
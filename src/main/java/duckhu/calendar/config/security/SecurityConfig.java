@@ -72,7 +72,7 @@ public class SecurityConfig {
         ));
 
         configuration.setAllowedHeaders(Arrays.asList("*"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Sync-Token"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -1,7 +1,9 @@
 package duckhu.calendar.controller;
 
+import duckhu.calendar.repository.support.RepositoryCallMetrics;
 import duckhu.calendar.service.AdminService;
 import duckhu.calendar.service.HolidayService;
+import duckhu.calendar.service.push.ChangePushService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +26,8 @@ public class AdminController {
 
     private final AdminService adminService;
     private final HolidayService holidayService;
+    private final RepositoryCallMetrics repositoryCallMetrics;
+    private final ChangePushService changePushService;
 
     /**
      * 임시 비밀번호 요청
@@ -125,6 +129,30 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 리포지토리 호출 지표 조회 (시도/재시도/실패 횟수, 지연 시간)
+     * GET /api/admin/db-metrics
+     */
+    @GetMapping("/db-metrics")
+    public ResponseEntity<Map<String, Object>> getDbMetrics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("repositories", repositoryCallMetrics.getStatistics());
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 실시간 알림 지표 조회 (구독자 수, 발행/강제 종료 횟수)
+     * GET /api/admin/push-metrics
+     */
+    @GetMapping("/push-metrics")
+    public ResponseEntity<Map<String, Object>> getPushMetrics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("push", changePushService.getStatistics());
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 시스템 활동 로그 조회 (관리자 전용)
      * GET /api/admin/system-activity
@@ -0,0 +1,77 @@
+package duckhu.calendar.controller;
+
+import duckhu.calendar.service.CalendarViewService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통합 캘린더 뷰 REST API 컨트롤러
+ * 월 화면에 필요한 일정/공휴일/공지사항을 한 번의 요청으로 제공
+ */
+@RestController
+@RequestMapping("/api/calendar")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class CalendarController {
+
+    private final CalendarViewService calendarViewService;
+
+    @Autowired
+    public CalendarController(CalendarViewService calendarViewService) {
+        this.calendarViewService = calendarViewService;
+    }
+
+    /**
+     * 월별 통합 캘린더 뷰 조회
+     * GET /api/calendar/{year}/{month}?countryCode=KR&noticeLimit=2
+     * 일부 소스가 실패하거나 시간을 넘기면 나머지 결과와 함께 partial=true, errors 를 반환
+     */
+    @GetMapping("/{year}/{month}")
+    public ResponseEntity<?> getMonthView(@PathVariable int year,
+                                          @PathVariable int month,
+                                          @RequestParam(defaultValue = "KR") String countryCode,
+                                          @RequestParam(defaultValue = "2") int noticeLimit) {
+        try {
+            if (month < 1 || month > 12) {
+                return createErrorResponse("월 범위 오류", "월은 1-12 사이의 값이어야 합니다.", HttpStatus.BAD_REQUEST);
+            }
+            if (noticeLimit < 1) {
+                return createErrorResponse("잘못된 요청", "noticeLimit은 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST);
+            }
+
+            Map<String, Object> view = calendarViewService.getMonthView(year, month, countryCode, noticeLimit);
+
+            Map<String, Object> response = new HashMap<>(view);
+            response.put("success", true);
+            response.put("year", year);
+            response.put("month", month);
+            response.put("countryCode", countryCode);
+            response.put("scheduleCount", ((List<?>) view.get(CalendarViewService.SOURCE_SCHEDULES)).size());
+            response.put("holidayCount", ((List<?>) view.get(CalendarViewService.SOURCE_HOLIDAYS)).size());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            return createErrorResponse("캘린더 조회에 실패했습니다.", e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 에러 응답 생성
+     */
+    private ResponseEntity<?> createErrorResponse(String message, String details, HttpStatus status) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", true);
+        errorResponse.put("message", message);
+        errorResponse.put("details", details);
+        errorResponse.put("timestamp", java.time.LocalDateTime.now().toString());
+        errorResponse.put("status", status.value());
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
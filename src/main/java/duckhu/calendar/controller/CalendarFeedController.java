@@ -0,0 +1,79 @@
+package duckhu.calendar.controller;
+
+import duckhu.calendar.service.CalendarFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * iCalendar 구독 피드 컨트롤러
+ * 캘린더 앱(구글/애플/아웃룩 등)이 구독할 수 있는 .ics 피드를 제공
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class CalendarFeedController {
+
+    public static final String SYNC_TOKEN_HEADER = "X-Sync-Token";
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    @Autowired
+    public CalendarFeedController(CalendarFeedService calendarFeedService) {
+        this.calendarFeedService = calendarFeedService;
+    }
+
+    /**
+     * 전체 일정 + 공휴일 피드
+     * GET /api/calendar.ics?countryCode=KR&holidays=true&syncToken=...
+     * 응답 헤더 X-Sync-Token 값을 다음 요청의 syncToken 으로 넘기면 그 이후 변경된 일정만 내려받음 (삭제된 일정은 STATUS:CANCELLED)
+     */
+    @GetMapping("/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> getFeed(@RequestParam(required = false) String syncToken,
+                                                         @RequestParam(defaultValue = "KR") String countryCode,
+                                                         @RequestParam(defaultValue = "true") boolean holidays) {
+        return createFeedResponse(null, holidays ? countryCode : null, syncToken, "calendar.ics");
+    }
+
+    /**
+     * 카테고리별 일정 피드 (공휴일 제외)
+     * GET /api/calendar/categories/{category}.ics?syncToken=...
+     */
+    @GetMapping("/calendar/categories/{category}.ics")
+    public ResponseEntity<StreamingResponseBody> getCategoryFeed(@PathVariable String category,
+                                                                 @RequestParam(required = false) String syncToken) {
+        if (category.isBlank()) {
+            throw new IllegalArgumentException("카테고리를 지정해야 합니다.");
+        }
+        return createFeedResponse(category, null, syncToken, "calendar-category.ics");
+    }
+
+    /**
+     * 스트리밍 피드 응답 생성 (잘못된 동기화 토큰은 IllegalArgumentException → 400)
+     */
+    private ResponseEntity<StreamingResponseBody> createFeedResponse(String category, String countryCode,
+                                                                     String syncToken, String filename) {
+        LocalDateTime since = calendarFeedService.parseSyncToken(syncToken);
+
+        // 피드를 읽기 전에 다음 토큰을 발급해야 기록 도중 변경된 일정을 놓치지 않음
+        String nextToken = calendarFeedService.issueSyncToken();
+        StreamingResponseBody body = outputStream ->
+                calendarFeedService.writeFeed(outputStream, category, countryCode, since);
+
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
+                .header(SYNC_TOKEN_HEADER, nextToken)
+                .body(body);
+    }
+}
@@ -0,0 +1,81 @@
+package duckhu.calendar.controller;
+
+import duckhu.calendar.dto.FreeBusyDto;
+import duckhu.calendar.service.FreeBusyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 일정 가용(free/busy) 조회 컨트롤러
+ * 파트너가 일정을 제안하기 전에 비어 있는 날짜/시간대를 확인할 수 있도록 제공
+ */
+@RestController
+@RequestMapping("/api/freebusy")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class FreeBusyController {
+
+    private final FreeBusyService freeBusyService;
+
+    @Autowired
+    public FreeBusyController(FreeBusyService freeBusyService) {
+        this.freeBusyService = freeBusyService;
+    }
+
+    /**
+     * 기간별 가용 정보 조회
+     * GET /api/freebusy?start=2025-01-01&end=2025-12-31&category=...&countryCode=KR&holidays=true
+     * busy: 합쳐진 바쁜 구간, busyMinutes: 날짜별 바쁜 시간(분), holidays: 공휴일, freeDays: 비어 있는 날 (최대 366일)
+     */
+    @GetMapping
+    public ResponseEntity<?> getFreeBusy(@RequestParam String start,
+                                         @RequestParam String end,
+                                         @RequestParam(required = false) String category,
+                                         @RequestParam(defaultValue = "KR") String countryCode,
+                                         @RequestParam(defaultValue = "true") boolean holidays) {
+        try {
+            FreeBusyDto freeBusy = freeBusyService.getFreeBusy(LocalDate.parse(start), LocalDate.parse(end),
+                    category != null && !category.isBlank() ? category : null,
+                    holidays ? countryCode : null);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("startDate", freeBusy.getStartDate());
+            response.put("endDate", freeBusy.getEndDate());
+            response.put("category", category);
+            response.put("busy", freeBusy.getBusy());
+            response.put("busyMinutes", freeBusy.getBusyMinutes());
+            response.put("holidays", freeBusy.getHolidays());
+            response.put("freeDays", freeBusy.getFreeDays());
+
+            return ResponseEntity.ok(response);
+
+        } catch (DateTimeParseException e) {
+            return createErrorResponse("날짜 형식이 올바르지 않습니다.", "YYYY-MM-DD 형식으로 입력해주세요.", HttpStatus.BAD_REQUEST);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("잘못된 요청", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("가용 정보 조회에 실패했습니다.", e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 에러 응답 생성
+     */
+    private ResponseEntity<?> createErrorResponse(String message, String details, HttpStatus status) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", true);
+        errorResponse.put("message", message);
+        errorResponse.put("details", details);
+        errorResponse.put("timestamp", java.time.LocalDateTime.now().toString());
+        errorResponse.put("status", status.value());
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
@@ -1,5 +1,6 @@
 package duckhu.calendar.controller;
 
+import duckhu.calendar.config.WireFormats;
 import duckhu.calendar.dto.HolidayDTO;
 import duckhu.calendar.entity.Holiday;
 import duckhu.calendar.service.HolidayService;
@@ -7,8 +8,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -209,19 +213,26 @@ public class HolidayController {
     }
 
     /**
-     * 월별 공휴일/국경일 조회
+     * 월별 공휴일/국경일 조회 (ETag 조건부 요청 지원, 응답 형식마다 ETag 구분)
      */
     @GetMapping("/month/{year}/{month}")
     public ResponseEntity<Map<String, Object>> getHolidaysByMonth(
             @PathVariable int year,
             @PathVariable int month,
-            @RequestParam(defaultValue = "KR") String countryCode) {
+            @RequestParam(defaultValue = "KR") String countryCode,
+            WebRequest webRequest) {
 
         try {
             if (month < 1 || month > 12) {
                 return createErrorResponse("올바르지 않은 월입니다.", "월은 1-12 사이의 값이어야 합니다.");
             }
 
+            String etag = WireFormats.etag(holidayService.getMonthETag(year, month, countryCode),
+                    webRequest.getHeader(HttpHeaders.ACCEPT));
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
             // 해당 월의 시작일과 끝일 계산
             LocalDate startDate = LocalDate.of(year, month, 1);
             LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
@@ -236,7 +247,11 @@ public class HolidayController {
             response.put("holidays", holidays);
             response.put("count", holidays.size());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(CacheControl.noCache())
+                    .body(response);
 
         } catch (Exception e) {
             log.error("월별 공휴일 조회 실패: {}", e.getMessage());
@@ -0,0 +1,46 @@
+package duckhu.calendar.controller;
+
+import duckhu.calendar.service.push.ChangePushService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 변경 알림 컨트롤러 (Server-Sent Events)
+ * 이벤트 이름: schedule / notice (data: {action, id, data}), schedule-batch (data: {action, ids}), reset (이어 받기 불가 → 변경분 API로 다시 동기화)
+ */
+@RestController
+@RequestMapping("/api/push")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class PushController {
+
+    private final ChangePushService changePushService;
+
+    @Autowired
+    public PushController(ChangePushService changePushService) {
+        this.changePushService = changePushService;
+    }
+
+    /**
+     * 변경 알림 구독
+     * GET /api/push/changes
+     * 재접속 시 브라우저가 보내는 Last-Event-ID 헤더(또는 lastEventId 파라미터) 이후의 이벤트부터 이어서 받음
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                                @RequestParam(required = false) String lastEventId) {
+        String resumeFrom = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+        try {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .header("X-Accel-Buffering", "no") // nginx 프록시 버퍼링 해제
+                    .body(changePushService.subscribe(resumeFrom));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "30").build();
+        }
+    }
+}
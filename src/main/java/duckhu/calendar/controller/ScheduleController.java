@@ -1,17 +1,43 @@
 package duckhu.calendar.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import duckhu.calendar.config.WireFormats;
 import duckhu.calendar.config.security.AdminAuthUtil;
+import duckhu.calendar.dto.ScheduleBulkFilterDto;
+import duckhu.calendar.dto.ScheduleBulkUpdateRequestDto;
+import duckhu.calendar.dto.ScheduleChangesResponseDto;
+import duckhu.calendar.dto.ScheduleConflictDto;
+import duckhu.calendar.dto.ScheduleFieldSet;
+import duckhu.calendar.dto.ScheduleImportResultDto;
+import duckhu.calendar.dto.SchedulePageResponseDto;
 import duckhu.calendar.dto.ScheduleRequestDto;
 import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.dto.ScheduleSlimDto;
+import duckhu.calendar.dto.SuggestionDto;
+import duckhu.calendar.exception.SyncTokenExpiredException;
+import duckhu.calendar.service.ScheduleBulkService;
+import duckhu.calendar.service.ScheduleConflictService;
+import duckhu.calendar.service.ScheduleExportService;
+import duckhu.calendar.service.ScheduleImportService;
 import duckhu.calendar.service.ScheduleService;
+import duckhu.calendar.service.ScheduleSyncService;
+import duckhu.calendar.service.cache.CompressedResponseCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,41 +53,150 @@ import java.util.Map;
 @CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
 public class ScheduleController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
+    private final ScheduleSyncService scheduleSyncService;
+    private final ScheduleImportService scheduleImportService;
+    private final ScheduleBulkService scheduleBulkService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final CompressedResponseCache compressedResponseCache;
     private final AdminAuthUtil adminAuthUtil;
+    private final ObjectWriter ndjsonWriter;
 
     @Autowired
-    public ScheduleController(ScheduleService scheduleService, AdminAuthUtil adminAuthUtil) {
+    public ScheduleController(ScheduleService scheduleService,
+                              ScheduleExportService scheduleExportService,
+                              ScheduleSyncService scheduleSyncService,
+                              ScheduleImportService scheduleImportService,
+                              ScheduleBulkService scheduleBulkService,
+                              ScheduleConflictService scheduleConflictService,
+                              CompressedResponseCache compressedResponseCache,
+                              AdminAuthUtil adminAuthUtil,
+                              ObjectMapper objectMapper) {
         this.scheduleService = scheduleService;
+        this.scheduleExportService = scheduleExportService;
+        this.scheduleSyncService = scheduleSyncService;
+        this.scheduleImportService = scheduleImportService;
+        this.scheduleBulkService = scheduleBulkService;
+        this.scheduleConflictService = scheduleConflictService;
+        this.compressedResponseCache = compressedResponseCache;
         this.adminAuthUtil = adminAuthUtil;
+        this.ndjsonWriter = objectMapper.writer();
     }
 
     /**
-     * 모든 일정 조회
-     * GET /api/schedules
+     * 모든 일정 조회 (커서 기반 페이지네이션)
+     * GET /api/schedules?sortBy=date&size=20&cursor=...
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회 (sortBy=views 는 반영된 조회수 기준이라 순회 중 조회수가 오른 일정은 빠질 수 있음)
+     * view=slim 이거나 fields 가 경량 필드만 고르면 필요한 컬럼만 조회한 경량 목록을 반환
      */
     @GetMapping
     public ResponseEntity<?> getAllSchedules(
             @RequestParam(required = false) Boolean featured,
-            @RequestParam(required = false) String sortBy) {
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
         try {
-            List<ScheduleResponseDto> schedules;
-
             if (featured != null && featured) {
-                schedules = scheduleService.getFeaturedSchedules();
-            } else {
-                schedules = scheduleService.getAllSchedules(sortBy);
+                List<ScheduleResponseDto> schedules = scheduleService.getFeaturedSchedules();
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("schedules", schedules);
+                response.put("count", schedules.size());
+                response.put("featuredCount", schedules.size());
+
+                return ResponseEntity.ok(response);
+            }
+
+            if (isSlimView(view, fields)) {
+                SchedulePageResponseDto<ScheduleSlimDto> page = scheduleService.getSlimSchedulePage(sortBy, cursor, size);
+                return ResponseEntity.ok(createPageResponse(page, page.getSchedules().stream()
+                        .mapToInt(s -> Boolean.TRUE.equals(s.getIsFeatured()) ? 1 : 0).sum()));
             }
 
+            SchedulePageResponseDto<ScheduleResponseDto> page = scheduleService.getSchedulePage(sortBy, cursor, size);
+            return ResponseEntity.ok(createPageResponse(page, page.getSchedules().stream()
+                    .mapToInt(s -> s.getIsFeatured() ? 1 : 0).sum()));
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("잘못된 페이지 요청입니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("일정 목록 조회에 실패했습니다.", e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> createPageResponse(SchedulePageResponseDto<?> page, int featuredCount) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("schedules", page.getSchedules());
+        response.put("count", page.getSchedules().size());
+        response.put("featuredCount", featuredCount);
+        response.put("sortBy", page.getSortBy());
+        response.put("size", page.getSize());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.hasNext());
+        return response;
+    }
+
+    /**
+     * 전체 일정 스트리밍 내보내기 (NDJSON, 한 줄에 일정 하나)
+     * GET /api/schedules/stream
+     * 전체 목록을 메모리에 모으지 않고 id 순 청크로 읽는 대로 응답에 기록 (응답 기록 중에는 DB 커넥션을 잡지 않음)
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamSchedules() {
+        StreamingResponseBody body = outputStream -> {
+            try {
+                scheduleExportService.streamAll(chunk -> {
+                    try {
+                        for (ScheduleResponseDto schedule : chunk) {
+                            outputStream.write(ndjsonWriter.writeValueAsBytes(schedule));
+                            outputStream.write('\n');
+                        }
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 클라이언트 연결 종료 등 - 기록은 트랜잭션 밖이라 정리할 커넥션 없음
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 변경분 동기화
+     * GET /api/schedules/changes?since=...&limit=100
+     * since 이후 생성/수정된 일정(updated)과 삭제된 일정 ID(deleted)를 반환하며,
+     * hasMore 이면 nextToken 으로 바로 이어서, 아니면 다음 갱신 때 nextToken 을 since 로 넘긴다.
+     * 토큰이 너무 오래되면 410 (전체 재조회 필요)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestParam(required = false) String since,
+                                        @RequestParam(required = false) Integer limit) {
+        try {
+            ScheduleChangesResponseDto changes = scheduleSyncService.getChanges(since, limit);
+
             Map<String, Object> response = new HashMap<>();
-            response.put("schedules", schedules);
-            response.put("count", schedules.size());
-            response.put("featuredCount", schedules.stream()
-                    .mapToInt(s -> s.getIsFeatured() ? 1 : 0).sum());
+            response.put("updated", changes.getUpdated());
+            response.put("deleted", changes.getDeleted());
+            response.put("count", changes.getUpdated().size() + changes.getDeleted().size());
+            response.put("nextToken", changes.getNextToken());
+            response.put("hasMore", changes.hasMore());
 
             return ResponseEntity.ok(response);
+        } catch (SyncTokenExpiredException e) {
+            return createErrorResponse("동기화 토큰 만료", e.getMessage(), HttpStatus.GONE);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("잘못된 동기화 토큰입니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
-            return createErrorResponse("일정 목록 조회에 실패했습니다.", e.getMessage());
+            return createErrorResponse("변경분 조회에 실패했습니다.", e.getMessage());
         }
     }
 
@@ -83,11 +218,13 @@ public class ScheduleController {
 
     /**
      * 새 일정 생성 (관리자 전용)
-     * POST /api/schedules
+     * POST /api/schedules?checkConflicts=true
+     * checkConflicts 이면 같은 카테고리에서 시간대가 겹치는 일정을 conflicts 로 함께 반환 (생성은 그대로 진행)
      */
     @PostMapping
     public ResponseEntity<?> createSchedule(@Valid @RequestBody ScheduleRequestDto requestDto,
-                                            BindingResult bindingResult) {
+                                            BindingResult bindingResult,
+                                            @RequestParam(defaultValue = "false") boolean checkConflicts) {
         try {
             // 유효성 검사 오류 확인
             if (bindingResult.hasErrors()) {
@@ -105,6 +242,9 @@ public class ScheduleController {
             Map<String, Object> response = new HashMap<>();
             response.put("schedule", createdSchedule);
             response.put("message", "일정이 성공적으로 생성되었습니다.");
+            if (checkConflicts) {
+                response.put("conflicts", scheduleConflictService.findConflicts(createdSchedule));
+            }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
@@ -117,12 +257,13 @@ public class ScheduleController {
 
     /**
      * 일정 수정 (관리자 전용)
-     * PUT /api/schedules/{id}
+     * PUT /api/schedules/{id}?checkConflicts=true
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> updateSchedule(@PathVariable Long id,
                                             @Valid @RequestBody ScheduleRequestDto requestDto,
-                                            BindingResult bindingResult) {
+                                            BindingResult bindingResult,
+                                            @RequestParam(defaultValue = "false") boolean checkConflicts) {
         try {
             // 유효성 검사 오류 확인
             if (bindingResult.hasErrors()) {
@@ -140,6 +281,9 @@ public class ScheduleController {
             Map<String, Object> response = new HashMap<>();
             response.put("schedule", updatedSchedule);
             response.put("message", "일정이 성공적으로 수정되었습니다.");
+            if (checkConflicts) {
+                response.put("conflicts", scheduleConflictService.findConflicts(updatedSchedule));
+            }
 
             return ResponseEntity.ok(response);
 
@@ -175,6 +319,196 @@ public class ScheduleController {
         }
     }
 
+    /**
+     * 일정 대량 등록 (관리자 전용)
+     * POST /api/schedules/import
+     * 본문은 단건 등록 요청과 같은 형식의 JSON 배열(application/json) 또는 헤더가 있는 CSV(text/csv)
+     * 검증에 실패한 행은 건너뛰고 errors에 행 번호와 사유를 담아 반환
+     * 최대 행 수 초과나 도중의 형식 오류로 멈추면 그 앞까지 등록한 결과와 abortReason을 반환
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, ScheduleImportService.TEXT_CSV_VALUE})
+    public ResponseEntity<?> importSchedules(HttpServletRequest request) {
+        if (!adminAuthUtil.isAdminAuthenticated(request)) {
+            return createForbiddenResponse();
+        }
+
+        try {
+            MediaType contentType = MediaType.parseMediaType(request.getContentType());
+            ScheduleImportResultDto result = MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    ? scheduleImportService.importJson(request.getInputStream())
+                    : scheduleImportService.importCsv(request.getInputStream());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("total", result.getTotal());
+            response.put("imported", result.getImported());
+            response.put("failed", result.getFailed());
+            response.put("errors", result.getErrors());
+            response.put("errorsTruncated", result.isErrorsTruncated());
+            response.put("abortReason", result.getAbortReason());
+            response.put("elapsedMs", result.getElapsedMs());
+            response.put("message", result.getImported() + "개의 일정이 등록되었습니다.");
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("일정 대량 등록에 실패했습니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("일정 대량 등록 중 오류가 발생했습니다.", e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 작업 대상 일정 수 조회 (관리자 전용, 실행 전 확인용)
+     * GET /api/schedules/bulk/count?start=2025-01-01&end=2025-01-31&category=...&priority=...&featured=...
+     */
+    @GetMapping("/bulk/count")
+    public ResponseEntity<?> countBulkTargets(@RequestParam(required = false) String start,
+                                              @RequestParam(required = false) String end,
+                                              @RequestParam(required = false) String category,
+                                              @RequestParam(required = false) Integer priority,
+                                              @RequestParam(required = false) Boolean featured,
+                                              HttpServletRequest request) {
+        if (!adminAuthUtil.isAdminAuthenticated(request)) {
+            return createForbiddenResponse();
+        }
+
+        try {
+            ScheduleBulkFilterDto filter = createBulkFilter(start, end, category, priority, featured);
+            Map<String, Object> response = new HashMap<>();
+            response.put("count", scheduleBulkService.countSchedules(filter));
+            response.put("maxRows", scheduleBulkService.getMaxRows());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("잘못된 일괄 작업 조건입니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("일괄 작업 대상 조회 중 오류가 발생했습니다.", e.getMessage());
+        }
+    }
+
+    /**
+     * 조건에 맞는 일정 일괄 수정 (관리자 전용)
+     * PATCH /api/schedules/bulk?start=...&end=...&category=...&priority=...&featured=...
+     * 본문: {"category": "...", "color": "#RRGGBB", "priority": 1~3, "isFeatured": true/false} 중 바꿀 항목만
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<?> bulkUpdateSchedules(@RequestParam(required = false) String start,
+                                                 @RequestParam(required = false) String end,
+                                                 @RequestParam(required = false) String category,
+                                                 @RequestParam(required = false) Integer priority,
+                                                 @RequestParam(required = false) Boolean featured,
+                                                 @Valid @RequestBody ScheduleBulkUpdateRequestDto requestDto,
+                                                 BindingResult bindingResult,
+                                                 HttpServletRequest request) {
+        if (!adminAuthUtil.isAdminAuthenticated(request)) {
+            return createForbiddenResponse();
+        }
+
+        try {
+            if (bindingResult.hasErrors()) {
+                return createValidationErrorResponse(bindingResult);
+            }
+
+            ScheduleBulkFilterDto filter = createBulkFilter(start, end, category, priority, featured);
+            List<Long> updatedIds = scheduleBulkService.updateSchedules(filter, requestDto);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("updatedIds", updatedIds);
+            response.put("count", updatedIds.size());
+            response.put("message", updatedIds.size() + "개의 일정이 수정되었습니다.");
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("일정 일괄 수정에 실패했습니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("일정 일괄 수정 중 오류가 발생했습니다.", e.getMessage());
+        }
+    }
+
+    /**
+     * 조건에 맞는 일정 일괄 삭제 (관리자 전용)
+     * DELETE /api/schedules/bulk?start=...&end=...&category=...&priority=...&featured=...
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<?> bulkDeleteSchedules(@RequestParam(required = false) String start,
+                                                 @RequestParam(required = false) String end,
+                                                 @RequestParam(required = false) String category,
+                                                 @RequestParam(required = false) Integer priority,
+                                                 @RequestParam(required = false) Boolean featured,
+                                                 HttpServletRequest request) {
+        if (!adminAuthUtil.isAdminAuthenticated(request)) {
+            return createForbiddenResponse();
+        }
+
+        try {
+            ScheduleBulkFilterDto filter = createBulkFilter(start, end, category, priority, featured);
+            List<Long> deletedIds = scheduleBulkService.deleteSchedules(filter);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("deletedIds", deletedIds);
+            response.put("count", deletedIds.size());
+            response.put("message", deletedIds.size() + "개의 일정이 삭제되었습니다.");
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("일정 일괄 삭제에 실패했습니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("일정 일괄 삭제 중 오류가 발생했습니다.", e.getMessage());
+        }
+    }
+
+    /**
+     * 기간 내 일정 충돌 조회
+     * GET /api/schedules/conflicts?start=2025-01-01&end=2025-12-31&category=...
+     * 같은 카테고리에서 시간대가 겹치는 일정 쌍을 반환 (종일 일정 제외, 최대 366일)
+     */
+    @GetMapping("/conflicts")
+    public ResponseEntity<?> getConflicts(@RequestParam String start,
+                                          @RequestParam String end,
+                                          @RequestParam(required = false) String category) {
+        try {
+            List<ScheduleConflictDto> conflicts = scheduleConflictService.findConflictsInRange(
+                    LocalDate.parse(start), LocalDate.parse(end),
+                    category != null && !category.isBlank() ? category : null);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("conflicts", conflicts);
+            response.put("count", conflicts.size());
+            response.put("truncated", conflicts.size() >= scheduleConflictService.getMaxResults());
+            return ResponseEntity.ok(response);
+
+        } catch (java.time.format.DateTimeParseException e) {
+            return createErrorResponse("날짜 형식이 올바르지 않습니다.", "YYYY-MM-DD 형식으로 입력해주세요.", HttpStatus.BAD_REQUEST);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("충돌 조회에 실패했습니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("충돌 조회 중 오류가 발생했습니다.", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 전 일정 충돌 확인
+     * POST /api/schedules/conflicts/check?excludeId=...
+     * 본문은 일정 생성/수정 요청과 같은 형식, 수정 시 excludeId 로 자기 자신을 제외
+     */
+    @PostMapping("/conflicts/check")
+    public ResponseEntity<?> checkConflicts(@RequestBody ScheduleRequestDto requestDto,
+                                            @RequestParam(required = false) Long excludeId) {
+        try {
+            List<ScheduleConflictDto> conflicts = scheduleConflictService.findConflicts(requestDto, excludeId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("conflicts", conflicts);
+            response.put("count", conflicts.size());
+            response.put("hasConflicts", !conflicts.isEmpty());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("충돌 확인에 실패했습니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("충돌 확인 중 오류가 발생했습니다.", e.getMessage());
+        }
+    }
+
     /**
      * 특정 날짜의 일정 조회
      * GET /api/schedules/date/{date}
@@ -202,11 +536,13 @@ public class ScheduleController {
 
     /**
      * 특정 날짜 범위의 일정 조회
-     * GET /api/schedules/range?start=2024-01-01&end=2024-01-31
+     * GET /api/schedules/range?start=2024-01-01&end=2024-01-31&view=slim (최대 366일)
      */
     @GetMapping("/range")
     public ResponseEntity<?> getSchedulesByDateRange(@RequestParam String start,
-                                                     @RequestParam String end) {
+                                                     @RequestParam String end,
+                                                     @RequestParam(required = false) String view,
+                                                     @RequestParam(required = false) String fields) {
         try {
             LocalDate startDate = LocalDate.parse(start);
             LocalDate endDate = LocalDate.parse(end);
@@ -215,18 +551,21 @@ public class ScheduleController {
                 return createErrorResponse("날짜 범위 오류", "시작 날짜가 종료 날짜보다 늦습니다.", HttpStatus.BAD_REQUEST);
             }
 
+            boolean slim = isSlimView(view, fields);
             List<ScheduleResponseDto> schedules = scheduleService.getSchedulesByDateRange(startDate, endDate);
 
             Map<String, Object> response = new HashMap<>();
             response.put("startDate", start);
             response.put("endDate", end);
-            response.put("schedules", schedules);
+            response.put("schedules", toView(schedules, slim));
             response.put("count", schedules.size());
             response.put("featuredCount", schedules.stream()
                     .mapToInt(s -> s.getIsFeatured() ? 1 : 0).sum());
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("잘못된 조회 요청입니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return createErrorResponse("날짜 범위 일정 조회에 실패했습니다.",
                     "올바른 날짜 형식(YYYY-MM-DD)으로 입력해주세요.");
@@ -236,28 +575,47 @@ public class ScheduleController {
     /**
      * 특정 월의 일정 조회
      * GET /api/schedules/month/{year}/{month}
+     * 월 버전 기반 ETag를 내려주며, If-None-Match가 일치하면 본문 없이 304를 응답
+     * 응답 형식(JSON/Smile/CBOR)마다 ETag 를 구분하고 Vary: Accept 를 붙인다
+     * 달력 그리드는 view=slim 으로 칸 표시에 필요한 필드만 받을 수 있음
      */
 
     @GetMapping("/month/{year}/{month}")
     public ResponseEntity<?> getSchedulesByMonth(@PathVariable int year,
-                                                 @PathVariable int month) {
+                                                 @PathVariable int month,
+                                                 @RequestParam(required = false) String view,
+                                                 @RequestParam(required = false) String fields,
+                                                 WebRequest webRequest) {
         try {
             if (month < 1 || month > 12) {
                 return createErrorResponse("월 범위 오류", "월은 1-12 사이의 값이어야 합니다.", HttpStatus.BAD_REQUEST);
             }
 
+            boolean slim = isSlimView(view, fields);
+            String etag = WireFormats.etag(scheduleService.getMonthETag(year, month),
+                    webRequest.getHeader(HttpHeaders.ACCEPT));
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
             List<ScheduleResponseDto> schedules = scheduleService.getSchedulesByMonth(year, month);
 
             Map<String, Object> response = new HashMap<>();
             response.put("year", year);
             response.put("month", month);
-            response.put("schedules", schedules);
+            response.put("schedules", toView(schedules, slim));
             response.put("count", schedules.size());
             response.put("featuredCount", schedules.stream()
                     .mapToInt(s -> s.getIsFeatured() ? 1 : 0).sum());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(CacheControl.noCache())
+                    .body(response);
 
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("잘못된 조회 요청입니다.", e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return createErrorResponse("월별 일정 조회에 실패했습니다.", e.getMessage());
         }
@@ -287,6 +645,31 @@ public class ScheduleController {
         }
     }
 
+    /**
+     * 검색어 자동완성
+     * GET /api/schedules/suggest?q=ㅋㄹㅅㅁㅅ&limit=10
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam(required = false) String q,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        try {
+            if (limit < 1 || limit > 50) {
+                return createErrorResponse("잘못된 요청", "limit은 1-50 사이의 값이어야 합니다.", HttpStatus.BAD_REQUEST);
+            }
+
+            List<SuggestionDto> suggestions = scheduleService.getSuggestions(q, limit);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("query", q != null ? q : "");
+            response.put("suggestions", suggestions);
+            response.put("count", suggestions.size());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return createErrorResponse("자동완성 조회에 실패했습니다.", e.getMessage());
+        }
+    }
+
     /**
      * 오늘의 일정 조회
      * GET /api/schedules/today
@@ -447,6 +830,22 @@ public class ScheduleController {
         }
     }
 
+    /**
+     * 연간 날짜별 일정 밀도(히트맵) 조회
+     * GET /api/schedules/density?year=2025
+     * counts/featured 는 1월 1일부터 하루씩의 일정 수/추천 일정 수 배열
+     */
+    @GetMapping("/density")
+    public ResponseEntity<?> getScheduleDensity(@RequestParam int year) {
+        try {
+            return ResponseEntity.ok(scheduleService.getScheduleDensity(year));
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("연도 범위 오류", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return createErrorResponse("일정 밀도 조회에 실패했습니다.", e.getMessage());
+        }
+    }
+
     /**
      * 일정 통계 조회
      * GET /api/schedules/stats
@@ -461,6 +860,26 @@ public class ScheduleController {
         }
     }
 
+    /**
+     * 월 뷰/응답 캐시 통계 조회 (관리자 전용)
+     * GET /api/schedules/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats(HttpServletRequest request) {
+        if (!adminAuthUtil.isAdminAuthenticated(request)) {
+            return createForbiddenResponse();
+        }
+
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("monthView", scheduleService.getMonthViewCacheStatistics());
+            response.put("response", compressedResponseCache.getStatistics());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return createErrorResponse("캐시 통계 조회에 실패했습니다.", e.getMessage());
+        }
+    }
+
     /**
      * API 상태 확인 (헬스체크)
      * GET /api/schedules/health
@@ -485,6 +904,24 @@ public class ScheduleController {
 
     // === 유틸리티 메서드들 ===
 
+    /**
+     * 경량 목록 응답 여부 (view=slim 이거나, fields 가 경량 DTO 필드만 고른 경우)
+     * @throws IllegalArgumentException view 값이 full/slim 이 아닌 경우
+     */
+    private static boolean isSlimView(String view, String fields) {
+        if (view == null || view.isBlank() || "full".equals(view)) {
+            return ScheduleFieldSet.isSlim(ScheduleFieldSet.parse(fields));
+        }
+        if ("slim".equals(view)) {
+            return true;
+        }
+        throw new IllegalArgumentException("view 는 full 또는 slim 이어야 합니다.");
+    }
+
+    private static List<?> toView(List<ScheduleResponseDto> schedules, boolean slim) {
+        return slim ? schedules.stream().map(ScheduleSlimDto::from).toList() : schedules;
+    }
+
     /**
      * 에러 응답 생성
      */
@@ -506,6 +943,31 @@ public class ScheduleController {
         return ResponseEntity.status(status).body(errorResponse);
     }
 
+    /**
+     * 일괄 작업 조건 생성 (날짜 형식 오류는 IllegalArgumentException)
+     */
+    private ScheduleBulkFilterDto createBulkFilter(String start, String end, String category,
+                                                  Integer priority, Boolean featured) {
+        try {
+            return new ScheduleBulkFilterDto(
+                    start != null && !start.isBlank() ? LocalDate.parse(start) : null,
+                    end != null && !end.isBlank() ? LocalDate.parse(end) : null,
+                    category, priority, featured);
+        } catch (java.time.format.DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (YYYY-MM-DD)");
+        }
+    }
+
+    /**
+     * 관리자 권한 없음 응답
+     */
+    private ResponseEntity<?> createForbiddenResponse() {
+        return ResponseEntity.status(403).body(Map.of(
+                "success", false,
+                "message", "접근 권한이 없습니다."
+        ));
+    }
+
     /**
      * 유효성 검사 오류 응답 생성
      */
@@ -0,0 +1,61 @@
+package duckhu.calendar.controller;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import duckhu.calendar.dto.ScheduleFieldSet;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.dto.ScheduleSlimDto;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 일정 응답 필드 선택(?fields=) 적용
+ * 응답 본문 구조는 그대로 두고 그 안의 일정 DTO를 직렬화할 때 선택한 속성만 쓰도록 Jackson 필터를 지정한다.
+ * 알 수 없는 필드 이름은 IllegalArgumentException → 400
+ */
+@RestControllerAdvice(assignableTypes = ScheduleController.class)
+public class ScheduleFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private final Set<String> knownFields = new HashSet<>();
+
+    public ScheduleFieldsAdvice(ObjectMapper objectMapper) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        for (Class<?> type : new Class<?>[]{ScheduleResponseDto.class, ScheduleSlimDto.class}) {
+            BeanDescription description = config.introspect(config.constructType(type));
+            description.findProperties().forEach(property -> knownFields.add(property.getName()));
+        }
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Set<String> fields = ScheduleFieldSet.parse(servletRequest.getServletRequest().getParameter(ScheduleFieldSet.PARAM));
+        if (fields == null) {
+            return;
+        }
+        if (!knownFields.containsAll(fields)) {
+            Set<String> unknown = new TreeSet<>(fields);
+            unknown.removeAll(knownFields);
+            throw new IllegalArgumentException("알 수 없는 필드입니다: " + String.join(", ", unknown));
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(ScheduleFieldSet.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+    }
+}
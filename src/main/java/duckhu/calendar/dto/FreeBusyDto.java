@@ -0,0 +1,78 @@
+package duckhu.calendar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기간별 일정 가용(free/busy) 정보 DTO
+ */
+public class FreeBusyDto {
+
+    private final LocalDate startDate;
+
+    private final LocalDate endDate;
+
+    /**
+     * 겹치거나 맞닿은 일정을 합친 바쁜 구간 (시작 순)
+     */
+    private final List<Interval> busy;
+
+    /**
+     * 날짜별 바쁜 시간(분), startDate 부터 하루씩 (종일 일정이 있는 날은 1440)
+     */
+    private final int[] busyMinutes;
+
+    /**
+     * 기간 내 공휴일
+     */
+    private final List<HolidayMark> holidays;
+
+    /**
+     * 일정도 공휴일도 없는 날
+     */
+    private final List<LocalDate> freeDays;
+
+    public FreeBusyDto(LocalDate startDate, LocalDate endDate, List<Interval> busy, int[] busyMinutes,
+                       List<HolidayMark> holidays, List<LocalDate> freeDays) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.busy = busy;
+        this.busyMinutes = busyMinutes;
+        this.holidays = holidays;
+        this.freeDays = freeDays;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public List<Interval> getBusy() {
+        return busy;
+    }
+
+    public int[] getBusyMinutes() {
+        return busyMinutes;
+    }
+
+    public List<HolidayMark> getHolidays() {
+        return holidays;
+    }
+
+    public List<LocalDate> getFreeDays() {
+        return freeDays;
+    }
+
+    /**
+     * 바쁜 구간 [start, end)
+     */
+    public record Interval(LocalDateTime start, LocalDateTime end) {
+    }
+
+    public record HolidayMark(LocalDate date, String name) {
+    }
+}
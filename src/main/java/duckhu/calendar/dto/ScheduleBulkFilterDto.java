@@ -0,0 +1,79 @@
+package duckhu.calendar.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 일괄 수정/삭제 대상 조건 DTO
+ * 지정한 조건을 모두 만족하는 일정이 대상이며, 기간은 일정(반복 일정은 시리즈 전체)이 [startDate, endDate] 안에 완전히 들어가야 한다.
+ */
+public class ScheduleBulkFilterDto {
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private String category;
+
+    private Integer priority;
+
+    private Boolean isFeatured;
+
+    public ScheduleBulkFilterDto() {}
+
+    public ScheduleBulkFilterDto(LocalDate startDate, LocalDate endDate, String category,
+                                 Integer priority, Boolean isFeatured) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.category = category;
+        this.priority = priority;
+        this.isFeatured = isFeatured;
+    }
+
+    /**
+     * 조건이 하나도 없는지 (전체 일정이 대상이 되는 실수를 막기 위해 거부)
+     */
+    public boolean isEmpty() {
+        return startDate == null && endDate == null && (category == null || category.isBlank())
+                && priority == null && isFeatured == null;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public Boolean getIsFeatured() {
+        return isFeatured;
+    }
+
+    public void setIsFeatured(Boolean isFeatured) {
+        this.isFeatured = isFeatured;
+    }
+}
@@ -0,0 +1,66 @@
+package duckhu.calendar.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 일정 일괄 수정 요청 DTO
+ * 값을 지정한 항목만 바꾸며, 카테고리를 빈 문자열로 보내면 카테고리를 비운다.
+ */
+public class ScheduleBulkUpdateRequestDto {
+
+    @Size(max = 50, message = "카테고리는 50자를 초과할 수 없습니다")
+    private String category;
+
+    @Pattern(regexp = "^#[0-9A-Fa-f]{6}$", message = "올바른 색상 코드 형식이 아닙니다")
+    private String color;
+
+    @Min(value = 1, message = "우선순위는 1 이상이어야 합니다")
+    @Max(value = 3, message = "우선순위는 3 이하여야 합니다")
+    private Integer priority;
+
+    private Boolean isFeatured;
+
+    public ScheduleBulkUpdateRequestDto() {}
+
+    /**
+     * 바꿀 항목이 하나라도 있는지
+     */
+    public boolean hasChanges() {
+        return category != null || color != null || priority != null || isFeatured != null;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public Boolean getIsFeatured() {
+        return isFeatured;
+    }
+
+    public void setIsFeatured(Boolean isFeatured) {
+        this.isFeatured = isFeatured;
+    }
+}
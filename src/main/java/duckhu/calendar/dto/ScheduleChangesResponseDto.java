@@ -0,0 +1,50 @@
+package duckhu.calendar.dto;
+
+import java.util.List;
+
+/**
+ * 일정 변경분 동기화 응답 DTO
+ */
+public class ScheduleChangesResponseDto {
+
+    /**
+     * 토큰 이후 생성/수정된 일정 (수정 시각 순)
+     */
+    private final List<ScheduleResponseDto> updated;
+
+    /**
+     * 토큰 이후 삭제된 일정 ID
+     */
+    private final List<Long> deleted;
+
+    /**
+     * 다음 요청에 넘길 토큰 (hasMore 면 바로 이어서 요청)
+     */
+    private final String nextToken;
+
+    private final boolean hasMore;
+
+    public ScheduleChangesResponseDto(List<ScheduleResponseDto> updated, List<Long> deleted,
+                                      String nextToken, boolean hasMore) {
+        this.updated = updated;
+        this.deleted = deleted;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    public List<ScheduleResponseDto> getUpdated() {
+        return updated;
+    }
+
+    public List<Long> getDeleted() {
+        return deleted;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+}
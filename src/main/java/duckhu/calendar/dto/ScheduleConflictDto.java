@@ -0,0 +1,48 @@
+package duckhu.calendar.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 충돌 DTO
+ * 같은 카테고리에서 시간대가 겹치는 두 일정(반복 일정은 해당 발생)과 겹치는 구간
+ */
+public class ScheduleConflictDto {
+
+    private final ScheduleResponseDto schedule;
+
+    private final ScheduleResponseDto conflictWith;
+
+    /**
+     * 겹치는 구간 시작 (포함)
+     */
+    private final LocalDateTime overlapStart;
+
+    /**
+     * 겹치는 구간 종료 (미포함)
+     */
+    private final LocalDateTime overlapEnd;
+
+    public ScheduleConflictDto(ScheduleResponseDto schedule, ScheduleResponseDto conflictWith,
+                               LocalDateTime overlapStart, LocalDateTime overlapEnd) {
+        this.schedule = schedule;
+        this.conflictWith = conflictWith;
+        this.overlapStart = overlapStart;
+        this.overlapEnd = overlapEnd;
+    }
+
+    public ScheduleResponseDto getSchedule() {
+        return schedule;
+    }
+
+    public ScheduleResponseDto getConflictWith() {
+        return conflictWith;
+    }
+
+    public LocalDateTime getOverlapStart() {
+        return overlapStart;
+    }
+
+    public LocalDateTime getOverlapEnd() {
+        return overlapEnd;
+    }
+}
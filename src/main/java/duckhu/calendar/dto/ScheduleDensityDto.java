@@ -0,0 +1,47 @@
+package duckhu.calendar.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 연간 날짜별 일정 밀도(히트맵) DTO
+ * 배열은 1월 1일부터 하루씩이며 길이는 해당 연도의 일수(365/366)
+ */
+public class ScheduleDensityDto {
+
+    private final int year;
+
+    private final LocalDate startDate;
+
+    /**
+     * 날짜별 일정 수 (여러 날에 걸친 일정은 걸친 날마다, 반복 일정은 발생마다 센다)
+     */
+    private final int[] counts;
+
+    /**
+     * 날짜별 추천 일정 수
+     */
+    private final int[] featured;
+
+    public ScheduleDensityDto(int year, int[] counts, int[] featured) {
+        this.year = year;
+        this.startDate = LocalDate.of(year, 1, 1);
+        this.counts = counts;
+        this.featured = featured;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public int[] getFeatured() {
+        return featured;
+    }
+}
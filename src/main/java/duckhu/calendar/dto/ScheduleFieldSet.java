@@ -0,0 +1,52 @@
+package duckhu.calendar.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 일정 응답 필드 선택(?fields=title,startDate,...) 해석
+ * 쉼표로 구분한 JSON 속성 이름 목록이며, 응답 항목을 구분할 수 있도록 id는 항상 포함한다.
+ */
+public final class ScheduleFieldSet {
+
+    public static final String PARAM = "fields";
+
+    /**
+     * 일정 DTO에 붙는 Jackson 필터 ID
+     */
+    public static final String FILTER_ID = "scheduleFields";
+
+    /**
+     * 경량 DTO(ScheduleSlimDto)가 담는 필드
+     */
+    public static final Set<String> SLIM_FIELDS = Set.of(
+            "id", "title", "startDate", "endDate", "startTime", "endTime", "color", "category", "isFeatured");
+
+    private ScheduleFieldSet() {
+    }
+
+    /**
+     * 필드 목록 파싱 (지정하지 않았으면 null - 전체 필드)
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> result = new LinkedHashSet<>();
+        result.add("id");
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                result.add(field.trim());
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * 선택한 필드가 모두 경량 DTO에 있는지 (그렇다면 경량 조회로 충분)
+     */
+    public static boolean isSlim(Set<String> fields) {
+        return fields != null && SLIM_FIELDS.containsAll(fields);
+    }
+}
@@ -0,0 +1,84 @@
+package duckhu.calendar.dto;
+
+import java.util.List;
+
+/**
+ * 일정 대량 등록 결과 DTO
+ */
+public class ScheduleImportResultDto {
+
+    /**
+     * 읽은 행 수
+     */
+    private final int total;
+
+    /**
+     * 저장된 일정 수
+     */
+    private final int imported;
+
+    /**
+     * 검증 또는 저장에 실패한 행 수
+     */
+    private final int failed;
+
+    /**
+     * 행별 오류 (최대 개수를 넘으면 잘림 - errorsTruncated)
+     */
+    private final List<RowError> errors;
+
+    private final boolean errorsTruncated;
+
+    /**
+     * 도중에 멈춘 사유 (최대 행 수 초과, 입력 형식 오류 - 끝까지 읽었으면 null)
+     * 멈추기 전까지 읽은 행은 정상적으로 등록된다.
+     */
+    private final String abortReason;
+
+    private final long elapsedMs;
+
+    public ScheduleImportResultDto(int total, int imported, int failed, List<RowError> errors,
+                                   boolean errorsTruncated, String abortReason, long elapsedMs) {
+        this.total = total;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+        this.abortReason = abortReason;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public String getAbortReason() {
+        return abortReason;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * 행 오류 (row: JSON 배열은 1부터 시작하는 요소 번호, CSV는 헤더를 제외한 데이터 행 번호)
+     */
+    public record RowError(int row, String message) {
+    }
+}
@@ -0,0 +1,46 @@
+package duckhu.calendar.dto;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 일정 페이지 응답 DTO
+ * @param <T> 일정 항목 타입 (ScheduleResponseDto 또는 ScheduleSlimDto)
+ */
+public class SchedulePageResponseDto<T> {
+
+    private final List<T> schedules;
+    private final String sortBy;
+    private final int size;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private final String nextCursor;
+
+    public SchedulePageResponseDto(List<T> schedules, String sortBy, int size, String nextCursor) {
+        this.schedules = schedules;
+        this.sortBy = sortBy;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public List<T> getSchedules() {
+        return schedules;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -66,6 +66,18 @@ public class ScheduleRequestDto {
      */
     private Boolean isFeatured = false;
 
+    /**
+     * 반복 규칙 (RFC 5545 RRULE - FREQ, INTERVAL, BYDAY, COUNT, UNTIL 지원, 없으면 반복 안 함)
+     */
+    @Size(max = 255, message = "반복 규칙은 255자를 초과할 수 없습니다")
+    private String recurrenceRule;
+
+    /**
+     * 반복에서 제외할 발생 시작일 (EXDATE)
+     */
+    @Size(max = 366, message = "반복 제외 날짜는 최대 366개까지 지정할 수 있습니다")
+    private List<LocalDate> recurrenceExdates;
+
     // 기본 생성자
     public ScheduleRequestDto() {}
 
@@ -305,6 +317,22 @@ public class ScheduleRequestDto {
         this.isFeatured = isFeatured;
     }
 
+    public String getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    public void setRecurrenceRule(String recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    public List<LocalDate> getRecurrenceExdates() {
+        return recurrenceExdates;
+    }
+
+    public void setRecurrenceExdates(List<LocalDate> recurrenceExdates) {
+        this.recurrenceExdates = recurrenceExdates;
+    }
+
     @Override
     public String toString() {
         return "ScheduleRequestDto{" +
@@ -313,6 +341,7 @@ public class ScheduleRequestDto {
                 ", endDate=" + endDate +
                 ", priority=" + priority +
                 ", isFeatured=" + isFeatured +
+                ", recurrenceRule='" + recurrenceRule + '\'' +
                 ", imagesCount=" + (images != null ? images.size() : 0) +
                 ", linksCount=" + (links != null ? links.size() : 0) +
                 '}';
@@ -1,5 +1,6 @@
 package duckhu.calendar.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import duckhu.calendar.entity.Schedule;
 
 import java.time.LocalDate;
@@ -10,7 +11,9 @@ import java.util.List;
 /**
  * 향상된 일정 응답 DTO
  * 이미지, 링크, 추천 기능 등을 포함한 일정 데이터를 클라이언트에게 전송
+ * 응답 필드 선택(?fields=)은 ScheduleFieldSet.FILTER_ID 필터로 적용
  */
+@JsonFilter(ScheduleFieldSet.FILTER_ID)
 public class ScheduleResponseDto {
 
     private Long id;
@@ -31,6 +34,12 @@ public class ScheduleResponseDto {
     private Boolean isFeatured;
     private Integer viewCount;
 
+    // === 반복 일정 ===
+    private String recurrenceRule;
+    private List<LocalDate> recurrenceExdates;
+    private LocalDate seriesEndDate;
+    private LocalDate seriesStartDate; // 전개된 발생에만 설정 (시리즈 첫 발생 시작일)
+
     // === 기존 필드들 ===
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -58,6 +67,10 @@ public class ScheduleResponseDto {
         this.isFeatured = schedule.getIsFeatured();
         this.viewCount = schedule.getViewCount();
 
+        this.recurrenceRule = schedule.getRecurrenceRule();
+        this.recurrenceExdates = schedule.getRecurrenceExdates();
+        this.seriesEndDate = schedule.getSeriesEndDate();
+
         this.createdAt = schedule.getCreatedAt();
         this.updatedAt = schedule.getUpdatedAt();
     }
@@ -67,6 +80,85 @@ public class ScheduleResponseDto {
         return new ScheduleResponseDto(schedule);
     }
 
+    /**
+     * 영속성 컨텍스트와 분리된 DTO 생성
+     * 컬렉션을 복사하므로 트랜잭션 안에서 호출해야 하며, 인메모리 인덱스처럼 요청 범위 밖에서 보관할 때 사용
+     */
+    public static ScheduleResponseDto detached(Schedule schedule) {
+        ScheduleResponseDto dto = new ScheduleResponseDto(schedule);
+        dto.images = copyOf(schedule.getImages());
+        dto.links = copyOf(schedule.getLinks());
+        dto.linkTitles = copyOf(schedule.getLinkTitles());
+        dto.recurrenceExdates = schedule.getRecurrenceExdates() != null
+                ? List.copyOf(schedule.getRecurrenceExdates()) : null;
+        return dto;
+    }
+
+    /**
+     * 별도로 조회한 컬렉션으로 DTO 생성 (엔티티의 지연 로딩 컬렉션에 접근하지 않음)
+     */
+    public static ScheduleResponseDto of(Schedule schedule, List<String> images,
+                                         List<String> links, List<String> linkTitles) {
+        ScheduleResponseDto dto = new ScheduleResponseDto(schedule);
+        dto.images = images;
+        dto.links = links;
+        dto.linkTitles = linkTitles;
+        return dto;
+    }
+
+    /**
+     * 조회수만 바꾼 얕은 복사본 (인메모리 인덱스의 공유 DTO를 변경하지 않기 위해 사용)
+     */
+    public ScheduleResponseDto withViewCount(Integer viewCount) {
+        ScheduleResponseDto dto = copy();
+        dto.viewCount = viewCount;
+        return dto;
+    }
+
+    /**
+     * 반복 일정의 한 발생 (시작일을 옮기고 기간은 유지한 얕은 복사본)
+     */
+    public ScheduleResponseDto asOccurrence(LocalDate occurrenceStart) {
+        ScheduleResponseDto dto = copy();
+        dto.startDate = occurrenceStart;
+        dto.endDate = occurrenceStart.plusDays(java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate));
+        dto.seriesStartDate = startDate;
+        return dto;
+    }
+
+    /**
+     * 얕은 복사본 (컬렉션은 공유)
+     */
+    public ScheduleResponseDto copy() {
+        ScheduleResponseDto dto = new ScheduleResponseDto();
+        dto.id = id;
+        dto.title = title;
+        dto.startDate = startDate;
+        dto.endDate = endDate;
+        dto.startTime = startTime;
+        dto.endTime = endTime;
+        dto.description = description;
+        dto.priority = priority;
+        dto.color = color;
+        dto.category = category;
+        dto.images = images;
+        dto.links = links;
+        dto.linkTitles = linkTitles;
+        dto.isFeatured = isFeatured;
+        dto.viewCount = viewCount;
+        dto.recurrenceRule = recurrenceRule;
+        dto.recurrenceExdates = recurrenceExdates;
+        dto.seriesEndDate = seriesEndDate;
+        dto.seriesStartDate = seriesStartDate;
+        dto.createdAt = createdAt;
+        dto.updatedAt = updatedAt;
+        return dto;
+    }
+
+    private static List<String> copyOf(List<String> source) {
+        return source != null ? new java.util.ArrayList<>(source) : null;
+    }
+
     // === 비즈니스 로직 메서드들 ===
 
     /**
@@ -83,6 +175,13 @@ public class ScheduleResponseDto {
         return startDate.equals(endDate);
     }
 
+    /**
+     * 반복 일정 여부 확인
+     */
+    public boolean isRecurring() {
+        return recurrenceRule != null;
+    }
+
     /**
      * 이미지가 있는지 확인
      */
@@ -297,6 +396,38 @@ public class ScheduleResponseDto {
         this.viewCount = viewCount;
     }
 
+    public String getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    public void setRecurrenceRule(String recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    public List<LocalDate> getRecurrenceExdates() {
+        return recurrenceExdates;
+    }
+
+    public void setRecurrenceExdates(List<LocalDate> recurrenceExdates) {
+        this.recurrenceExdates = recurrenceExdates;
+    }
+
+    public LocalDate getSeriesEndDate() {
+        return seriesEndDate;
+    }
+
+    public void setSeriesEndDate(LocalDate seriesEndDate) {
+        this.seriesEndDate = seriesEndDate;
+    }
+
+    public LocalDate getSeriesStartDate() {
+        return seriesStartDate;
+    }
+
+    public void setSeriesStartDate(LocalDate seriesStartDate) {
+        this.seriesStartDate = seriesStartDate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,93 @@
+package duckhu.calendar.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import duckhu.calendar.repository.ScheduleSlimView;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 목록/달력 그리드용 경량 일정 DTO
+ * 설명(TEXT), 이미지/링크 컬렉션, 생성/수정 시각 없이 칸을 그리는 데 필요한 값만 담는다.
+ * DB에서 바로 읽을 때는 ScheduleSlimView 프로젝션으로 필요한 컬럼만 조회한다.
+ */
+@JsonFilter(ScheduleFieldSet.FILTER_ID)
+public class ScheduleSlimDto {
+
+    private final Long id;
+    private final String title;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final String color;
+    private final String category;
+    private final Boolean isFeatured;
+
+    public ScheduleSlimDto(Long id, String title, LocalDate startDate, LocalDate endDate,
+                           LocalTime startTime, LocalTime endTime, String color, String category,
+                           Boolean isFeatured) {
+        this.id = id;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.color = color;
+        this.category = category;
+        this.isFeatured = isFeatured;
+    }
+
+    /**
+     * 전체 응답 DTO에서 변환 (인메모리 인덱스/캐시 결과용)
+     */
+    public static ScheduleSlimDto from(ScheduleResponseDto schedule) {
+        return new ScheduleSlimDto(schedule.getId(), schedule.getTitle(), schedule.getStartDate(),
+                schedule.getEndDate(), schedule.getStartTime(), schedule.getEndTime(), schedule.getColor(),
+                schedule.getCategory(), schedule.getIsFeatured());
+    }
+
+    /**
+     * 프로젝션 조회 결과에서 변환
+     */
+    public static ScheduleSlimDto from(ScheduleSlimView view) {
+        return new ScheduleSlimDto(view.getId(), view.getTitle(), view.getStartDate(), view.getEndDate(),
+                view.getStartTime(), view.getEndTime(), view.getColor(), view.getCategory(), view.getIsFeatured());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Boolean getIsFeatured() {
+        return isFeatured;
+    }
+}
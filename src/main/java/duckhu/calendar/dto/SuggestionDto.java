@@ -0,0 +1,36 @@
+package duckhu.calendar.dto;
+
+/**
+ * 검색어 자동완성 항목 DTO
+ */
+public class SuggestionDto {
+
+    /**
+     * 항목 종류 (SCHEDULE, CATEGORY, HOLIDAY)
+     */
+    private final String type;
+    private final String text;
+
+    /**
+     * 일정 항목인 경우 일정 ID (그 외 null)
+     */
+    private final Long scheduleId;
+
+    public SuggestionDto(String type, String text, Long scheduleId) {
+        this.type = type;
+        this.text = text;
+        this.scheduleId = scheduleId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+}
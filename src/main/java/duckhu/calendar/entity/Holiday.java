@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "holidays", indexes = {
         @Index(name = "idx_holiday_date", columnList = "holidayDate"),
         @Index(name = "idx_holiday_country", columnList = "countryCode"),
-        @Index(name = "idx_holiday_type", columnList = "holidayType")
+        @Index(name = "idx_holiday_type", columnList = "holidayType"),
+        @Index(name = "idx_holiday_updated_at", columnList = "updatedAt")
 })
 public class Holiday {
 
@@ -0,0 +1,82 @@
+package duckhu.calendar.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 공휴일 기록 (툼스톤)
+ * 공휴일은 물리 삭제하므로, 동기화 토큰으로 iCalendar 피드를 받는 클라이언트에 삭제를 알리기 위해
+ * 삭제 시각과 ID, 국가 코드만 남긴다. 보관 기간이 지나면 정리된다.
+ */
+@Entity
+@Table(name = "holiday_tombstones", indexes = {
+        @Index(name = "idx_holiday_tombstone_country_deleted_at", columnList = "countryCode, deletedAt")
+})
+public class HolidayTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "holiday_id", nullable = false)
+    private Long holidayId;
+
+    @Column(name = "country_code", nullable = false, length = 2)
+    private String countryCode;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    // 기본 생성자
+    public HolidayTombstone() {}
+
+    public HolidayTombstone(Long holidayId, String countryCode) {
+        this.holidayId = holidayId;
+        this.countryCode = countryCode;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getHolidayId() {
+        return holidayId;
+    }
+
+    public void setHolidayId(Long holidayId) {
+        this.holidayId = holidayId;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "HolidayTombstone{" +
+                "id=" + id +
+                ", holidayId=" + holidayId +
+                ", countryCode='" + countryCode + '\'' +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
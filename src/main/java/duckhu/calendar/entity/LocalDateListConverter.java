@@ -0,0 +1,38 @@
+package duckhu.calendar.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 날짜 목록 ↔ 쉼표로 구분한 ISO 날짜 문자열 변환 (예: 2025-01-01,2025-01-08)
+ */
+@Converter
+public class LocalDateListConverter implements AttributeConverter<List<LocalDate>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return null;
+        }
+        return dates.stream().map(LocalDate::toString).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public List<LocalDate> convertToEntityAttribute(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        List<LocalDate> dates = new ArrayList<>();
+        for (String token : value.split(",")) {
+            if (!token.isBlank()) {
+                dates.add(LocalDate.parse(token.trim()));
+            }
+        }
+        return dates;
+    }
+}
@@ -133,4 +133,13 @@ public class Notice {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    /**
+     * 공개 화면에 표시되는 공지인지 (NoticeRepository.findActiveNoticesForDisplay 와 같은 조건)
+     */
+    public boolean isDisplayableAt(LocalDateTime now) {
+        return Boolean.TRUE.equals(isActive)
+                && (startDate == null || !startDate.isAfter(now))
+                && (endDate == null || !endDate.isBefore(now));
+    }
 }
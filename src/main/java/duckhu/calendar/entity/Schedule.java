@@ -19,9 +19,15 @@ import java.util.List;
 @Entity
 @Table(name = "schedules", indexes = {
         @Index(name = "idx_schedule_date_range", columnList = "startDate, endDate"),
-        @Index(name = "idx_schedule_priority", columnList = "priority"),
         @Index(name = "idx_schedule_featured", columnList = "isFeatured, startDate"),
-        @Index(name = "idx_schedule_view_count", columnList = "viewCount")
+        // 목록 커서 페이지네이션용 정렬 인덱스 (정렬 키 + id)
+        @Index(name = "idx_schedule_sort_date", columnList = "startDate, priority, id"),
+        @Index(name = "idx_schedule_sort_priority", columnList = "priority, startDate, id"),
+        @Index(name = "idx_schedule_sort_views", columnList = "viewCount DESC, startDate, id"),
+        @Index(name = "idx_schedule_sort_created", columnList = "createdAt DESC, id"),
+        @Index(name = "idx_schedule_sort_title", columnList = "title, id"),
+        // 동기화 토큰(updatedAt 수위) 이후 변경분 조회용
+        @Index(name = "idx_schedule_updated_at", columnList = "updatedAt, id")
 })
 public class Schedule {
 
@@ -103,10 +109,33 @@ public class Schedule {
 
     /**
      * 조회수
+     * ViewCountAccumulator의 배치 UPDATE로만 증가시키며, 엔티티 저장 시 덮어쓰지 않도록 수정 대상에서 제외
      */
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
+    // === 반복 일정 ===
+
+    /**
+     * 반복 규칙 (RFC 5545 RRULE, 예: FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10)
+     * null 이면 반복하지 않는 일정이며, 반복 일정의 startDate/endDate는 첫 발생 구간이다.
+     */
+    @Column(name = "recurrence_rule", length = 255)
+    private String recurrenceRule;
+
+    /**
+     * 반복에서 제외할 발생 시작일 (EXDATE)
+     */
+    @Convert(converter = LocalDateListConverter.class)
+    @Column(name = "recurrence_exdates", columnDefinition = "TEXT")
+    private List<LocalDate> recurrenceExdates;
+
+    /**
+     * 반복 시리즈의 마지막 발생 종료일 (끝이 없는 반복이면 null) - 기간 조회 시 시리즈 후보 선별용
+     */
+    @Column(name = "series_end_date")
+    private LocalDate seriesEndDate;
+
     // === 기존 필드들 ===
 
     @CreationTimestamp
@@ -143,6 +172,13 @@ public class Schedule {
         return startDate.equals(endDate);
     }
 
+    /**
+     * 반복 일정 여부 확인
+     */
+    public boolean isRecurring() {
+        return recurrenceRule != null;
+    }
+
     /**
      * 이미지가 있는지 확인
      */
@@ -328,6 +364,30 @@ public class Schedule {
         this.viewCount = viewCount;
     }
 
+    public String getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    public void setRecurrenceRule(String recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    public List<LocalDate> getRecurrenceExdates() {
+        return recurrenceExdates;
+    }
+
+    public void setRecurrenceExdates(List<LocalDate> recurrenceExdates) {
+        this.recurrenceExdates = recurrenceExdates;
+    }
+
+    public LocalDate getSeriesEndDate() {
+        return seriesEndDate;
+    }
+
+    public void setSeriesEndDate(LocalDate seriesEndDate) {
+        this.seriesEndDate = seriesEndDate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
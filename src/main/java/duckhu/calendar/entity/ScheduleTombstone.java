@@ -0,0 +1,69 @@
+package duckhu.calendar.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 일정 기록 (툼스톤)
+ * 일정은 물리 삭제하므로, 변경분 동기화 클라이언트에 삭제를 알리기 위해 삭제 시각과 ID만 남긴다.
+ * 보관 기간이 지나면 정리된다.
+ */
+@Entity
+@Table(name = "schedule_tombstones", indexes = {
+        @Index(name = "idx_schedule_tombstone_deleted_at", columnList = "deletedAt, id")
+})
+public class ScheduleTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    // 기본 생성자
+    public ScheduleTombstone() {}
+
+    public ScheduleTombstone(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+
+    public void setScheduleId(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleTombstone{" +
+                "id=" + id +
+                ", scheduleId=" + scheduleId +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
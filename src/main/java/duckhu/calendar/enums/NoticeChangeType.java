@@ -0,0 +1,21 @@
+package duckhu.calendar.enums;
+
+/**
+ * 공지사항 변경 유형 열거형
+ */
+public enum NoticeChangeType {
+    CREATED("생성"),
+    UPDATED("수정"),
+    DELETED("삭제"),
+    STATUS_CHANGED("활성 상태 변경");
+
+    private final String description;
+
+    NoticeChangeType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
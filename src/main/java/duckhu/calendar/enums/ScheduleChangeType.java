@@ -0,0 +1,21 @@
+package duckhu.calendar.enums;
+
+/**
+ * 일정 변경 유형 열거형
+ */
+public enum ScheduleChangeType {
+    CREATED("생성"),
+    UPDATED("수정"),
+    DELETED("삭제"),
+    FEATURED_CHANGED("추천 변경");
+
+    private final String description;
+
+    ScheduleChangeType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
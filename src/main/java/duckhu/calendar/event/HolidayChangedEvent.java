@@ -0,0 +1,33 @@
+package duckhu.calendar.event;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공휴일 변경 이벤트
+ * HolidayService의 쓰기 작업 후 발행되며, 변경 전후 공휴일 날짜를 모두 담는다.
+ */
+public class HolidayChangedEvent {
+
+    private final Set<LocalDate> affectedDates;
+
+    public HolidayChangedEvent(Set<LocalDate> affectedDates) {
+        this.affectedDates = Set.copyOf(affectedDates);
+    }
+
+    public static HolidayChangedEvent of(LocalDate... dates) {
+        return new HolidayChangedEvent(Set.copyOf(List.of(dates)));
+    }
+
+    public Set<LocalDate> getAffectedDates() {
+        return affectedDates;
+    }
+
+    @Override
+    public String toString() {
+        return "HolidayChangedEvent{" +
+                "affectedDates=" + affectedDates +
+                '}';
+    }
+}
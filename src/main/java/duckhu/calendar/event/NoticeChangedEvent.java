@@ -0,0 +1,53 @@
+package duckhu.calendar.event;
+
+import duckhu.calendar.entity.Notice;
+import duckhu.calendar.enums.NoticeChangeType;
+
+/**
+ * 공지사항 변경 이벤트
+ * NoticeService의 쓰기 작업 후 발행되며, 트랜잭션 커밋 이후 실시간 푸시에 사용
+ */
+public class NoticeChangedEvent {
+
+    private final NoticeChangeType type;
+    private final Long noticeId;
+
+    /**
+     * 변경 후 공지사항 (삭제 시 null)
+     */
+    private final Notice current;
+
+    public NoticeChangedEvent(NoticeChangeType type, Long noticeId, Notice current) {
+        this.type = type;
+        this.noticeId = noticeId;
+        this.current = current;
+    }
+
+    public static NoticeChangedEvent of(NoticeChangeType type, Notice current) {
+        return new NoticeChangedEvent(type, current.getId(), current);
+    }
+
+    public static NoticeChangedEvent deleted(Long noticeId) {
+        return new NoticeChangedEvent(NoticeChangeType.DELETED, noticeId, null);
+    }
+
+    public NoticeChangeType getType() {
+        return type;
+    }
+
+    public Long getNoticeId() {
+        return noticeId;
+    }
+
+    public Notice getCurrent() {
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "NoticeChangedEvent{" +
+                "type=" + type +
+                ", noticeId=" + noticeId +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package duckhu.calendar.event;
+
+import duckhu.calendar.enums.ScheduleChangeType;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 변경 이벤트
+ * 대량 등록/일괄 수정·삭제처럼 한 번에 많은 일정이 바뀔 때 행별 이벤트 대신 한 번만 발행하며,
+ * 인덱스/캐시/실시간 알림은 이 이벤트를 한 번에 반영한다.
+ */
+public class ScheduleBatchChangedEvent {
+
+    private final ScheduleChangeType type;
+    private final List<ScheduleChangedEvent> changes;
+
+    public ScheduleBatchChangedEvent(ScheduleChangeType type, List<ScheduleChangedEvent> changes) {
+        this.type = type;
+        this.changes = List.copyOf(changes);
+    }
+
+    public ScheduleChangeType getType() {
+        return type;
+    }
+
+    public List<ScheduleChangedEvent> getChanges() {
+        return changes;
+    }
+
+    public List<Long> getScheduleIds() {
+        return changes.stream().map(ScheduleChangedEvent::getScheduleId).toList();
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleBatchChangedEvent{" +
+                "type=" + type +
+                ", size=" + changes.size() +
+                '}';
+    }
+}
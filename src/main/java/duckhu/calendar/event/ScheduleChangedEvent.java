@@ -0,0 +1,76 @@
+package duckhu.calendar.event;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.enums.ScheduleChangeType;
+
+/**
+ * 일정 변경 이벤트
+ * ScheduleService의 쓰기 작업 후 발행되며, 트랜잭션 커밋 이후 인메모리 인덱스 갱신에 사용
+ */
+public class ScheduleChangedEvent {
+
+    private final ScheduleChangeType type;
+    private final Long scheduleId;
+
+    /**
+     * 변경 전 일정 스냅샷 (생성 시 null)
+     */
+    private final ScheduleResponseDto previous;
+
+    /**
+     * 변경 후 일정 스냅샷 (삭제 시 null)
+     */
+    private final ScheduleResponseDto current;
+
+    public ScheduleChangedEvent(ScheduleChangeType type, Long scheduleId,
+                                ScheduleResponseDto previous, ScheduleResponseDto current) {
+        this.type = type;
+        this.scheduleId = scheduleId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static ScheduleChangedEvent created(ScheduleResponseDto current) {
+        return new ScheduleChangedEvent(ScheduleChangeType.CREATED, current.getId(), null, current);
+    }
+
+    public static ScheduleChangedEvent updated(ScheduleResponseDto previous, ScheduleResponseDto current) {
+        return new ScheduleChangedEvent(ScheduleChangeType.UPDATED, current.getId(), previous, current);
+    }
+
+    public static ScheduleChangedEvent featuredChanged(ScheduleResponseDto previous, ScheduleResponseDto current) {
+        return new ScheduleChangedEvent(ScheduleChangeType.FEATURED_CHANGED, current.getId(), previous, current);
+    }
+
+    public static ScheduleChangedEvent deleted(ScheduleResponseDto previous) {
+        return new ScheduleChangedEvent(ScheduleChangeType.DELETED, previous.getId(), previous, null);
+    }
+
+    public boolean isDeleted() {
+        return type == ScheduleChangeType.DELETED;
+    }
+
+    public ScheduleChangeType getType() {
+        return type;
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+
+    public ScheduleResponseDto getPrevious() {
+        return previous;
+    }
+
+    public ScheduleResponseDto getCurrent() {
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleChangedEvent{" +
+                "type=" + type +
+                ", scheduleId=" + scheduleId +
+                '}';
+    }
+}
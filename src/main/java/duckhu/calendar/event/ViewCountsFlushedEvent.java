@@ -0,0 +1,27 @@
+package duckhu.calendar.event;
+
+import java.util.Map;
+
+/**
+ * 조회수 반영 이벤트
+ * ViewCountAccumulator가 누적 조회수를 DB에 반영한 직후 발행되며, 일정 ID별로 더해진 조회수를 담는다.
+ */
+public class ViewCountsFlushedEvent {
+
+    private final Map<Long, Long> deltas;
+
+    public ViewCountsFlushedEvent(Map<Long, Long> deltas) {
+        this.deltas = Map.copyOf(deltas);
+    }
+
+    public Map<Long, Long> getDeltas() {
+        return deltas;
+    }
+
+    @Override
+    public String toString() {
+        return "ViewCountsFlushedEvent{" +
+                "scheduleCount=" + deltas.size() +
+                '}';
+    }
+}
@@ -0,0 +1,10 @@
+package duckhu.calendar.exception;
+
+/**
+ * 동기화 토큰이 삭제 기록 보관 기간보다 오래되어 변경분만으로는 따라잡을 수 없음 (전체 재동기화 필요)
+ */
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -108,4 +108,10 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> {
      */
     @Query("SELECT CASE WHEN COUNT(h) > 0 THEN true ELSE false END FROM Holiday h WHERE YEAR(h.holidayDate) = :year AND MONTH(h.holidayDate) = :month AND h.countryCode = :countryCode")
     boolean existsHolidayInMonth(@Param("year") int year, @Param("month") int month, @Param("countryCode") String countryCode);
+
+    /**
+     * 중복 없는 공휴일 이름 목록 (자동완성 색인용)
+     */
+    @Query("SELECT DISTINCT h.name FROM Holiday h")
+    List<String> findDistinctNames();
 }
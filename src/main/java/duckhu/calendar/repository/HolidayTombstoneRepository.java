@@ -0,0 +1,21 @@
+package duckhu.calendar.repository;
+
+import duckhu.calendar.entity.HolidayTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface HolidayTombstoneRepository extends JpaRepository<HolidayTombstone, Long> {
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     */
+    @Modifying
+    @Query("DELETE FROM HolidayTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,47 +1,41 @@
 package duckhu.calendar.repository;
 
 import duckhu.calendar.entity.Schedule;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     /**
-     * 특정 날짜에 해당하는 일정 조회 (날짜 범위 겹치는 것들)
+     * 특정 날짜에 해당하는 일정 조회 (날짜 범위 겹치는 것들, 반복 일정은 시리즈 기간이 겹치는 것들)
      */
-    @Query("SELECT s FROM Schedule s WHERE s.startDate <= :date AND s.endDate >= :date " +
+    @Query("SELECT s FROM Schedule s WHERE s.startDate <= :date AND (s.endDate >= :date " +
+            "OR (s.recurrenceRule IS NOT NULL AND (s.seriesEndDate IS NULL OR s.seriesEndDate >= :date))) " +
             "ORDER BY s.isFeatured DESC, s.priority ASC, s.startTime ASC")
     List<Schedule> findSchedulesByDate(@Param("date") LocalDate date);
 
     /**
-     * 특정 날짜 범위에 해당하는 일정 조회 - PostgreSQL 호환
+     * 특정 날짜 범위에 해당하는 일정 조회 - PostgreSQL 호환 (반복 일정은 시리즈 기간이 겹치는 것들)
      */
-    @Query("SELECT s FROM Schedule s WHERE " +
-            "(s.startDate <= :endDate AND s.endDate >= :startDate) " +
+    @Query("SELECT s FROM Schedule s WHERE s.startDate <= :endDate AND (s.endDate >= :startDate " +
+            "OR (s.recurrenceRule IS NOT NULL AND (s.seriesEndDate IS NULL OR s.seriesEndDate >= :startDate))) " +
             "ORDER BY s.isFeatured DESC, s.startDate ASC, s.priority ASC, s.startTime ASC")
     List<Schedule> findSchedulesByDateRange(@Param("startDate") LocalDate startDate,
                                             @Param("endDate") LocalDate endDate);
 
-    /**
-     * 특정 월의 모든 일정 조회 - PostgreSQL EXTRACT 함수 사용
-     */
-    @Query("SELECT s FROM Schedule s WHERE " +
-            "(EXTRACT(YEAR FROM s.startDate) = :year AND EXTRACT(MONTH FROM s.startDate) = :month) " +
-            "OR (EXTRACT(YEAR FROM s.endDate) = :year AND EXTRACT(MONTH FROM s.endDate) = :month) " +
-            "OR (s.startDate <= :monthStart AND s.endDate >= :monthEnd) " +
-            "ORDER BY s.isFeatured DESC, s.startDate ASC, s.priority ASC")
-    List<Schedule> findSchedulesByMonth(@Param("year") int year,
-                                        @Param("month") int month,
-                                        @Param("monthStart") LocalDate monthStart,
-                                        @Param("monthEnd") LocalDate monthEnd);
-
     /**
      * 우선순위별 일정 조회
      */
@@ -72,6 +66,16 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
      */
     List<Schedule> findAllByOrderByStartDateDesc();
 
+    /**
+     * 커서(keyset) 기반 일정 목록 조회 - 정렬 키 뒤에 id가 자동으로 추가되어 커서가 안정적으로 유지됨
+     */
+    Window<Schedule> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * 커서(keyset) 기반 일정 목록 조회 - 프로젝션 타입의 컬럼만 조회
+     */
+    <T> Window<T> findAllBy(ScrollPosition position, Sort sort, Limit limit, Class<T> type);
+
     /**
      * 생성일 기준 최근 일정 조회 - PostgreSQL 호환
      */
@@ -134,4 +138,45 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     @Query("SELECT COUNT(s) FROM Schedule s WHERE " +
             "s.startDate >= :startDate AND s.startDate <= :endDate")
     long countByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 여러 일정의 이미지 URL 일괄 조회 (일정 ID, URL)
+     */
+    @Query("SELECT s.id, i FROM Schedule s JOIN s.images i WHERE s.id IN :ids")
+    List<Object[]> findImagesByScheduleIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 일정의 링크 URL 일괄 조회 (일정 ID, URL)
+     */
+    @Query("SELECT s.id, l FROM Schedule s JOIN s.links l WHERE s.id IN :ids")
+    List<Object[]> findLinksByScheduleIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 일정의 링크 제목 일괄 조회 (일정 ID, 제목)
+     */
+    @Query("SELECT s.id, t FROM Schedule s JOIN s.linkTitles t WHERE s.id IN :ids")
+    List<Object[]> findLinkTitlesByScheduleIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 일정의 랭킹 키 조회 (일정 ID, 조회수, 추천 여부)
+     */
+    @Query("SELECT s.id, s.viewCount, s.isFeatured FROM Schedule s")
+    List<Object[]> findAllRankingKeys();
+
+    /**
+     * 전체 일정의 통계 집계 키 조회 (일정 ID, 추천 여부, 우선순위, 카테고리, 조회수)
+     */
+    @Query("SELECT s.id, s.isFeatured, s.priority, s.category, s.viewCount FROM Schedule s")
+    List<Object[]> findAllStatisticsRows();
+
+    /**
+     * (updatedAt, id) 커서 이후 upper 까지 생성/수정된 일정 조회 - 변경분 동기화용
+     */
+    @Query("SELECT s FROM Schedule s WHERE s.updatedAt <= :upper AND " +
+            "(s.updatedAt > :after OR (s.updatedAt = :after AND s.id > :afterId)) " +
+            "ORDER BY s.updatedAt ASC, s.id ASC")
+    List<Schedule> findChangedSince(@Param("after") LocalDateTime after,
+                                    @Param("afterId") Long afterId,
+                                    @Param("upper") LocalDateTime upper,
+                                    Pageable pageable);
 }
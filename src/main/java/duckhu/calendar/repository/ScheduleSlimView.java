@@ -0,0 +1,29 @@
+package duckhu.calendar.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 경량 일정 조회용 프로젝션 (선택한 컬럼만 SELECT 하며 설명/컬렉션 테이블은 읽지 않음)
+ * keyset 조회 시 정렬 키 컬럼은 Spring Data가 자동으로 함께 조회한다.
+ */
+public interface ScheduleSlimView {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    String getColor();
+
+    String getCategory();
+
+    Boolean getIsFeatured();
+}
@@ -0,0 +1,34 @@
+package duckhu.calendar.repository;
+
+import duckhu.calendar.entity.ScheduleTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ScheduleTombstoneRepository extends JpaRepository<ScheduleTombstone, Long> {
+
+    /**
+     * (deletedAt, id) 커서 이후 upper 까지의 삭제 기록 조회
+     */
+    @Query("SELECT t FROM ScheduleTombstone t WHERE t.deletedAt <= :upper AND " +
+            "(t.deletedAt > :after OR (t.deletedAt = :after AND t.id > :afterId)) " +
+            "ORDER BY t.deletedAt ASC, t.id ASC")
+    List<ScheduleTombstone> findDeletedSince(@Param("after") LocalDateTime after,
+                                             @Param("afterId") Long afterId,
+                                             @Param("upper") LocalDateTime upper,
+                                             Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     */
+    @Modifying
+    @Query("DELETE FROM ScheduleTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,32 @@
+package duckhu.calendar.repository.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 전체 테이블 조회 실행기 (인덱스 적재, 주기적 보정)
+ * 호출을 별도 시간 제한(bulk-read.timeout-ms)의 트랜잭션 안에서 실행한다.
+ * 트랜잭션 안의 리포지토리 호출에는 ResilientRepositoryInterceptor가 호출별 시간 제한(deadline-ms)을 걸지 않으므로
+ * 테이블이 커져도 전체 조회가 그 제한에 걸려 실패하지 않는다. 재시도는 호출 측에서 한다.
+ * 트랜잭션은 읽기 전용으로 열지 않는다 (Supabase pooler와 readOnly 트랜잭션 충돌).
+ */
+@Component
+public class BulkReadExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkReadExecutor(PlatformTransactionManager transactionManager,
+                            @Value("${app.db.bulk-read.timeout-ms:120000}") long timeoutMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        return transactionTemplate.execute(status -> reader.get());
+    }
+}
@@ -0,0 +1,56 @@
+package duckhu.calendar.repository.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 획득 대기 시간을 호출별 시간 제한에 맞추는 DataSource
+ * ResilientRepositoryInterceptor가 시도마다 남은 시간을 지정하면, 그 안에서 커넥션을 얻지 못할 때
+ * Hikari 기본 connection-timeout(30초)까지 기다리지 않고 SQLTransientConnectionException으로 바로 실패한다.
+ * 지정이 없거나 Hikari 풀이 아니면 원래 DataSource 동작 그대로다.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    /**
+     * 현재 스레드의 커넥션 획득 기한 (System.nanoTime 기준, 없으면 null)
+     */
+    private static final ThreadLocal<Long> ACQUISITION_DEADLINE = new ThreadLocal<>();
+
+    public DeadlineAwareDataSource(HikariDataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * 현재 스레드의 커넥션 획득 기한 지정
+     * @return 이전 기한 (restoreAcquisitionDeadline 으로 되돌릴 값)
+     */
+    static Long setAcquisitionDeadline(long deadlineNanos) {
+        Long previous = ACQUISITION_DEADLINE.get();
+        ACQUISITION_DEADLINE.set(deadlineNanos);
+        return previous;
+    }
+
+    static void restoreAcquisitionDeadline(Long previous) {
+        if (previous == null) {
+            ACQUISITION_DEADLINE.remove();
+        } else {
+            ACQUISITION_DEADLINE.set(previous);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Long deadline = ACQUISITION_DEADLINE.get();
+        if (deadline != null
+                && ((HikariDataSource) obtainTargetDataSource()).getHikariPoolMXBean() instanceof HikariPool pool) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            return pool.getConnection(Math.max(1, remainingMs));
+        }
+        return super.getConnection();
+    }
+}
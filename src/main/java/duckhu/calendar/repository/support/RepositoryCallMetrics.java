@@ -0,0 +1,74 @@
+package duckhu.calendar.repository.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리포지토리 메서드별 호출 지표 (호출/시도/재시도/실패 횟수, 지연 시간)
+ */
+@Component
+public class RepositoryCallMetrics {
+
+    private final Map<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * 호출 한 건의 결과 기록
+     * @param attempts 실행한 시도 횟수 (재시도 포함)
+     * @param elapsedNanos 재시도 대기를 포함한 전체 소요 시간
+     */
+    public void record(String method, int attempts, boolean success, boolean deadlineExceeded, long elapsedNanos) {
+        MethodMetrics methodMetrics = metrics.computeIfAbsent(method, key -> new MethodMetrics());
+        methodMetrics.calls.increment();
+        methodMetrics.attempts.add(attempts);
+        methodMetrics.retries.add(attempts - 1L);
+        if (!success) {
+            methodMetrics.failures.increment();
+        }
+        if (deadlineExceeded) {
+            methodMetrics.deadlineExceeded.increment();
+        }
+        methodMetrics.totalNanos.add(elapsedNanos);
+        methodMetrics.maxNanos.accumulate(elapsedNanos);
+    }
+
+    /**
+     * 메서드별 지표 조회 (이름순)
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> result = new TreeMap<>();
+        metrics.forEach((method, methodMetrics) -> {
+            long calls = methodMetrics.calls.sum();
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("calls", calls);
+            stats.put("attempts", methodMetrics.attempts.sum());
+            stats.put("retries", methodMetrics.retries.sum());
+            stats.put("failures", methodMetrics.failures.sum());
+            stats.put("deadlineExceeded", methodMetrics.deadlineExceeded.sum());
+            stats.put("avgLatencyMs", calls > 0 ? toMillis(methodMetrics.totalNanos.sum()) / calls : 0.0);
+            stats.put("maxLatencyMs", toMillis(methodMetrics.maxNanos.get()));
+            result.put(method, stats);
+        });
+        return result;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class MethodMetrics {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder deadlineExceeded = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
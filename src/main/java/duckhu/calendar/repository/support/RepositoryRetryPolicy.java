@@ -0,0 +1,114 @@
+package duckhu.calendar.repository.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 리포지토리 호출 재시도 정책
+ * 지수 백오프(full jitter), 호출당 전체 시간 제한, 재시도 가능한 오류 분류를 한곳에서 정의한다.
+ * 커넥션 획득 실패는 아무 문장도 실행되기 전이므로 항상 재시도하고,
+ * 그 밖의 일시적 오류는 다시 실행해도 안전한 조회 메서드에서만 재시도한다.
+ */
+@Component
+public class RepositoryRetryPolicy {
+
+    /**
+     * 재시도 가능한 SQLState (직렬화 실패, 교착 상태, 서버 종료/재시작, 연결 수 초과)
+     */
+    private static final Set<String> RETRYABLE_SQL_STATES = Set.of(
+            "40001", "40P01", "57P01", "57P02", "57P03", "53300"
+    );
+
+    /**
+     * 연결 오류 SQLState 클래스
+     */
+    private static final String CONNECTION_EXCEPTION_CLASS = "08";
+
+    private static final Set<String> READ_METHOD_PREFIXES = Set.of(
+            "find", "read", "get", "query", "search", "stream", "count", "exists", "sum"
+    );
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long deadlineMs;
+
+    public RepositoryRetryPolicy(@Value("${app.db.retry.max-attempts:3}") int maxAttempts,
+                                 @Value("${app.db.retry.initial-backoff-ms:50}") long initialBackoffMs,
+                                 @Value("${app.db.retry.max-backoff-ms:1000}") long maxBackoffMs,
+                                 @Value("${app.db.retry.deadline-ms:5000}") long deadlineMs) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.deadlineMs = deadlineMs;
+    }
+
+    /**
+     * 조회 메서드 여부 (메서드 이름 접두사 기준)
+     */
+    public boolean isReadMethod(String methodName) {
+        for (String prefix : READ_METHOD_PREFIXES) {
+            if (methodName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재시도 가능한 오류인지 판단 (원인 체인 전체 확인)
+     * @param readMethod 조회 메서드 여부 (쓰기 메서드는 커넥션 획득 실패만 재시도)
+     */
+    public boolean isRetryable(Throwable error, boolean readMethod) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+            if (!readMethod) {
+                continue;
+            }
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && isRetryableSqlState(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * attempt 번째 실패 후 대기 시간 (0 ~ min(max, initial * 2^(attempt-1)) 사이 무작위)
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private boolean isRetryableSqlState(String sqlState) {
+        return sqlState != null
+                && (sqlState.startsWith(CONNECTION_EXCEPTION_CLASS) || RETRYABLE_SQL_STATES.contains(sqlState));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getDeadlineMs() {
+        return deadlineMs;
+    }
+}
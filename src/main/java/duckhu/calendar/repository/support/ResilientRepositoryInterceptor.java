@@ -0,0 +1,128 @@
+package duckhu.calendar.repository.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포지토리 호출 재시도/시간 제한 인터셉터
+ * 리포지토리 프록시의 가장 바깥에 붙어, 진행 중인 트랜잭션이 없을 때 각 시도를
+ * 남은 시간만큼의 타임아웃을 가진 트랜잭션으로 실행하고 일시적 오류면 백오프 후 다시 시도한다.
+ * 커넥션 획득 대기도 남은 시간으로 제한한다 (DeadlineAwareDataSource).
+ * 이미 트랜잭션 안에서 호출된 경우에는 트랜잭션이 깨졌을 수 있으므로 재시도하지 않고 지표만 기록한다.
+ * (전체 테이블 조회는 BulkReadExecutor의 트랜잭션 안에서 호출해 호출별 시간 제한 대신 그 시간 제한을 따른다)
+ * 트랜잭션은 읽기 전용으로 열지 않는다 (Supabase pooler와 readOnly 트랜잭션 충돌).
+ */
+@Component
+@Slf4j
+public class ResilientRepositoryInterceptor {
+
+    private final RepositoryRetryPolicy retryPolicy;
+    private final RepositoryCallMetrics callMetrics;
+    private final PlatformTransactionManager transactionManager;
+
+    public ResilientRepositoryInterceptor(RepositoryRetryPolicy retryPolicy,
+                                          RepositoryCallMetrics callMetrics,
+                                          PlatformTransactionManager transactionManager) {
+        this.retryPolicy = retryPolicy;
+        this.callMetrics = callMetrics;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * 리포지토리 메서드 호출 실행
+     * @param repositoryName 지표/로그에 쓸 리포지토리 이름
+     */
+    public Object invoke(String repositoryName, MethodInvocation invocation) throws Throwable {
+        String method = repositoryName + "." + invocation.getMethod().getName();
+        long start = System.nanoTime();
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+            boolean success = false;
+            try {
+                Object result = invocation.proceed();
+                success = true;
+                return result;
+            } finally {
+                callMetrics.record(method, 1, success, false, System.nanoTime() - start);
+            }
+        }
+
+        boolean readMethod = retryPolicy.isReadMethod(invocation.getMethod().getName());
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(retryPolicy.getDeadlineMs());
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            try {
+                Object result = executeAttempt(proxyInvocation, deadline);
+                callMetrics.record(method, attempt, true, false, System.nanoTime() - start);
+                return result;
+            } catch (Throwable error) {
+                if (!retryPolicy.isRetryable(error, readMethod) || attempt >= retryPolicy.getMaxAttempts()) {
+                    callMetrics.record(method, attempt, false, false, System.nanoTime() - start);
+                    throw error;
+                }
+                long backoffMs = retryPolicy.backoffMillis(attempt);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs) >= deadline) {
+                    callMetrics.record(method, attempt, false, true, System.nanoTime() - start);
+                    log.warn("DB 호출 시간 제한 초과 - {} (시도 {}회): {}", method, attempt, error.getMessage());
+                    throw error;
+                }
+
+                log.warn("DB 호출 실패, {}ms 후 재시도 - {} (시도 {}/{}): {}",
+                        backoffMs, method, attempt, retryPolicy.getMaxAttempts(), error.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    callMetrics.record(method, attempt, false, false, System.nanoTime() - start);
+                    throw error;
+                }
+            }
+        }
+    }
+
+    /**
+     * 남은 시간(초 단위 올림)을 타임아웃으로 하는 트랜잭션에서 한 번 실행
+     * 트랜잭션 시작 시 커넥션을 얻으므로 획득 대기도 같은 기한 안으로 제한된다.
+     */
+    private Object executeAttempt(ProxyMethodInvocation invocation, long deadline) throws Throwable {
+        long remainingNanos = deadline - System.nanoTime();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+
+        MethodInvocation attempt = invocation.invocableClone();
+        Long previousDeadline = DeadlineAwareDataSource.setAcquisitionDeadline(deadline);
+        try {
+            return template.execute(status -> {
+                try {
+                    return attempt.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedInvocationException(e);
+                }
+            });
+        } catch (CheckedInvocationException e) {
+            throw e.getCause();
+        } finally {
+            DeadlineAwareDataSource.restoreAcquisitionDeadline(previousDeadline);
+        }
+    }
+
+    /**
+     * 트랜잭션 콜백 밖으로 검사 예외를 전달하기 위한 래퍼
+     */
+    private static final class CheckedInvocationException extends RuntimeException {
+        private CheckedInvocationException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.entity.Holiday;
+import duckhu.calendar.entity.HolidayTombstone;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.entity.ScheduleTombstone;
+import duckhu.calendar.service.ics.IcsWriter;
+import duckhu.calendar.service.recurrence.RecurrenceRule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * iCalendar(.ics) 구독 피드 서비스
+ * 일정과 공휴일을 id keyset 청크로 읽는 대로 VEVENT로 기록하므로 문서 전체를 메모리에 만들지 않는다.
+ * 청크마다 짧은 트랜잭션으로 읽고 응답 기록은 트랜잭션 밖에서 하므로, 느린 구독 클라이언트가 커넥션을 붙잡지 않는다.
+ * 동기화 토큰은 updatedAt 기준 최고 수위(high-water mark)이며, 토큰을 넘기면 그 이후 수정된 항목만 내려준다.
+ * 그 이후 삭제된 일정/공휴일은 같은 UID의 STATUS:CANCELLED VEVENT로 내려 클라이언트가 지우게 한다.
+ */
+@Service
+@Slf4j
+public class CalendarFeedService {
+
+    private static final String PRODUCT_ID = "-//duckhu//Event Calendar//KO";
+    private static final String UID_DOMAIN = "duckhu-calendar";
+    private static final String TOKEN_PREFIX = "1:";
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final String calendarName;
+    private final ZoneId zone;
+    private final long syncLagMs;
+    private final String refreshInterval;
+    private final int fetchSize;
+
+    public CalendarFeedService(PlatformTransactionManager transactionManager,
+                               @Value("${app.name:이벤트 캘린더}") String calendarName,
+                               @Value("${app.calendar.ics.time-zone:Asia/Seoul}") String timeZone,
+                               @Value("${app.calendar.ics.sync-lag-ms:5000}") long syncLagMs,
+                               @Value("${app.calendar.ics.refresh-interval:PT1H}") String refreshInterval,
+                               @Value("${app.schedule.stream.fetch-size:500}") int fetchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.calendarName = calendarName;
+        this.zone = ZoneId.of(timeZone);
+        this.syncLagMs = syncLagMs;
+        this.refreshInterval = refreshInterval;
+        this.fetchSize = fetchSize;
+    }
+
+    // === 동기화 토큰 ===
+
+    /**
+     * 다음 요청에 쓸 동기화 토큰 발급
+     * 커밋이 늦게 보이는 트랜잭션을 놓치지 않도록 현재 시각에서 지연 시간만큼 뺀 값을 수위로 삼는다.
+     * (그 사이 수정된 항목은 다음 요청에서 한 번 더 내려가며, 클라이언트는 UID 기준으로 덮어쓴다)
+     * 피드를 쓰기 전에 호출해야 한다.
+     */
+    public String issueSyncToken() {
+        LocalDateTime watermark = LocalDateTime.now().minus(syncLagMs, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MICROS);
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, watermark.toInstant(ZoneOffset.UTC));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + micros).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 동기화 토큰 해석 (없으면 null - 전체 피드)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 토큰
+     */
+    public LocalDateTime parseSyncToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(TOKEN_PREFIX)) {
+                throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다.");
+            }
+            long micros = Long.parseLong(decoded.substring(TOKEN_PREFIX.length()));
+            return LocalDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+        } catch (IllegalArgumentException | ArithmeticException | java.time.DateTimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다.", e);
+        }
+    }
+
+    // === 피드 기록 ===
+
+    /**
+     * 피드 기록
+     * @param category 카테고리 피드면 카테고리 이름 (null 이면 전체 일정)
+     * @param countryCode 함께 넣을 공휴일 국가 코드 (null 이면 공휴일 제외)
+     * @param since 동기화 토큰 수위 (null 이면 전체)
+     * @return 기록한 VEVENT 수
+     */
+    public long writeFeed(OutputStream out, String category, String countryCode, LocalDateTime since) throws IOException {
+        IcsWriter writer = new IcsWriter(out);
+        String dtstamp = IcsWriter.utc(LocalDateTime.now(), ZoneId.systemDefault());
+
+        writer.begin("VCALENDAR")
+                .property("VERSION", "2.0")
+                .property("PRODID", PRODUCT_ID)
+                .property("CALSCALE", "GREGORIAN")
+                .property("METHOD", "PUBLISH")
+                .text("X-WR-CALNAME", category != null ? calendarName + " - " + category : calendarName)
+                .property("X-WR-TIMEZONE", zone.getId())
+                .property("REFRESH-INTERVAL;VALUE=DURATION", refreshInterval)
+                .property("X-PUBLISHED-TTL", refreshInterval);
+        writeTimeZone(writer);
+
+        long total = streamSchedules(writer, category, since, dtstamp);
+        if (since != null) {
+            total += streamTombstones(writer, since, dtstamp);
+        }
+        if (countryCode != null) {
+            total += streamHolidays(writer, countryCode, since, dtstamp);
+            if (since != null) {
+                total += streamHolidayTombstones(writer, countryCode, since, dtstamp);
+            }
+        }
+
+        writer.end("VCALENDAR");
+        writer.flush();
+        log.debug("iCalendar 피드 기록 완료 - {}건 (category={}, since={})", total, category, since);
+        return total;
+    }
+
+    private long streamSchedules(IcsWriter writer, String category, LocalDateTime since, String dtstamp)
+            throws IOException {
+        StringBuilder jpql = new StringBuilder("SELECT s FROM Schedule s WHERE s.id > :afterId");
+        Map<String, Object> parameters = new HashMap<>();
+        if (category != null) {
+            jpql.append(" AND s.category = :category");
+            parameters.put("category", category);
+        }
+        if (since != null) {
+            jpql.append(" AND s.updatedAt > :since");
+            parameters.put("since", since);
+        }
+        jpql.append(" ORDER BY s.id");
+        return stream(jpql.toString(), Schedule.class, parameters, Schedule::getId,
+                schedule -> writeSchedule(writer, schedule, dtstamp), writer);
+    }
+
+    /**
+     * 수위 이후 삭제된 일정 (툼스톤에는 카테고리가 없어 카테고리 피드에도 모두 내려가며, 없는 UID는 클라이언트가 무시한다)
+     */
+    private long streamTombstones(IcsWriter writer, LocalDateTime since, String dtstamp) throws IOException {
+        return stream("SELECT t FROM ScheduleTombstone t WHERE t.id > :afterId AND t.deletedAt > :since ORDER BY t.id",
+                ScheduleTombstone.class, Map.of("since", since), ScheduleTombstone::getId,
+                tombstone -> writeCancellation(writer, scheduleUid(tombstone.getScheduleId()),
+                        tombstone.getDeletedAt(), dtstamp), writer);
+    }
+
+    private long streamHolidays(IcsWriter writer, String countryCode, LocalDateTime since, String dtstamp)
+            throws IOException {
+        String jpql = "SELECT h FROM Holiday h WHERE h.id > :afterId AND h.countryCode = :countryCode"
+                + (since != null ? " AND h.updatedAt > :since" : "")
+                + " ORDER BY h.id";
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("countryCode", countryCode);
+        if (since != null) {
+            parameters.put("since", since);
+        }
+        return stream(jpql, Holiday.class, parameters, Holiday::getId,
+                holiday -> writeHoliday(writer, holiday, dtstamp), writer);
+    }
+
+    /**
+     * 수위 이후 삭제된 해당 국가 공휴일
+     */
+    private long streamHolidayTombstones(IcsWriter writer, String countryCode, LocalDateTime since, String dtstamp)
+            throws IOException {
+        return stream("SELECT t FROM HolidayTombstone t WHERE t.id > :afterId AND t.countryCode = :countryCode"
+                        + " AND t.deletedAt > :since ORDER BY t.id",
+                HolidayTombstone.class, Map.of("countryCode", countryCode, "since", since), HolidayTombstone::getId,
+                tombstone -> writeCancellation(writer, holidayUid(tombstone.getHolidayId()),
+                        tombstone.getDeletedAt(), dtstamp), writer);
+    }
+
+    /**
+     * id keyset 청크(fetch size)마다 짧은 트랜잭션으로 읽고, 트랜잭션이 끝난 뒤 기록해 응답을 내보냄
+     * @param jpql ":afterId" 조건과 id 오름차순 정렬을 포함한 조회문
+     */
+    private <T> long stream(String jpql, Class<T> type, Map<String, Object> parameters, Function<T, Long> idOf,
+                            EventWriter<T> eventWriter, IcsWriter writer) throws IOException {
+        long count = 0;
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            List<T> chunk = transactionTemplate.execute(status -> {
+                TypedQuery<T> query = entityManager.createQuery(jpql, type)
+                        .setParameter("afterId", after)
+                        .setMaxResults(fetchSize)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true);
+                parameters.forEach(query::setParameter);
+                return query.getResultList();
+            });
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            for (T entity : chunk) {
+                eventWriter.write(entity);
+            }
+            writer.flush();
+            count += chunk.size();
+            if (chunk.size() < fetchSize) {
+                break;
+            }
+            afterId = idOf.apply(chunk.get(chunk.size() - 1));
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface EventWriter<T> {
+        void write(T entity) throws IOException;
+    }
+
+    // === VEVENT ===
+
+    private void writeSchedule(IcsWriter writer, Schedule schedule, String dtstamp) throws IOException {
+        boolean timed = schedule.getStartTime() != null;
+
+        writer.begin("VEVENT")
+                .property("UID", scheduleUid(schedule.getId()))
+                .property("DTSTAMP", dtstamp);
+        if (timed) {
+            writer.property("DTSTART;TZID=" + zone.getId(), local(schedule.getStartDate(), schedule.getStartTime()));
+            if (schedule.getEndTime() != null) {
+                writer.property("DTEND;TZID=" + zone.getId(), local(schedule.getEndDate(), schedule.getEndTime()));
+            }
+        } else {
+            writer.property("DTSTART;VALUE=DATE", IcsWriter.date(schedule.getStartDate()))
+                    .property("DTEND;VALUE=DATE", IcsWriter.date(schedule.getEndDate().plusDays(1))); // 종료일은 배타적
+        }
+        writer.text("SUMMARY", schedule.getTitle())
+                .text("DESCRIPTION", schedule.getDescription())
+                .text("CATEGORIES", schedule.getCategory())
+                .property("PRIORITY", priorityOf(schedule.getPriority()))
+                .property("TRANSP", timed ? "OPAQUE" : "TRANSPARENT");
+        if (schedule.getUpdatedAt() != null) {
+            writer.property("LAST-MODIFIED", IcsWriter.utc(schedule.getUpdatedAt(), ZoneId.systemDefault()));
+        }
+        if (schedule.isRecurring()) {
+            writeRecurrence(writer, schedule, timed);
+        }
+        writer.end("VEVENT");
+    }
+
+    /**
+     * 삭제된 일정/공휴일 취소 알림 (원래 일시는 남아 있지 않아 DTSTART는 삭제 시각으로 채운다)
+     */
+    private void writeCancellation(IcsWriter writer, String uid, LocalDateTime deletedTime, String dtstamp)
+            throws IOException {
+        String deletedAt = IcsWriter.utc(deletedTime, ZoneId.systemDefault());
+        writer.begin("VEVENT")
+                .property("UID", uid)
+                .property("DTSTAMP", dtstamp)
+                .property("DTSTART", deletedAt)
+                .property("STATUS", "CANCELLED")
+                .property("LAST-MODIFIED", deletedAt)
+                .end("VEVENT");
+    }
+
+    /**
+     * RRULE/EXDATE 기록 (시각이 있는 일정은 RFC 5545에 따라 UNTIL을 UTC 시각으로, EXDATE를 TZID 시각으로 기록)
+     */
+    private void writeRecurrence(IcsWriter writer, Schedule schedule, boolean timed) throws IOException {
+        RecurrenceRule rule;
+        try {
+            rule = RecurrenceRule.parse(schedule.getRecurrenceRule());
+        } catch (IllegalArgumentException e) {
+            log.warn("반복 규칙 해석 실패로 피드에서 생략 - 일정 {}: {}", schedule.getId(), e.getMessage());
+            return;
+        }
+        String rrule = rule.toString();
+        if (timed && rule.getUntil() != null) {
+            rrule = rrule.replace("UNTIL=" + IcsWriter.date(rule.getUntil()),
+                    "UNTIL=" + IcsWriter.utc(rule.getUntil().atTime(LocalTime.MAX.truncatedTo(ChronoUnit.SECONDS)), zone));
+        }
+        writer.property("RRULE", rrule);
+
+        List<LocalDate> exdates = schedule.getRecurrenceExdates();
+        if (exdates != null && !exdates.isEmpty()) {
+            if (timed) {
+                writer.property("EXDATE;TZID=" + zone.getId(), exdates.stream()
+                        .map(date -> local(date, schedule.getStartTime()))
+                        .collect(Collectors.joining(",")));
+            } else {
+                writer.property("EXDATE;VALUE=DATE", exdates.stream()
+                        .map(IcsWriter::date)
+                        .collect(Collectors.joining(",")));
+            }
+        }
+    }
+
+    private void writeHoliday(IcsWriter writer, Holiday holiday, String dtstamp) throws IOException {
+        writer.begin("VEVENT")
+                .property("UID", holidayUid(holiday.getId()))
+                .property("DTSTAMP", dtstamp)
+                .property("DTSTART;VALUE=DATE", IcsWriter.date(holiday.getHolidayDate()))
+                .property("DTEND;VALUE=DATE", IcsWriter.date(holiday.getHolidayDate().plusDays(1)))
+                .text("SUMMARY", holiday.getName())
+                .text("DESCRIPTION", holiday.getDescription())
+                .text("CATEGORIES", "공휴일")
+                .property("TRANSP", "TRANSPARENT");
+        if (holiday.getUpdatedAt() != null) {
+            writer.property("LAST-MODIFIED", IcsWriter.utc(holiday.getUpdatedAt(), ZoneId.systemDefault()));
+        }
+        writer.end("VEVENT");
+    }
+
+    /**
+     * 일정 우선순위(1 높음 ~ 3 낮음)를 iCalendar PRIORITY(1 높음 ~ 9 낮음)로 변환
+     */
+    private static String priorityOf(Integer priority) {
+        if (priority == null) {
+            return null;
+        }
+        return switch (priority) {
+            case 1 -> "1";
+            case 3 -> "9";
+            default -> "5";
+        };
+    }
+
+    private static String scheduleUid(Long scheduleId) {
+        return "schedule-" + scheduleId + "@" + UID_DOMAIN;
+    }
+
+    private static String holidayUid(Long holidayId) {
+        return "holiday-" + holidayId + "@" + UID_DOMAIN;
+    }
+
+    private static String local(LocalDate date, LocalTime time) {
+        return date.atTime(time).format(LOCAL_DATE_TIME);
+    }
+
+    // === VTIMEZONE ===
+
+    /**
+     * TZID 시각 해석용 VTIMEZONE (고정 오프셋이면 STANDARD 하나, 일광 절약 시간이 있으면 매년 전환 규칙으로 기록)
+     */
+    private void writeTimeZone(IcsWriter writer) throws IOException {
+        ZoneRules rules = zone.getRules();
+        writer.begin("VTIMEZONE").property("TZID", zone.getId());
+
+        List<ZoneOffsetTransitionRule> transitionRules = rules.getTransitionRules();
+        if (transitionRules.isEmpty()) {
+            ZoneOffset offset = rules.getOffset(Instant.now());
+            writer.begin("STANDARD")
+                    .property("DTSTART", "19700101T000000")
+                    .property("TZOFFSETFROM", offsetOf(offset))
+                    .property("TZOFFSETTO", offsetOf(offset))
+                    .end("STANDARD");
+        } else {
+            for (ZoneOffsetTransitionRule transitionRule : transitionRules) {
+                ZoneOffsetTransition transition = transitionRule.createTransition(1970);
+                String component = transitionRule.getOffsetAfter().getTotalSeconds()
+                        > transitionRule.getStandardOffset().getTotalSeconds() ? "DAYLIGHT" : "STANDARD";
+                writer.begin(component)
+                        .property("DTSTART", transition.getDateTimeBefore().format(LOCAL_DATE_TIME))
+                        .property("TZOFFSETFROM", offsetOf(transitionRule.getOffsetBefore()))
+                        .property("TZOFFSETTO", offsetOf(transitionRule.getOffsetAfter()))
+                        .property("RRULE", "FREQ=YEARLY;BYMONTH=" + transitionRule.getMonth().getValue()
+                                + ";BYDAY=" + weekdayOrdinal(transitionRule) + dayCode(transitionRule.getDayOfWeek()))
+                        .end(component);
+            }
+        }
+        writer.end("VTIMEZONE");
+    }
+
+    /**
+     * 전환 규칙의 "n번째(또는 마지막) 요일" 순번
+     */
+    private static int weekdayOrdinal(ZoneOffsetTransitionRule rule) {
+        int indicator = rule.getDayOfMonthIndicator();
+        if (indicator < 0 || indicator + 6 >= rule.getMonth().maxLength()) {
+            return -1;
+        }
+        return (indicator - 1) / 7 + 1;
+    }
+
+    private static String dayCode(java.time.DayOfWeek day) {
+        return day == null ? "SU" : day.name().substring(0, 2);
+    }
+
+    private static String offsetOf(ZoneOffset offset) {
+        int seconds = offset.getTotalSeconds();
+        int absolute = Math.abs(seconds);
+        return String.format("%s%02d%02d", seconds < 0 ? "-" : "+", absolute / 3600, (absolute / 60) % 60);
+    }
+}
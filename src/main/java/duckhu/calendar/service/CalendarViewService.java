@@ -0,0 +1,114 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.HolidayDTO;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Notice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 통합 캘린더 월 뷰 서비스
+ * 일정/공휴일/공지사항을 전용 실행자에서 동시에 조회해 하나의 응답으로 합친다.
+ * 소스별 제한 시간을 넘기거나 실패한 소스는 빈 목록으로 두고 오류를 함께 알려 부분 결과를 반환한다.
+ */
+@Service
+@Slf4j
+public class CalendarViewService {
+
+    public static final String SOURCE_SCHEDULES = "schedules";
+    public static final String SOURCE_HOLIDAYS = "holidays";
+    public static final String SOURCE_NOTICES = "notices";
+
+    private final ScheduleService scheduleService;
+    private final HolidayService holidayService;
+    private final NoticeService noticeService;
+    private final Executor executor;
+
+    private final long scheduleTimeoutMs;
+    private final long holidayTimeoutMs;
+    private final long noticeTimeoutMs;
+
+    public CalendarViewService(ScheduleService scheduleService,
+                               HolidayService holidayService,
+                               NoticeService noticeService,
+                               @Qualifier("calendarViewExecutor") Executor executor,
+                               @Value("${app.calendar.timeout.schedules-ms:2000}") long scheduleTimeoutMs,
+                               @Value("${app.calendar.timeout.holidays-ms:1500}") long holidayTimeoutMs,
+                               @Value("${app.calendar.timeout.notices-ms:1000}") long noticeTimeoutMs) {
+        this.scheduleService = scheduleService;
+        this.holidayService = holidayService;
+        this.noticeService = noticeService;
+        this.executor = executor;
+        this.scheduleTimeoutMs = scheduleTimeoutMs;
+        this.holidayTimeoutMs = holidayTimeoutMs;
+        this.noticeTimeoutMs = noticeTimeoutMs;
+    }
+
+    /**
+     * 월 뷰 조회
+     * @return schedules/holidays/notices 목록과 실패한 소스별 오류(errors), 부분 결과 여부(partial)
+     */
+    public Map<String, Object> getMonthView(int year, int month, String countryCode, int noticeLimit) {
+        LocalDate monthStart = LocalDate.of(year, month, 1);
+        LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<List<ScheduleResponseDto>> schedules =
+                submit(() -> scheduleService.getSchedulesByMonth(year, month));
+        CompletableFuture<List<HolidayDTO>> holidays =
+                submit(() -> holidayService.getHolidaysByDateRange(monthStart, monthEnd, countryCode));
+        CompletableFuture<List<Notice>> notices =
+                submit(() -> noticeService.getActiveNotices(noticeLimit));
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(SOURCE_SCHEDULES, await(SOURCE_SCHEDULES, schedules, startNanos, scheduleTimeoutMs, errors));
+        result.put(SOURCE_HOLIDAYS, await(SOURCE_HOLIDAYS, holidays, startNanos, holidayTimeoutMs, errors));
+        result.put(SOURCE_NOTICES, await(SOURCE_NOTICES, notices, startNanos, noticeTimeoutMs, errors));
+        result.put("errors", errors);
+        result.put("partial", !errors.isEmpty());
+        return result;
+    }
+
+    private <T> CompletableFuture<List<T>> submit(Supplier<List<T>> source) {
+        return CompletableFuture.supplyAsync(source, executor);
+    }
+
+    /**
+     * 요청 시작 시각 기준 제한 시간까지 결과를 기다림 (실패/초과 시 빈 목록)
+     */
+    private <T> List<T> await(String source, CompletableFuture<List<T>> future, long startNanos,
+                              long timeoutMs, Map<String, String> errors) {
+        long remainingNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMs) - System.nanoTime();
+        try {
+            return future.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("캘린더 뷰 {} 조회 시간 초과 ({}ms)", source, timeoutMs);
+            errors.put(source, "조회 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.warn("캘린더 뷰 {} 조회 실패: {}", source, cause.getMessage());
+            errors.put(source, cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            errors.put(source, "조회가 중단되었습니다.");
+        }
+        return new ArrayList<>();
+    }
+}
@@ -0,0 +1,143 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.FreeBusyDto;
+import duckhu.calendar.dto.FreeBusyDto.HolidayMark;
+import duckhu.calendar.dto.FreeBusyDto.Interval;
+import duckhu.calendar.dto.HolidayDTO;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일정 가용(free/busy) 집계 서비스
+ * 인메모리 구간 인덱스에서 기간과 겹치는 일정(반복 일정은 발생으로 전개)을 받아, 시작 순으로 한 번 훑으며
+ * 겹치거나 맞닿은 구간을 합친다. 날짜별 바쁜 시간은 합친 구간을 하루 단위로 잘라 더하므로 중복 계산되지 않는다.
+ */
+@Service
+public class FreeBusyService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ScheduleService scheduleService;
+    private final HolidayService holidayService;
+
+    public FreeBusyService(ScheduleService scheduleService, HolidayService holidayService) {
+        this.scheduleService = scheduleService;
+        this.holidayService = holidayService;
+    }
+
+    /**
+     * 기간별 가용 정보 조회
+     * @param category 지정 시 해당 카테고리 일정만 바쁨으로 계산
+     * @param countryCode 공휴일 국가 코드 (null 이면 공휴일 표시 안 함)
+     * @throws IllegalArgumentException 기간 순서 오류 또는 MAX_RANGE_DAYS 초과
+     */
+    public FreeBusyDto getFreeBusy(LocalDate startDate, LocalDate endDate, String category, String countryCode) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 늦거나 같아야 합니다.");
+        }
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay();
+
+        // 기간으로 잘라낸 일정 구간을 시작 순으로 정렬 후 병합
+        List<Interval> windows = new ArrayList<>();
+        for (ScheduleResponseDto schedule : scheduleService.getSchedulesByDateRange(startDate, endDate)) {
+            if (category != null && !category.equals(schedule.getCategory())) {
+                continue;
+            }
+            LocalDateTime start = max(ScheduleTimeWindows.start(schedule), rangeStart);
+            LocalDateTime end = min(ScheduleTimeWindows.end(schedule), rangeEnd);
+            if (start.isBefore(end)) {
+                windows.add(new Interval(start, end));
+            }
+        }
+        List<Interval> busy = merge(windows);
+
+        int[] busyMinutes = new int[days];
+        for (Interval interval : busy) {
+            addMinutes(busyMinutes, startDate, interval);
+        }
+
+        List<HolidayMark> holidays = new ArrayList<>();
+        Set<LocalDate> holidayDates = new LinkedHashSet<>();
+        if (countryCode != null) {
+            for (HolidayDTO holiday : holidayService.getHolidaysByDateRange(startDate, endDate, countryCode)) {
+                holidays.add(new HolidayMark(holiday.getHolidayDate(), holiday.getName()));
+                holidayDates.add(holiday.getHolidayDate());
+            }
+        }
+
+        List<LocalDate> freeDays = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            LocalDate date = startDate.plusDays(i);
+            if (busyMinutes[i] == 0 && !holidayDates.contains(date)) {
+                freeDays.add(date);
+            }
+        }
+        return new FreeBusyDto(startDate, endDate, busy, busyMinutes, holidays, freeDays);
+    }
+
+    /**
+     * sweep line 병합: 시작 순으로 보며 현재 구간과 겹치거나 맞닿으면 종료를 늘리고, 아니면 새 구간 시작
+     */
+    static List<Interval> merge(List<Interval> windows) {
+        windows.sort(Comparator.comparing(Interval::start));
+        List<Interval> merged = new ArrayList<>();
+        LocalDateTime currentStart = null;
+        LocalDateTime currentEnd = null;
+        for (Interval window : windows) {
+            if (currentEnd != null && !window.start().isAfter(currentEnd)) {
+                currentEnd = max(currentEnd, window.end());
+                continue;
+            }
+            if (currentEnd != null) {
+                merged.add(new Interval(currentStart, currentEnd));
+            }
+            currentStart = window.start();
+            currentEnd = window.end();
+        }
+        if (currentEnd != null) {
+            merged.add(new Interval(currentStart, currentEnd));
+        }
+        return merged;
+    }
+
+    /**
+     * 구간을 날짜 경계로 잘라 날짜별 분에 더함
+     */
+    private static void addMinutes(int[] busyMinutes, LocalDate startDate, Interval interval) {
+        LocalDateTime cursor = interval.start();
+        while (cursor.isBefore(interval.end())) {
+            LocalDateTime dayEnd = cursor.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime segmentEnd = min(dayEnd, interval.end());
+            int index = (int) ChronoUnit.DAYS.between(startDate, cursor.toLocalDate());
+            busyMinutes[index] = Math.min(MINUTES_PER_DAY,
+                    busyMinutes[index] + (int) Duration.between(cursor, segmentEnd).toMinutes());
+            cursor = segmentEnd;
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -5,26 +5,34 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import duckhu.calendar.config.PublicDataConfig;
 import duckhu.calendar.dto.HolidayDTO;
 import duckhu.calendar.entity.Holiday;
+import duckhu.calendar.entity.HolidayTombstone;
+import duckhu.calendar.event.HolidayChangedEvent;
 import duckhu.calendar.repository.HolidayRepository;
+import duckhu.calendar.repository.HolidayTombstoneRepository;
+import duckhu.calendar.service.index.MonthVersionRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * 공휴일/국경일 서비스 - 공공데이터 API 연동
+ * 조회 메서드는 트랜잭션 없이 리포지토리를 호출해 리포지토리 재시도/시간 제한(ResilientRepositoryInterceptor)이 적용되게 한다.
  */
 @Service
-@Transactional(readOnly = true)
 @Slf4j
 public class HolidayService {
     private static final int MIN_EXPECTED_HOLIDAYS = 8; // 최소 예상 공휴일 수
@@ -33,16 +41,35 @@ public class HolidayService {
     private final RestTemplate publicDataRestTemplate;
     private final PublicDataConfig publicDataConfig;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MonthVersionRegistry monthVersionRegistry;
+    private final HolidayTombstoneRepository holidayTombstoneRepository;
+    private final long tombstoneRetentionDays;
 
     @Autowired
     public HolidayService(HolidayRepository holidayRepository,
                           @Qualifier("publicDataRestTemplate") RestTemplate publicDataRestTemplate,
                           PublicDataConfig publicDataConfig,
-                          ObjectMapper objectMapper) {
+                          ObjectMapper objectMapper,
+                          ApplicationEventPublisher eventPublisher,
+                          MonthVersionRegistry monthVersionRegistry,
+                          HolidayTombstoneRepository holidayTombstoneRepository,
+                          @Value("${app.schedule.changes.tombstone-retention-days:90}") long tombstoneRetentionDays) {
         this.holidayRepository = holidayRepository;
         this.publicDataRestTemplate = publicDataRestTemplate;
         this.publicDataConfig = publicDataConfig;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.monthVersionRegistry = monthVersionRegistry;
+        this.holidayTombstoneRepository = holidayTombstoneRepository;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    /**
+     * 월별 공휴일 ETag 조회 (데이터 조회 전에 호출)
+     */
+    public String getMonthETag(int year, int month, String countryCode) {
+        return monthVersionRegistry.holidayMonthETag(year, month, countryCode);
     }
 
     /**
@@ -75,7 +102,6 @@ public class HolidayService {
     /**
      * 연도별 공휴일/국경일 조회 (공공데이터 API 연동)
      */
-    @Transactional(readOnly = true)
     public List<HolidayDTO> getHolidaysByYear(int year, String countryCode) {
         List<Holiday> holidays = holidayRepository.findByYearAndCountryCode(year, countryCode);
 
@@ -191,7 +217,7 @@ public class HolidayService {
             }
 
             // DB에 저장
-            int savedCount = 0;
+            Set<LocalDate> savedDates = new HashSet<>();
             for (HolidayDTO holidayDTO : apiHolidays) {
                 if (!holidayRepository.existsByNameAndHolidayDateAndCountryCode(
                         holidayDTO.getName(), holidayDTO.getHolidayDate(), countryCode)) {
@@ -199,9 +225,11 @@ public class HolidayService {
                     Holiday holiday = holidayDTO.toEntity();
                     holiday.setCountryCode(countryCode);
                     holidayRepository.save(holiday);
-                    savedCount++;
+                    savedDates.add(holiday.getHolidayDate());
                 }
             }
+            int savedCount = savedDates.size();
+            publishHolidayChanged(savedDates);
 
             log.info("공공 API에서 {}년 공휴일 {}개를 성공적으로 동기화했습니다.", year, savedCount);
 
@@ -522,7 +550,7 @@ public class HolidayService {
 
         Map<String, HolidayInfo> defaultHolidays = getDefaultKoreanHolidayMap();
 
-        int createdCount = 0;
+        Set<LocalDate> createdDates = new HashSet<>();
         for (Map.Entry<String, HolidayInfo> entry : defaultHolidays.entrySet()) {
             String dateStr = entry.getKey();
             HolidayInfo info = entry.getValue();
@@ -547,14 +575,15 @@ public class HolidayService {
 
                     Holiday holiday = holidayDTO.toEntity();
                     holidayRepository.save(holiday);
-                    createdCount++;
+                    createdDates.add(holidayDate);
                 }
             } catch (Exception e) {
                 log.warn("기본 공휴일 생성 실패 - {}: {}", info.name, e.getMessage());
             }
         }
 
-        log.info("{}년 기본 공휴일 {}개 생성 완료", year, createdCount);
+        publishHolidayChanged(createdDates);
+        log.info("{}년 기본 공휴일 {}개 생성 완료", year, createdDates.size());
     }
 
     /**
@@ -608,6 +637,7 @@ public class HolidayService {
 
         Holiday holiday = holidayDTO.toEntity();
         Holiday savedHoliday = holidayRepository.save(holiday);
+        eventPublisher.publishEvent(HolidayChangedEvent.of(savedHoliday.getHolidayDate()));
 
         log.info("공휴일 등록 완료 - ID: {}, 이름: {}", savedHoliday.getId(), savedHoliday.getName());
 
@@ -623,6 +653,7 @@ public class HolidayService {
 
         Holiday holiday = holidayRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공휴일입니다: " + id));
+        LocalDate previousDate = holiday.getHolidayDate();
 
         // 업데이트
         holiday.setName(holidayDTO.getName());
@@ -634,6 +665,7 @@ public class HolidayService {
         holiday.setColor(holidayDTO.getColor());
 
         Holiday updatedHoliday = holidayRepository.save(holiday);
+        eventPublisher.publishEvent(HolidayChangedEvent.of(previousDate, updatedHoliday.getHolidayDate()));
 
         log.info("공휴일 수정 완료 - ID: {}, 이름: {}", updatedHoliday.getId(), updatedHoliday.getName());
 
@@ -642,20 +674,33 @@ public class HolidayService {
 
     /**
      * 공휴일/국경일 삭제
+     * 같은 트랜잭션에서 삭제 기록을 남겨 iCalendar 피드 동기화 클라이언트에 취소로 전달한다.
      */
     @Transactional
     public void deleteHoliday(Long id) {
         log.info("공휴일 삭제 - ID: {}", id);
 
-        if (!holidayRepository.existsById(id)) {
-            throw new IllegalArgumentException("존재하지 않는 공휴일입니다: " + id);
-        }
+        Holiday holiday = holidayRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공휴일입니다: " + id));
 
-        holidayRepository.deleteById(id);
+        holidayRepository.delete(holiday);
+        holidayTombstoneRepository.save(new HolidayTombstone(holiday.getId(), holiday.getCountryCode()));
+        eventPublisher.publishEvent(HolidayChangedEvent.of(holiday.getHolidayDate()));
 
         log.info("공휴일 삭제 완료 - ID: {}", id);
     }
 
+    /**
+     * 보관 기간이 지난 공휴일 삭제 기록 정리 (일정 삭제 기록과 같은 보관 기간)
+     */
+    @Scheduled(fixedDelayString = "${app.schedule.changes.tombstone-cleanup-interval-ms:3600000}")
+    public void purgeExpiredTombstones() {
+        int purged = holidayTombstoneRepository.deleteExpired(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        if (purged > 0) {
+            log.info("만료된 공휴일 삭제 기록 정리 - {}건", purged);
+        }
+    }
+
     /**
      * 연도별 공휴일 동기화 (관리자용)
      */
@@ -691,6 +736,15 @@ public class HolidayService {
         return stats;
     }
 
+    /**
+     * 공휴일 변경 이벤트 발행 (변경된 날짜가 있을 때만)
+     */
+    private void publishHolidayChanged(Set<LocalDate> dates) {
+        if (!dates.isEmpty()) {
+            eventPublisher.publishEvent(new HolidayChangedEvent(dates));
+        }
+    }
+
     /**
      * 공휴일 정보 내부 클래스
      */
@@ -1,8 +1,11 @@
 package duckhu.calendar.service;
 
 import duckhu.calendar.entity.Notice;
+import duckhu.calendar.enums.NoticeChangeType;
+import duckhu.calendar.event.NoticeChangedEvent;
 import duckhu.calendar.repository.NoticeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -12,13 +15,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 공지사항 서비스
+ * 조회 메서드는 트랜잭션 없이 리포지토리를 호출해 리포지토리 재시도/시간 제한(ResilientRepositoryInterceptor)이 적용되게 한다.
+ */
 @Service
-@Transactional(readOnly = true)
 public class NoticeService {
 
     @Autowired
     private NoticeRepository noticeRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * 활성화된 공지사항 목록 조회 (사용자용)
      * @param limit 조회할 개수
@@ -54,7 +63,9 @@ public class NoticeService {
             notice.setStartDate(LocalDateTime.now());
         }
 
-        return noticeRepository.save(notice);
+        Notice saved = noticeRepository.save(notice);
+        eventPublisher.publishEvent(NoticeChangedEvent.of(NoticeChangeType.CREATED, saved));
+        return saved;
     }
 
     /**
@@ -72,7 +83,9 @@ public class NoticeService {
         existingNotice.setStartDate(updatedNotice.getStartDate());
         existingNotice.setEndDate(updatedNotice.getEndDate());
 
-        return noticeRepository.save(existingNotice);
+        Notice saved = noticeRepository.save(existingNotice);
+        eventPublisher.publishEvent(NoticeChangedEvent.of(NoticeChangeType.UPDATED, saved));
+        return saved;
     }
 
     /**
@@ -84,6 +97,7 @@ public class NoticeService {
             throw new RuntimeException("공지사항을 찾을 수 없습니다.");
         }
         noticeRepository.deleteById(id);
+        eventPublisher.publishEvent(NoticeChangedEvent.deleted(id));
     }
 
     /**
@@ -95,6 +109,8 @@ public class NoticeService {
                 .orElseThrow(() -> new RuntimeException("공지사항을 찾을 수 없습니다."));
 
         notice.setIsActive(!notice.getIsActive());
-        return noticeRepository.save(notice);
+        Notice saved = noticeRepository.save(notice);
+        eventPublisher.publishEvent(NoticeChangedEvent.of(NoticeChangeType.STATUS_CHANGED, saved));
+        return saved;
     }
 }
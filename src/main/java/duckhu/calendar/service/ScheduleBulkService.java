@@ -0,0 +1,256 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleBulkFilterDto;
+import duckhu.calendar.dto.ScheduleBulkUpdateRequestDto;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.enums.ScheduleChangeType;
+import duckhu.calendar.event.ScheduleBatchChangedEvent;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 일정 일괄 수정/삭제 서비스
+ * 조건에 맞는 일정을 행마다 조회·저장하지 않고 ID 묶음 단위 UPDATE/DELETE 로 실행한다.
+ * 대상 행은 먼저 잠그고(SELECT ... FOR UPDATE) 변경 전 스냅샷을 읽은 뒤 잠근 ID만 변경하므로,
+ * 그 사이 커밋된 행이 이벤트 없이 바뀌지 않는다. 인덱스/캐시/실시간 알림에는
+ * 일괄 변경 이벤트 한 건으로 전달한다. 삭제는 같은 트랜잭션에서 삭제 기록(툼스톤)도 한 번에 남긴다.
+ */
+@Service
+@Slf4j
+public class ScheduleBulkService {
+
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    /**
+     * 일정이 덮는 마지막 날짜 (반복 일정은 시리즈 종료일, 끝이 없는 반복이면 NULL 이라 기간 조건에 걸리지 않음)
+     */
+    private static final String COVERAGE_END =
+            "CASE WHEN s.recurrence_rule IS NULL THEN s.end_date ELSE s.series_end_date END";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleResponseAssembler scheduleResponseAssembler;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRows;
+
+    public ScheduleBulkService(ScheduleRepository scheduleRepository,
+                               ScheduleResponseAssembler scheduleResponseAssembler,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${app.schedule.bulk.max-rows:10000}") int maxRows) {
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleResponseAssembler = scheduleResponseAssembler;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 조건에 맞는 일정 일괄 수정
+     * @return 수정된 일정 ID 목록
+     * @throws IllegalArgumentException 조건/변경 항목 없음, 대상이 최대 건수 초과
+     */
+    @Transactional
+    public List<Long> updateSchedules(ScheduleBulkFilterDto filter, ScheduleBulkUpdateRequestDto changes) {
+        if (changes == null || !changes.hasChanges()) {
+            throw new IllegalArgumentException("변경할 항목을 하나 이상 지정해야 합니다.");
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(filter, params);
+        List<ScheduleResponseDto> targets = lockTargets(where, params);
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        String category = changes.getCategory() != null && changes.getCategory().isBlank()
+                ? null : changes.getCategory();
+
+        List<String> assignments = new ArrayList<>();
+        if (changes.getCategory() != null) {
+            assignments.add("category = :newCategory");
+            params.addValue("newCategory", category);
+        }
+        if (changes.getColor() != null) {
+            assignments.add("color = :newColor");
+            params.addValue("newColor", changes.getColor());
+        }
+        if (changes.getPriority() != null) {
+            assignments.add("priority = :newPriority");
+            params.addValue("newPriority", changes.getPriority());
+        }
+        if (changes.getIsFeatured() != null) {
+            assignments.add("is_featured = :newFeatured");
+            params.addValue("newFeatured", changes.getIsFeatured());
+        }
+        assignments.add("updated_at = :now");
+        params.addValue("now", now);
+
+        List<Long> ids = targets.stream().map(ScheduleResponseDto::getId).toList();
+        int updated = updateByIds(
+                "UPDATE schedules SET " + String.join(", ", assignments) + " WHERE id IN (:ids)", params, ids);
+        warnIfMismatched("수정", targets.size(), updated);
+
+        List<ScheduleChangedEvent> events = new ArrayList<>(targets.size());
+        for (ScheduleResponseDto previous : targets) {
+            ScheduleResponseDto current = previous.copy();
+            if (changes.getCategory() != null) {
+                current.setCategory(category);
+            }
+            if (changes.getColor() != null) {
+                current.setColor(changes.getColor());
+            }
+            if (changes.getPriority() != null) {
+                current.setPriority(changes.getPriority());
+            }
+            if (changes.getIsFeatured() != null) {
+                current.setIsFeatured(changes.getIsFeatured());
+            }
+            current.setUpdatedAt(now);
+            events.add(ScheduleChangedEvent.updated(previous, current));
+        }
+        eventPublisher.publishEvent(new ScheduleBatchChangedEvent(ScheduleChangeType.UPDATED, events));
+
+        log.info("일정 일괄 수정 - {}건", updated);
+        return events.stream().map(ScheduleChangedEvent::getScheduleId).toList();
+    }
+
+    /**
+     * 조건에 맞는 일정 일괄 삭제 (이미지/링크 컬렉션 테이블 포함)
+     * @return 삭제된 일정 ID 목록
+     * @throws IllegalArgumentException 조건 없음, 대상이 최대 건수 초과
+     */
+    @Transactional
+    public List<Long> deleteSchedules(ScheduleBulkFilterDto filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(filter, params);
+        List<ScheduleResponseDto> targets = lockTargets(where, params);
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = targets.stream().map(ScheduleResponseDto::getId).toList();
+        MapSqlParameterSource deleteParams = new MapSqlParameterSource()
+                .addValue("now", LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+
+        // 변경분 동기화용 삭제 기록을 먼저 남기고, 컬렉션 테이블 → 일정 순으로 삭제
+        updateByIds("INSERT INTO schedule_tombstones (schedule_id, deleted_at) " +
+                "SELECT id, :now FROM schedules WHERE id IN (:ids)", deleteParams, ids);
+        updateByIds("DELETE FROM schedule_images WHERE schedule_id IN (:ids)", deleteParams, ids);
+        updateByIds("DELETE FROM schedule_links WHERE schedule_id IN (:ids)", deleteParams, ids);
+        updateByIds("DELETE FROM schedule_link_titles WHERE schedule_id IN (:ids)", deleteParams, ids);
+        int deleted = updateByIds("DELETE FROM schedules WHERE id IN (:ids)", deleteParams, ids);
+        warnIfMismatched("삭제", targets.size(), deleted);
+
+        List<ScheduleChangedEvent> events = targets.stream().map(ScheduleChangedEvent::deleted).toList();
+        eventPublisher.publishEvent(new ScheduleBatchChangedEvent(ScheduleChangeType.DELETED, events));
+
+        log.info("일정 일괄 삭제 - {}건", deleted);
+        return events.stream().map(ScheduleChangedEvent::getScheduleId).toList();
+    }
+
+    /**
+     * 조건에 맞는 일정 수 (실행 전 확인용)
+     */
+    @Transactional
+    public long countSchedules(ScheduleBulkFilterDto filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(filter, params);
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedules s WHERE " + where, params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    // === 내부 처리 ===
+
+    /**
+     * 대상 행을 잠그고 변경 전 스냅샷 조회 (ID 순)
+     */
+    private List<ScheduleResponseDto> lockTargets(String where, MapSqlParameterSource params) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT s.id FROM schedules s WHERE " + where + " ORDER BY s.id FOR UPDATE", params, Long.class);
+        if (ids.size() > maxRows) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 일정은 최대 " + maxRows + "건입니다. (대상 "
+                    + ids.size() + "건) 조건을 좁혀주세요.");
+        }
+
+        List<Schedule> schedules = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            schedules.addAll(scheduleRepository.findAllById(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()))));
+        }
+        schedules.sort(Comparator.comparing(Schedule::getId));
+        return scheduleResponseAssembler.toResponseDtos(schedules);
+    }
+
+    /**
+     * 잠근 ID 목록을 묶음으로 나눠 :ids 자리에 바인딩해 실행
+     * @return 변경된 행 수 합계
+     */
+    private int updateByIds(String sql, MapSqlParameterSource params, List<Long> ids) {
+        int affected = 0;
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            params.addValue("ids", ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())));
+            affected += jdbcTemplate.update(sql, params);
+        }
+        return affected;
+    }
+
+    /**
+     * 조건절 생성 (값은 모두 바인딩 파라미터, 조건이 없으면 거부)
+     */
+    private String buildWhere(ScheduleBulkFilterDto filter, MapSqlParameterSource params) {
+        if (filter == null || filter.isEmpty()) {
+            throw new IllegalArgumentException("일괄 작업 대상 조건(기간, 카테고리, 우선순위, 추천 여부)을 하나 이상 지정해야 합니다.");
+        }
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new IllegalArgumentException("종료일은 시작일보다 늦거나 같아야 합니다.");
+        }
+
+        List<String> conditions = new ArrayList<>();
+        if (filter.getStartDate() != null) {
+            conditions.add("s.start_date >= :startDate");
+            params.addValue("startDate", filter.getStartDate());
+        }
+        if (filter.getEndDate() != null) {
+            conditions.add("(" + COVERAGE_END + ") <= :endDate");
+            params.addValue("endDate", filter.getEndDate());
+        }
+        if (filter.getCategory() != null && !filter.getCategory().isBlank()) {
+            conditions.add("s.category = :category");
+            params.addValue("category", filter.getCategory());
+        }
+        if (filter.getPriority() != null) {
+            conditions.add("s.priority = :priority");
+            params.addValue("priority", filter.getPriority());
+        }
+        if (filter.getIsFeatured() != null) {
+            conditions.add("s.is_featured = :featured");
+            params.addValue("featured", filter.getIsFeatured());
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    private void warnIfMismatched(String action, int expected, int actual) {
+        if (expected != actual) {
+            log.warn("일정 일괄 {} 대상 수 불일치 - 잠금 {}건, 실제 {}건", action, expected, actual);
+        }
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+}
@@ -0,0 +1,178 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleConflictDto;
+import duckhu.calendar.dto.ScheduleRequestDto;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.service.recurrence.RecurrenceExpander;
+import duckhu.calendar.service.recurrence.RecurrenceRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * 일정 충돌 감지 서비스
+ * 같은 카테고리(미지정끼리도 같은 그룹)에서 날짜+시간 구간이 겹치는 일정을 찾는다.
+ * 후보는 인메모리 구간 인덱스(ScheduleService.getSchedulesByDateRange)에서 반복 일정을 전개해 가져오고,
+ * 시작 시각 순으로 한 번 훑으며(sweep line) 카테고리별로 아직 끝나지 않은 일정과만 비교한다.
+ * 시간이 없는 종일 일정은 특정 시간대를 차지하지 않으므로 대상에서 제외한다.
+ */
+@Service
+public class ScheduleConflictService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final ScheduleService scheduleService;
+    private final int horizonDays;
+    private final int maxResults;
+
+    public ScheduleConflictService(ScheduleService scheduleService,
+                                   @Value("${app.schedule.conflicts.horizon-days:365}") int horizonDays,
+                                   @Value("${app.schedule.conflicts.max-results:500}") int maxResults) {
+        this.scheduleService = scheduleService;
+        this.horizonDays = horizonDays;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * 저장 전 요청과 충돌하는 일정 조회
+     * @param excludeId 수정 중인 일정 ID (자기 자신 제외, 생성 시 null)
+     * @throws IllegalArgumentException 날짜 누락 또는 잘못된 반복 규칙
+     */
+    public List<ScheduleConflictDto> findConflicts(ScheduleRequestDto request, Long excludeId) {
+        if (request.getStartDate() == null || request.getEndDate() == null || !request.isValidDateRange()) {
+            throw new IllegalArgumentException("시작일과 종료일을 올바르게 입력해주세요.");
+        }
+        ScheduleResponseDto draft = new ScheduleResponseDto();
+        draft.setId(excludeId);
+        draft.setTitle(request.getTitle());
+        draft.setStartDate(request.getStartDate());
+        draft.setEndDate(request.getEndDate());
+        draft.setStartTime(request.getStartTime());
+        draft.setEndTime(request.getEndTime());
+        draft.setCategory(request.getCategory());
+        draft.setPriority(request.getPriority());
+        if (request.getRecurrenceRule() != null && !request.getRecurrenceRule().isBlank()) {
+            RecurrenceRule rule = RecurrenceRule.parse(request.getRecurrenceRule());
+            rule.checkSpan(request.getStartDate());
+            draft.setRecurrenceRule(rule.toString());
+            draft.setRecurrenceExdates(request.getRecurrenceExdates());
+            draft.setSeriesEndDate(RecurrenceExpander.seriesEndDate(rule, request.getStartDate(), request.getEndDate()));
+        }
+        return findConflicts(draft);
+    }
+
+    /**
+     * 저장된 일정과 충돌하는 다른 일정 조회 (반복 일정은 horizon-days 이내의 발생만 검사)
+     */
+    public List<ScheduleConflictDto> findConflicts(ScheduleResponseDto schedule) {
+        if (!isTimed(schedule)) {
+            return List.of();
+        }
+        LocalDate from = schedule.getStartDate();
+        LocalDate coverageEnd = RecurrenceExpander.coverageEnd(schedule);
+        LocalDate horizon = from.plusDays(horizonDays);
+        LocalDate to = coverageEnd == null || coverageEnd.isAfter(horizon) ? horizon : coverageEnd;
+
+        List<Window> windows = new ArrayList<>();
+        for (ScheduleResponseDto occurrence : RecurrenceExpander.expand(List.of(schedule), from, to)) {
+            windows.add(Window.of(occurrence, true));
+        }
+        for (ScheduleResponseDto candidate : scheduleService.getSchedulesByDateRange(from, to)) {
+            if (isTimed(candidate) && Objects.equals(candidate.getCategory(), schedule.getCategory())
+                    && (schedule.getId() == null || !schedule.getId().equals(candidate.getId()))) {
+                windows.add(Window.of(candidate, false));
+            }
+        }
+        return sweep(windows, true);
+    }
+
+    /**
+     * 기간 안의 모든 충돌 쌍을 한 번의 sweep 으로 조회
+     * @param category 지정 시 해당 카테고리만
+     * @throws IllegalArgumentException 기간 순서 오류 또는 MAX_RANGE_DAYS 초과
+     */
+    public List<ScheduleConflictDto> findConflictsInRange(LocalDate startDate, LocalDate endDate, String category) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 늦거나 같아야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("충돌 검사 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        List<Window> windows = new ArrayList<>();
+        for (ScheduleResponseDto schedule : scheduleService.getSchedulesByDateRange(startDate, endDate)) {
+            if (isTimed(schedule) && (category == null || category.equals(schedule.getCategory()))) {
+                windows.add(Window.of(schedule, false));
+            }
+        }
+        return sweep(windows, false);
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    // === sweep line ===
+
+    /**
+     * 시작 시각 순으로 훑으며 카테고리별 진행 중 구간(종료 시각 최소 힙)과 겹침 판정
+     * @param subjectOnly true 면 검사 대상(subject)과 다른 일정 사이의 충돌만 수집
+     */
+    private List<ScheduleConflictDto> sweep(List<Window> windows, boolean subjectOnly) {
+        windows.sort(Comparator.comparing(Window::start).thenComparing(Window::end));
+        Map<String, PriorityQueue<Window>> active = new HashMap<>();
+        List<ScheduleConflictDto> conflicts = new ArrayList<>();
+
+        for (Window window : windows) {
+            PriorityQueue<Window> running = active.computeIfAbsent(categoryKey(window.schedule()),
+                    key -> new PriorityQueue<>(Comparator.comparing(Window::end)));
+            while (!running.isEmpty() && !running.peek().end().isAfter(window.start())) {
+                running.poll();
+            }
+            for (Window other : running) {
+                if (subjectOnly && other.subject() == window.subject()) {
+                    continue;
+                }
+                Window first = !subjectOnly || other.subject() ? other : window;
+                Window second = first == other ? window : other;
+                LocalDateTime overlapEnd = other.end().isBefore(window.end()) ? other.end() : window.end();
+                conflicts.add(new ScheduleConflictDto(first.schedule(), second.schedule(), window.start(), overlapEnd));
+                if (conflicts.size() >= maxResults) {
+                    return conflicts;
+                }
+            }
+            running.add(window);
+        }
+        return conflicts;
+    }
+
+    private static String categoryKey(ScheduleResponseDto schedule) {
+        return schedule.getCategory() != null ? schedule.getCategory() : "";
+    }
+
+    /**
+     * 시작 또는 종료 시간이 있는 일정만 시간대 충돌 대상
+     */
+    private static boolean isTimed(ScheduleResponseDto schedule) {
+        return ScheduleTimeWindows.isTimed(schedule);
+    }
+
+    /**
+     * 일정(발생)이 차지하는 [start, end) 구간
+     */
+    private record Window(ScheduleResponseDto schedule, LocalDateTime start, LocalDateTime end, boolean subject) {
+
+        static Window of(ScheduleResponseDto schedule, boolean subject) {
+            return new Window(schedule, ScheduleTimeWindows.start(schedule), ScheduleTimeWindows.end(schedule), subject);
+        }
+    }
+}
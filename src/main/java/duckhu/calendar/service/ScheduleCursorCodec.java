@@ -0,0 +1,94 @@
+package duckhu.calendar.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 일정 목록 커서 인코더/디코더
+ * keyset 위치(정렬 키 값 + id)를 정렬 기준과 함께 불투명한 base64url 문자열로 변환한다.
+ * 조회수(viewCount)는 커서를 만든 시점에 DB에 반영된 값이다. 이후 반영으로 값이 바뀔 수 있어 views 정렬의
+ * 이어 읽기는 근사적이다 (ScheduleService.getSchedulePage 참고).
+ */
+public final class ScheduleCursorCodec {
+
+    private static final String VERSION = "v1";
+
+    /**
+     * 정렬 키 속성별 역직렬화 함수
+     */
+    private static final Map<String, Function<String, Object>> KEY_PARSERS = Map.of(
+            "id", Long::valueOf,
+            "startDate", LocalDate::parse,
+            "priority", Integer::valueOf,
+            "viewCount", Integer::valueOf,
+            "createdAt", LocalDateTime::parse,
+            "title", value -> value
+    );
+
+    private ScheduleCursorCodec() {
+    }
+
+    /**
+     * keyset 위치를 커서 문자열로 인코딩
+     */
+    public static String encode(String sortBy, KeysetScrollPosition position) {
+        StringBuilder raw = new StringBuilder(VERSION).append(':').append(sortBy).append(':');
+        boolean first = true;
+        for (Map.Entry<String, ?> key : position.getKeys().entrySet()) {
+            if (!first) {
+                raw.append('&');
+            }
+            raw.append(key.getKey()).append('=')
+                    .append(URLEncoder.encode(String.valueOf(key.getValue()), StandardCharsets.UTF_8));
+            first = false;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 keyset 위치로 디코딩
+     * @throws IllegalArgumentException 형식이 잘못되었거나 다른 정렬 기준의 커서인 경우
+     */
+    public static KeysetScrollPosition decode(String sortBy, String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+        }
+
+        String[] parts = raw.split(":", 3);
+        if (parts.length != 3 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+        }
+        if (!parts[1].equals(sortBy)) {
+            throw new IllegalArgumentException("커서의 정렬 기준(" + parts[1] + ")이 요청(" + sortBy + ")과 다릅니다.");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (String pair : parts[2].split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            Function<String, Object> parser = keyValue.length == 2 ? KEY_PARSERS.get(keyValue[0]) : null;
+            if (parser == null) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            }
+            try {
+                keys.put(keyValue[0], parser.apply(URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
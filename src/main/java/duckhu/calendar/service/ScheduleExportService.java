@@ -0,0 +1,87 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Schedule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 일정 스트리밍 내보내기 서비스
+ * 전체 일정을 id keyset 청크(fetch size 단위)로 나눠 읽고, 청크마다 짧은 읽기 트랜잭션을 쓴다.
+ * 소비자(응답 기록)는 트랜잭션 밖에서 호출되므로 느린 클라이언트가 커넥션을 붙잡지 않으며,
+ * 결과 크기와 관계없이 메모리에는 한 청크만 유지된다.
+ * 청크 사이에 다른 트랜잭션이 커밋될 수 있어 전체가 한 시점의 스냅샷은 아니지만, 각 일정은 많아야 한 번 나온다.
+ */
+@Service
+@Slf4j
+public class ScheduleExportService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ScheduleResponseAssembler scheduleResponseAssembler;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public ScheduleExportService(ScheduleResponseAssembler scheduleResponseAssembler,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.schedule.stream.fetch-size:500}") int fetchSize) {
+        this.scheduleResponseAssembler = scheduleResponseAssembler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 전체 일정을 id 순으로 읽어 청크 단위로 전달
+     * @param chunkConsumer fetch size 이하 크기의 DTO 청크를 받는 소비자 (트랜잭션 밖에서 호출)
+     * @return 전달한 일정 수
+     */
+    public long streamAll(Consumer<List<ScheduleResponseDto>> chunkConsumer) {
+        long count = 0;
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            List<ScheduleResponseDto> chunk = transactionTemplate.execute(status -> readChunk(after));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            chunkConsumer.accept(chunk);
+            count += chunk.size();
+            if (chunk.size() < fetchSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+
+        log.debug("일정 스트리밍 완료 - {}건 (fetch size {})", count, fetchSize);
+        return count;
+    }
+
+    /**
+     * afterId 다음부터 fetch size 만큼 읽어 DTO로 변환 (트랜잭션 안에서 호출)
+     */
+    private List<ScheduleResponseDto> readChunk(long afterId) {
+        List<Schedule> schedules = entityManager
+                .createQuery("SELECT s FROM Schedule s WHERE s.id > :afterId ORDER BY s.id", Schedule.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+        List<ScheduleResponseDto> chunk = scheduleResponseAssembler.toResponseDtos(schedules);
+        entityManager.clear();
+        return chunk;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+}
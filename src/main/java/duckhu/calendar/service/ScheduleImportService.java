@@ -0,0 +1,430 @@
+package duckhu.calendar.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duckhu.calendar.dto.ScheduleImportResultDto;
+import duckhu.calendar.dto.ScheduleImportResultDto.RowError;
+import duckhu.calendar.dto.ScheduleRequestDto;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.LocalDateListConverter;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.enums.ScheduleChangeType;
+import duckhu.calendar.event.ScheduleBatchChangedEvent;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.service.csv.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 대량 등록 서비스
+ * JSON 배열 또는 CSV를 한 행씩 읽어 단건 등록과 같은 규칙(ScheduleRequestDto 제약 + ScheduleService 검증)으로 검사하고,
+ * 통과한 행을 배치 크기만큼 모아 JDBC 배치 INSERT로 저장한다. 배치마다 별도 트랜잭션으로 커밋하며,
+ * 실패한 행은 건너뛰고 행 번호와 사유를 모아 돌려준다. 인메모리 인덱스는 등록이 끝난 뒤(중단된 경우 포함) 한 번에 갱신한다.
+ */
+@Service
+@Slf4j
+public class ScheduleImportService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String INSERT_SCHEDULE = "INSERT INTO schedules " +
+            "(title, start_date, end_date, start_time, end_time, description, priority, color, category, " +
+            "is_featured, view_count, recurrence_rule, recurrence_exdates, series_end_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IMAGE = "INSERT INTO schedule_images (schedule_id, image_url) VALUES (?, ?)";
+    private static final String INSERT_LINK = "INSERT INTO schedule_links (schedule_id, link_url) VALUES (?, ?)";
+    private static final String INSERT_LINK_TITLE = "INSERT INTO schedule_link_titles (schedule_id, link_title) VALUES (?, ?)";
+
+    /**
+     * CSV에서 여러 값을 담는 열 (값은 | 로 구분)
+     */
+    private static final Set<String> CSV_LIST_COLUMNS = Set.of("images", "links", "linkTitles", "recurrenceExdates");
+    private static final String CSV_LIST_SEPARATOR = "\\|";
+
+    private static final Map<String, String> CSV_COLUMNS = Arrays.stream(new String[]{
+            "title", "startDate", "endDate", "startTime", "endTime", "description", "priority", "color",
+            "category", "images", "links", "linkTitles", "isFeatured", "recurrenceRule", "recurrenceExdates"
+    }).collect(Collectors.toMap(name -> name.toLowerCase(Locale.ROOT), Function.identity()));
+
+    private final ScheduleService scheduleService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LocalDateListConverter dateListConverter = new LocalDateListConverter();
+    private final int batchSize;
+    private final int maxRows;
+    private final int maxErrors;
+
+    public ScheduleImportService(ScheduleService scheduleService,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.schedule.import.batch-size:500}") int batchSize,
+                                 @Value("${app.schedule.import.max-rows:50000}") int maxRows,
+                                 @Value("${app.schedule.import.max-errors:1000}") int maxErrors) {
+        this.scheduleService = scheduleService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * JSON 배열 대량 등록 ([{title, startDate, ...}, ...] - 단건 등록 요청과 같은 형식)
+     * 최대 행 수를 넘거나 도중에 JSON 문법 오류가 나면 그 앞까지 등록하고 abortReason에 사유를 담는다.
+     * @throws IllegalArgumentException 배열이 아니거나 시작 부분의 JSON 문법 오류
+     */
+    public ScheduleImportResultDto importJson(InputStream in) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("일정 목록은 JSON 배열이어야 합니다.");
+            }
+            return run(() -> {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.END_ARRAY || token == null) {
+                    return null;
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    return objectMapper.treeToValue(node, ScheduleRequestDto.class);
+                } catch (JsonProcessingException e) {
+                    throw new RowFormatException("형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                }
+            });
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * CSV 대량 등록
+     * 첫 줄은 열 이름(ScheduleRequestDto 필드명, 대소문자 무시)이며, images/links/linkTitles/recurrenceExdates는 | 로 구분한다.
+     * 최대 행 수를 넘거나 도중에 따옴표 오류가 나면 그 앞까지 등록하고 abortReason에 사유를 담는다.
+     * @throws IllegalArgumentException 헤더 누락/알 수 없는 열
+     */
+    public ScheduleImportResultDto importCsv(InputStream in) throws IOException {
+        CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        String[] columns = new String[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("﻿", "").trim();
+            columns[i] = CSV_COLUMNS.get(name.toLowerCase(Locale.ROOT));
+            if (columns[i] == null) {
+                throw new IllegalArgumentException("알 수 없는 CSV 열입니다: " + name);
+            }
+        }
+
+        return run(() -> {
+            List<String> record = reader.next();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() > columns.length) {
+                throw new RowFormatException("열 개수가 헤더보다 많습니다.");
+            }
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < record.size(); i++) {
+                String value = record.get(i);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                values.put(columns[i], CSV_LIST_COLUMNS.contains(columns[i])
+                        ? Arrays.stream(value.split(CSV_LIST_SEPARATOR)).map(String::trim).filter(v -> !v.isEmpty()).toList()
+                        : value);
+            }
+            try {
+                return objectMapper.convertValue(values, ScheduleRequestDto.class);
+            } catch (IllegalArgumentException e) {
+                throw new RowFormatException("형식이 올바르지 않습니다: " + rootMessage(e));
+            }
+        });
+    }
+
+    // === 공통 처리 ===
+
+    private ScheduleImportResultDto run(RowSource source) throws IOException {
+        long started = System.currentTimeMillis();
+        List<RowError> errors = new ArrayList<>();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        List<ScheduleChangedEvent> changes = new ArrayList<>();
+        int total = 0;
+        int imported = 0;
+        int failed = 0;
+        String abortReason = null;
+
+        try {
+            while (true) {
+                ScheduleRequestDto request = null;
+                String error = null;
+                try {
+                    request = source.next();
+                    if (request == null) {
+                        break;
+                    }
+                } catch (RowFormatException e) {
+                    error = e.getMessage();
+                } catch (JsonProcessingException e) {
+                    abortReason = "JSON 형식이 올바르지 않아 " + (total + 1) + "번째 항목부터 등록하지 않았습니다: "
+                            + e.getOriginalMessage();
+                    break;
+                } catch (IllegalArgumentException e) {
+                    abortReason = e.getMessage() + " (" + (total + 1) + "번째 행부터 등록하지 않았습니다.)";
+                    break;
+                }
+
+                // 이미 커밋된 배치가 있을 수 있으므로 예외 대신 여기서 멈추고 부분 결과를 돌려준다
+                if (total >= maxRows) {
+                    abortReason = "한 번에 등록할 수 있는 일정은 최대 " + maxRows + "건이라 이후 행은 등록하지 않았습니다.";
+                    break;
+                }
+                total++;
+
+                if (error == null) {
+                    error = validate(request);
+                }
+                if (error != null) {
+                    failed++;
+                    addError(errors, total, error);
+                    continue;
+                }
+                try {
+                    batch.add(new PendingRow(total, scheduleService.prepareNewSchedule(request)));
+                } catch (RuntimeException e) {
+                    failed++;
+                    addError(errors, total, e.getMessage());
+                    continue;
+                }
+
+                if (batch.size() >= batchSize) {
+                    int saved = flush(batch, errors, changes);
+                    imported += saved;
+                    failed += batch.size() - saved;
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                int saved = flush(batch, errors, changes);
+                imported += saved;
+                failed += batch.size() - saved;
+            }
+        } finally {
+            // 인덱스/캐시/실시간 알림은 배치마다가 아니라 등록 전체에 대해 한 번만 반영
+            // 입력이 중간에 끊겨도 이미 커밋된 배치는 반영해야 하므로 finally에서 발행
+            if (!changes.isEmpty()) {
+                eventPublisher.publishEvent(new ScheduleBatchChangedEvent(ScheduleChangeType.CREATED, changes));
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        if (abortReason != null) {
+            log.warn("일정 대량 등록 중단 - {}", abortReason);
+        }
+        log.info("일정 대량 등록 완료 - 전체 {}건, 저장 {}건, 실패 {}건, {}ms", total, imported, failed, elapsed);
+        return new ScheduleImportResultDto(total, imported, failed, errors, failed > errors.size(), abortReason, elapsed);
+    }
+
+    /**
+     * Bean Validation 제약 + 요청 DTO 자체 검증 (단건 등록 컨트롤러와 같은 규칙)
+     */
+    private String validate(ScheduleRequestDto request) {
+        Set<ConstraintViolation<ScheduleRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (!request.isValid()) {
+            return "날짜, 시간, 이미지, 링크 정보를 다시 확인해주세요.";
+        }
+        return null;
+    }
+
+    private void addError(List<RowError> errors, int row, String message) {
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    /**
+     * 배치 저장 (실패 시 배치의 모든 행을 오류로 기록)
+     * @param changes 저장된 일정의 변경 이벤트를 모으는 목록
+     * @return 저장한 행 수
+     */
+    private int flush(List<PendingRow> batch, List<RowError> errors, List<ScheduleChangedEvent> changes) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        try {
+            changes.addAll(transactionTemplate.execute(status ->
+                    jdbcTemplate.execute((ConnectionCallback<List<ScheduleChangedEvent>>) connection ->
+                            insertBatch(connection, batch, now))));
+        } catch (RuntimeException e) {
+            log.warn("일정 대량 등록 배치 저장 실패 ({}건): {}", batch.size(), rootMessage(e));
+            for (PendingRow row : batch) {
+                addError(errors, row.row(), "저장 실패: " + rootMessage(e));
+            }
+            return 0;
+        }
+        return batch.size();
+    }
+
+    private List<ScheduleChangedEvent> insertBatch(Connection connection, List<PendingRow> batch,
+                                                   LocalDateTime now) throws SQLException {
+        List<Schedule> schedules = batch.stream().map(PendingRow::schedule).toList();
+
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SCHEDULE, new String[]{"id"})) {
+            for (Schedule schedule : schedules) {
+                int i = 1;
+                ps.setString(i++, schedule.getTitle());
+                ps.setObject(i++, schedule.getStartDate());
+                ps.setObject(i++, schedule.getEndDate());
+                setNullable(ps, i++, schedule.getStartTime(), Types.TIME);
+                setNullable(ps, i++, schedule.getEndTime(), Types.TIME);
+                setNullable(ps, i++, schedule.getDescription(), Types.VARCHAR);
+                ps.setInt(i++, schedule.getPriority() != null ? schedule.getPriority() : 2);
+                ps.setString(i++, schedule.getColor());
+                setNullable(ps, i++, schedule.getCategory(), Types.VARCHAR);
+                ps.setBoolean(i++, Boolean.TRUE.equals(schedule.getIsFeatured()));
+                setNullable(ps, i++, schedule.getRecurrenceRule(), Types.VARCHAR);
+                setNullable(ps, i++, dateListConverter.convertToDatabaseColumn(schedule.getRecurrenceExdates()), Types.VARCHAR);
+                setNullable(ps, i++, schedule.getSeriesEndDate(), Types.DATE);
+                ps.setObject(i++, now);
+                ps.setObject(i, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                int index = 0;
+                while (keys.next()) {
+                    schedules.get(index++).setId(keys.getLong(1));
+                }
+                if (index != schedules.size()) {
+                    throw new SQLException("생성된 일정 ID 수가 일치하지 않습니다: " + index + "/" + schedules.size());
+                }
+            }
+        }
+
+        insertElements(connection, INSERT_IMAGE, schedules, Schedule::getImages);
+        insertElements(connection, INSERT_LINK, schedules, Schedule::getLinks);
+        insertElements(connection, INSERT_LINK_TITLE, schedules, Schedule::getLinkTitles);
+
+        List<ScheduleChangedEvent> changes = new ArrayList<>(schedules.size());
+        for (Schedule schedule : schedules) {
+            schedule.setViewCount(0);
+            schedule.setCreatedAt(now);
+            schedule.setUpdatedAt(now);
+            changes.add(ScheduleChangedEvent.created(ScheduleResponseDto.detached(schedule)));
+        }
+        return changes;
+    }
+
+    /**
+     * 컬렉션 테이블 배치 INSERT
+     */
+    private void insertElements(Connection connection, String sql, List<Schedule> schedules,
+                                Function<Schedule, List<String>> values) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            int count = 0;
+            for (Schedule schedule : schedules) {
+                List<String> elements = values.apply(schedule);
+                if (elements == null) {
+                    continue;
+                }
+                for (String element : elements) {
+                    ps.setLong(1, schedule.getId());
+                    ps.setString(2, element);
+                    ps.addBatch();
+                    count++;
+                }
+            }
+            if (count > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // === 내부 타입 ===
+
+    /**
+     * 한 행씩 요청 DTO를 돌려주는 입력 (끝이면 null, 행 단위 형식 오류는 RowFormatException)
+     */
+    @FunctionalInterface
+    private interface RowSource {
+        ScheduleRequestDto next() throws IOException;
+    }
+
+    private record PendingRow(int row, Schedule schedule) {
+    }
+
+    /**
+     * 해당 행만 건너뛰면 되는 형식 오류
+     */
+    private static class RowFormatException extends RuntimeException {
+        RowFormatException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.repository.ScheduleRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 일정 목록 응답 조립기
+ * 일정마다 이미지/링크/링크 제목 컬렉션을 지연 로딩하면 행당 최대 3번의 추가 조회가 발생하므로,
+ * 목록의 일정 ID로 세 컬렉션을 한꺼번에 읽어 고정된 쿼리 수로 DTO를 만든다.
+ */
+@Component
+public class ScheduleResponseAssembler {
+
+    /**
+     * IN 절 한 번에 넣을 최대 ID 수
+     */
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+
+    public ScheduleResponseAssembler(ScheduleRepository scheduleRepository) {
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    /**
+     * 일정 목록을 응답 DTO 목록으로 변환 (입력 순서 유지)
+     */
+    public List<ScheduleResponseDto> toResponseDtos(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = schedules.stream().map(Schedule::getId).toList();
+        Map<Long, List<String>> images = loadGrouped(ids, scheduleRepository::findImagesByScheduleIds);
+        Map<Long, List<String>> links = loadGrouped(ids, scheduleRepository::findLinksByScheduleIds);
+        Map<Long, List<String>> linkTitles = loadGrouped(ids, scheduleRepository::findLinkTitlesByScheduleIds);
+
+        List<ScheduleResponseDto> result = new ArrayList<>(schedules.size());
+        for (Schedule schedule : schedules) {
+            Long id = schedule.getId();
+            result.add(ScheduleResponseDto.of(schedule,
+                    images.getOrDefault(id, new ArrayList<>()),
+                    links.getOrDefault(id, new ArrayList<>()),
+                    linkTitles.getOrDefault(id, new ArrayList<>())));
+        }
+        return result;
+    }
+
+    /**
+     * (일정 ID, 값) 행을 일정 ID별 목록으로 묶음
+     */
+    private Map<Long, List<String>> loadGrouped(List<Long> ids,
+                                                Function<Collection<Long>, List<Object[]>> query) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            for (Object[] row : query.apply(chunk)) {
+                grouped.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return grouped;
+    }
+}
@@ -1,22 +1,44 @@
 package duckhu.calendar.service;
 
+import duckhu.calendar.dto.ScheduleDensityDto;
+import duckhu.calendar.dto.SchedulePageResponseDto;
 import duckhu.calendar.dto.ScheduleRequestDto;
 import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.dto.ScheduleSlimDto;
+import duckhu.calendar.dto.SuggestionDto;
 import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.event.ScheduleChangedEvent;
 import duckhu.calendar.repository.ScheduleRepository;
+import duckhu.calendar.repository.ScheduleSlimView;
+import duckhu.calendar.service.index.MonthViewCache;
+import duckhu.calendar.service.index.MonthVersionRegistry;
+import duckhu.calendar.service.index.ScheduleDensityIndex;
+import duckhu.calendar.service.index.ScheduleIntervalIndex;
+import duckhu.calendar.service.index.ScheduleRankingIndex;
+import duckhu.calendar.service.index.ScheduleSearchIndex;
+import duckhu.calendar.service.index.ScheduleStatisticsIndex;
+import duckhu.calendar.service.index.ScheduleSuggestIndex;
+import duckhu.calendar.service.recurrence.RecurrenceExpander;
+import duckhu.calendar.service.recurrence.RecurrenceRule;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * 향상된 일정 서비스
@@ -25,7 +47,29 @@ import java.util.stream.Collectors;
 @Service
 public class ScheduleService {
 
+    /**
+     * 목록 페이지 크기 기본값/최대값
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 날짜 범위 조회 최대 일수 (반복 일정 전개량 제한)
+     */
+    public static final int MAX_RANGE_DAYS = 366;
+
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleResponseAssembler scheduleResponseAssembler;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final ScheduleRankingIndex scheduleRankingIndex;
+    private final ScheduleSearchIndex scheduleSearchIndex;
+    private final ScheduleSuggestIndex scheduleSuggestIndex;
+    private final ScheduleStatisticsIndex scheduleStatisticsIndex;
+    private final ScheduleDensityIndex scheduleDensityIndex;
+    private final MonthViewCache monthViewCache;
+    private final MonthVersionRegistry monthVersionRegistry;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 기본 색상 배열 (확장됨)
     private final String[] DEFAULT_COLORS = {
@@ -38,72 +82,98 @@ public class ScheduleService {
     };
 
     @Autowired
-    public ScheduleService(ScheduleRepository scheduleRepository) {
+    public ScheduleService(ScheduleRepository scheduleRepository,
+                           ScheduleResponseAssembler scheduleResponseAssembler,
+                           ScheduleIntervalIndex scheduleIntervalIndex,
+                           ScheduleRankingIndex scheduleRankingIndex,
+                           ScheduleSearchIndex scheduleSearchIndex,
+                           ScheduleSuggestIndex scheduleSuggestIndex,
+                           ScheduleStatisticsIndex scheduleStatisticsIndex,
+                           ScheduleDensityIndex scheduleDensityIndex,
+                           MonthViewCache monthViewCache,
+                           MonthVersionRegistry monthVersionRegistry,
+                           ViewCountAccumulator viewCountAccumulator,
+                           ApplicationEventPublisher eventPublisher) {
         this.scheduleRepository = scheduleRepository;
+        this.scheduleResponseAssembler = scheduleResponseAssembler;
+        this.scheduleIntervalIndex = scheduleIntervalIndex;
+        this.scheduleRankingIndex = scheduleRankingIndex;
+        this.scheduleSearchIndex = scheduleSearchIndex;
+        this.scheduleSuggestIndex = scheduleSuggestIndex;
+        this.scheduleStatisticsIndex = scheduleStatisticsIndex;
+        this.scheduleDensityIndex = scheduleDensityIndex;
+        this.monthViewCache = monthViewCache;
+        this.monthVersionRegistry = monthVersionRegistry;
+        this.viewCountAccumulator = viewCountAccumulator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 커서(keyset) 기반 일정 목록 조회
+     * OFFSET 없이 마지막 행의 정렬 키 이후만 읽으므로 테이블 크기와 무관하게 페이지 비용이 일정하다.
+     * views 정렬은 DB에 반영된 조회수(view_count) 스냅샷 + id 로 이어 읽는다. 조회수는 증가만 하므로 같은 일정이
+     * 두 번 나오지는 않지만, 아직 읽지 않은 일정의 조회수가 페이지 사이에 반영되어 커서 앞으로 올라가면 그 순회에서는 빠진다.
+     * @param sortBy 정렬 기준 (date, priority, views, created, title)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 일정 페이지
+     */
+    public SchedulePageResponseDto<ScheduleResponseDto> getSchedulePage(String sortBy, String cursor, Integer size) {
+        return scrollPage(sortBy, cursor, size, scheduleRepository::findAllBy,
+                scheduleResponseAssembler::toResponseDtos);
     }
 
     /**
-     * 정렬 옵션을 포함한 모든 일정 조회
-     * @param sortBy 정렬 기준 (date, priority, views, created)
-     * @return 일정 목록
+     * 커서(keyset) 기반 경량 일정 목록 조회
+     * 그리드에 필요한 컬럼만 프로젝션으로 읽으므로 설명(TEXT)과 이미지/링크 컬렉션 테이블에 접근하지 않는다.
+     * 커서는 getSchedulePage 와 호환된다.
      */
-    //@Transactional(readOnly = true) //읽기전용 메서드에서 supabase pooler와 spring boot의 @transactional 충돌
-    public List<ScheduleResponseDto> getAllSchedules(String sortBy) {
-        int maxRetries = 3;
-        int retryCount = 0;
+    public SchedulePageResponseDto<ScheduleSlimDto> getSlimSchedulePage(String sortBy, String cursor, Integer size) {
+        return scrollPage(sortBy, cursor, size,
+                (position, sort, limit) -> scheduleRepository.findAllBy(position, sort, limit, ScheduleSlimView.class),
+                views -> views.stream().map(ScheduleSlimDto::from).toList());
+    }
 
-        while (retryCount < maxRetries) {
-            try {
-                List<Schedule> schedules = scheduleRepository.findAll();
-                return schedules.stream()
-                        .map(ScheduleResponseDto::from)
-                        .collect(Collectors.toList());
-
-            } catch (Exception e) {
-                retryCount++;
-                System.err.println("데이터베이스 조회 실패 (시도 " + retryCount + "/" + maxRetries + "): " + e.getMessage());
-
-                if (retryCount >= maxRetries) {
-                    System.err.println("최대 재시도 횟수 초과. 에러를 던집니다.");
-                    throw new RuntimeException("일정 조회에 실패했습니다. 잠시 후 다시 시도해주세요.", e);
-                }
-
-                // 재시도 전 잠시 대기 (100ms씩 증가)
-                try {
-                    Thread.sleep(100 * retryCount);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("일정 조회 중 인터럽트가 발생했습니다.", ie);
-                }
-            }
+    private <T, R> SchedulePageResponseDto<R> scrollPage(String sortBy, String cursor, Integer size,
+                                                         WindowQuery<T> query, Function<List<T>, List<R>> converter) {
+        String normalizedSortBy = normalizeSortBy(sortBy);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        KeysetScrollPosition position = (cursor == null || cursor.isBlank())
+                ? ScrollPosition.keyset()
+                : ScheduleCursorCodec.decode(normalizedSortBy, cursor);
+
+        Window<T> window = query.find(position, createSort(normalizedSortBy), Limit.of(pageSize));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = ScheduleCursorCodec.encode(normalizedSortBy,
+                    (KeysetScrollPosition) window.positionAt(window.size() - 1));
         }
 
-        // 이 코드에는 도달하지 않지만 컴파일 에러 방지
-        return new ArrayList<>();
+        return new SchedulePageResponseDto<>(converter.apply(window.getContent()),
+                normalizedSortBy, pageSize, nextCursor);
     }
 
-    /**
-     * 기본 모든 일정 조회 (날짜순 정렬)
-     */
-    public List<ScheduleResponseDto> getAllSchedules() {
-        return getAllSchedules("date");
+    @FunctionalInterface
+    private interface WindowQuery<T> {
+        Window<T> find(ScrollPosition position, Sort sort, Limit limit);
     }
 
     /**
      * ID로 일정 조회 및 조회수 증가
+     * 조회수는 누산기에만 더하고 주기적으로 DB에 반영하므로 행 잠금/UPDATE가 발생하지 않음
      * @param id 일정 ID
      * @return 일정 정보
      */
-    @Transactional
     public ScheduleResponseDto getScheduleByIdWithViewCount(Long id) {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다. ID: " + id));
 
         // 조회수 증가
-        schedule.incrementViewCount();
-        scheduleRepository.save(schedule);
+        viewCountAccumulator.increment(id);
 
-        return ScheduleResponseDto.from(schedule);
+        return withPendingViews(ScheduleResponseDto.from(schedule));
     }
 
     /**
@@ -112,7 +182,7 @@ public class ScheduleService {
     public ScheduleResponseDto getScheduleById(Long id) {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다. ID: " + id));
-        return ScheduleResponseDto.from(schedule);
+        return withPendingViews(ScheduleResponseDto.from(schedule));
     }
 
     /**
@@ -122,6 +192,21 @@ public class ScheduleService {
      */
     @Transactional
     public ScheduleResponseDto createSchedule(ScheduleRequestDto requestDto) {
+        Schedule schedule = prepareNewSchedule(requestDto);
+
+        // 데이터베이스에 저장
+        Schedule savedSchedule = scheduleRepository.save(schedule);
+        ScheduleResponseDto response = ScheduleResponseDto.detached(savedSchedule);
+        eventPublisher.publishEvent(ScheduleChangedEvent.created(response));
+        return response;
+    }
+
+    /**
+     * 요청 검증 후 저장 전 엔티티 생성 (기본 색상, 링크 제목 채움)
+     * 대량 등록(ScheduleImportService)도 같은 규칙을 쓰도록 분리
+     * @throws RuntimeException 검증 실패
+     */
+    Schedule prepareNewSchedule(ScheduleRequestDto requestDto) {
         // 유효성 검사
         validateScheduleRequest(requestDto);
 
@@ -137,10 +222,7 @@ public class ScheduleService {
         if (schedule.getLinks() != null && !schedule.getLinks().isEmpty()) {
             generateLinkTitlesIfNeeded(schedule);
         }
-
-        // 데이터베이스에 저장
-        Schedule savedSchedule = scheduleRepository.save(schedule);
-        return ScheduleResponseDto.from(savedSchedule);
+        return schedule;
     }
 
     /**
@@ -158,12 +240,16 @@ public class ScheduleService {
         // 유효성 검사
         validateScheduleRequest(requestDto);
 
+        ScheduleResponseDto previous = ScheduleResponseDto.detached(existingSchedule);
+
         // 기존 일정 정보 업데이트
         updateScheduleEntity(existingSchedule, requestDto);
 
         // 데이터베이스에 저장
         Schedule updatedSchedule = scheduleRepository.save(existingSchedule);
-        return ScheduleResponseDto.from(updatedSchedule);
+        ScheduleResponseDto response = ScheduleResponseDto.detached(updatedSchedule);
+        eventPublisher.publishEvent(ScheduleChangedEvent.updated(previous, response));
+        return response;
     }
 
     /**
@@ -175,57 +261,119 @@ public class ScheduleService {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("삭제할 일정을 찾을 수 없습니다. ID: " + id));
 
+        ScheduleResponseDto previous = ScheduleResponseDto.detached(schedule);
         scheduleRepository.delete(schedule);
+        eventPublisher.publishEvent(ScheduleChangedEvent.deleted(previous));
     }
 
     /**
      * 특정 날짜의 일정 조회
+     * 인메모리 구간 인덱스가 적재되어 있으면 DB 조회 없이 응답하고, 아니면 리포지토리로 폴백
+     * 반복 일정은 해당 날짜의 발생으로 전개해 반환
+     * 조회수는 싣지 않음 (withoutViewCounts 참고)
      * @param date 조회할 날짜
      * @return 해당 날짜의 일정 목록
      */
     public List<ScheduleResponseDto> getSchedulesByDate(LocalDate date) {
+        if (scheduleIntervalIndex.isReady()) {
+            return withoutViewCounts(scheduleIntervalIndex.findByDate(date));
+        }
+
         List<Schedule> schedules = scheduleRepository.findSchedulesByDate(date);
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+        List<ScheduleResponseDto> result =
+                RecurrenceExpander.expand(scheduleResponseAssembler.toResponseDtos(schedules), date, date);
+        result.sort(ScheduleIntervalIndex.DATE_ORDER);
+        return withoutViewCounts(result);
     }
 
     /**
      * 특정 날짜 범위의 일정 조회
+     * 인메모리 구간 인덱스가 적재되어 있으면 DB 조회 없이 응답하고, 아니면 리포지토리로 폴백
+     * 반복 일정은 시리즈 한 건만 읽고 범위 안의 발생으로 전개해 반환
+     * 조회수는 싣지 않음 (withoutViewCounts 참고)
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
      * @return 해당 범위의 일정 목록
+     * @throws IllegalArgumentException 기간 순서 오류, MAX_RANGE_DAYS 초과 또는 반복 발생 한도 초과
      */
     public List<ScheduleResponseDto> getSchedulesByDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 늦거나 같아야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        if (scheduleIntervalIndex.isReady()) {
+            return withoutViewCounts(scheduleIntervalIndex.findByDateRange(startDate, endDate));
+        }
+
         List<Schedule> schedules = scheduleRepository.findSchedulesByDateRange(startDate, endDate);
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+        List<ScheduleResponseDto> result =
+                RecurrenceExpander.expand(scheduleResponseAssembler.toResponseDtos(schedules), startDate, endDate);
+        result.sort(ScheduleIntervalIndex.RANGE_ORDER);
+        return withoutViewCounts(result);
     }
 
     /**
      * 특정 월의 일정 조회
+     * 월 뷰 캐시에 적재된 결과를 우선 사용하며, 미스 시 월과 기간이 겹치는 일정을 조회해 캐시에 저장
      * @param year 연도
      * @param month 월 (1-12)
      * @return 해당 월의 일정 목록
      */
     public List<ScheduleResponseDto> getSchedulesByMonth(int year, int month) {
-        LocalDate monthStart = LocalDate.of(year, month, 1);
-        LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+        return monthViewCache.get(year, month, () -> {
+            LocalDate monthStart = LocalDate.of(year, month, 1);
+            LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+            return getSchedulesByDateRange(monthStart, monthEnd);
+        });
+    }
+
+    /**
+     * 연간 날짜별 일정 밀도(히트맵) 조회
+     * 밀도 인덱스가 적재되어 있으면 배열 복사만으로 응답하고, 아니면 연도 범위 일정을 조회해 계산
+     * @param year 연도 (1-9999)
+     */
+    public ScheduleDensityDto getScheduleDensity(int year) {
+        if (year < 1 || year > 9999) {
+            throw new IllegalArgumentException("연도는 1-9999 사이의 값이어야 합니다.");
+        }
+        if (scheduleDensityIndex.isReady()) {
+            return scheduleDensityIndex.getDensity(year);
+        }
+        return ScheduleDensityIndex.compute(year,
+                getSchedulesByDateRange(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)));
+    }
 
-        List<Schedule> schedules = scheduleRepository.findSchedulesByMonth(year, month, monthStart, monthEnd);
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 월별 일정 ETag 조회
+     * 데이터를 읽기 전에 호출해야 ETag가 응답보다 새로운 버전을 가리키지 않음
+     */
+    public String getMonthETag(int year, int month) {
+        return monthVersionRegistry.scheduleMonthETag(year, month);
+    }
+
+    /**
+     * 월 뷰 캐시 통계 조회
+     */
+    public Map<String, Object> getMonthViewCacheStatistics() {
+        return monthViewCache.getStatistics();
     }
 
     /**
      * 향상된 일정 검색 (제목 + 카테고리)
-     * @param title 검색할 제목
+     * 검색 색인이 적재된 경우 제목/카테고리/설명 전체를 대상으로 관련도 순 결과를 반환
+     * 조회수는 싣지 않음 (withoutViewCounts 참고)
+     * @param title 검색어
      * @param category 카테고리 필터
      * @return 검색된 일정 목록
      */
     public List<ScheduleResponseDto> searchSchedules(String title, String category) {
+        if (title != null && !title.trim().isEmpty() && scheduleSearchIndex.isReady()) {
+            String categoryFilter = category != null && !category.trim().isEmpty() ? category.trim() : null;
+            return withoutViewCounts(scheduleSearchIndex.search(title.trim(), categoryFilter));
+        }
+
         List<Schedule> schedules;
 
         if (title != null && !title.trim().isEmpty() && category != null && !category.trim().isEmpty()) {
@@ -243,9 +391,27 @@ public class ScheduleService {
             schedules = scheduleRepository.findAllByOrderByStartDateDesc();
         }
 
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+        return withoutViewCounts(scheduleResponseAssembler.toResponseDtos(schedules));
+    }
+
+    /**
+     * 검색어 자동완성 (일정 제목, 카테고리, 공휴일 이름 / 초성 입력 지원)
+     * 색인 적재 전에는 제목 검색 결과로 대신함
+     * @param query 입력 중인 검색어
+     * @param limit 최대 후보 수
+     * @return 자동완성 후보 목록
+     */
+    public List<SuggestionDto> getSuggestions(String query, int limit) {
+        if (scheduleSuggestIndex.isReady()) {
+            return scheduleSuggestIndex.suggest(query, limit);
+        }
+        if (query == null || query.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return scheduleRepository.findByTitleContainingIgnoreCaseOrderByStartDateDesc(query.trim()).stream()
+                .limit(limit)
+                .map(schedule -> new SuggestionDto(ScheduleSuggestIndex.TYPE_SCHEDULE, schedule.getTitle(), schedule.getId()))
+                .toList();
     }
 
     /**
@@ -286,23 +452,27 @@ public class ScheduleService {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다. ID: " + id));
 
+        ScheduleResponseDto previous = ScheduleResponseDto.detached(schedule);
         schedule.setIsFeatured(isFeatured);
         Schedule savedSchedule = scheduleRepository.save(schedule);
-
-        return ScheduleResponseDto.from(savedSchedule);
+        ScheduleResponseDto response = ScheduleResponseDto.detached(savedSchedule);
+        eventPublisher.publishEvent(ScheduleChangedEvent.featuredChanged(previous, response));
+        return response;
     }
 
     /**
-     * 조회수 증가
+     * 조회수 증가 (누산기에 더한 뒤 주기적으로 일괄 반영)
      * @param id 일정 ID
      */
-    @Transactional
     public void incrementViewCount(Long id) {
-        Schedule schedule = scheduleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다. ID: " + id));
+        boolean exists = scheduleIntervalIndex.isReady()
+                ? scheduleIntervalIndex.contains(id)
+                : scheduleRepository.existsById(id);
+        if (!exists) {
+            throw new RuntimeException("일정을 찾을 수 없습니다. ID: " + id);
+        }
 
-        schedule.incrementViewCount();
-        scheduleRepository.save(schedule);
+        viewCountAccumulator.increment(id);
     }
 
     /**
@@ -310,10 +480,11 @@ public class ScheduleService {
      * @return 추천 이벤트 목록
      */
     public List<ScheduleResponseDto> getFeaturedSchedules() {
+        if (scheduleRankingIndex.isReady()) {
+            return withPendingViews(scheduleRankingIndex.findFeatured(-1));
+        }
         List<Schedule> schedules = scheduleRepository.findByIsFeaturedTrueOrderByStartDateAsc();
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+        return scheduleResponseAssembler.toResponseDtos(schedules);
     }
 
     /**
@@ -322,24 +493,27 @@ public class ScheduleService {
      * @return 추천 이벤트 목록
      */
     public List<ScheduleResponseDto> getFeaturedSchedules(int limit) {
+        if (scheduleRankingIndex.isReady()) {
+            return withPendingViews(scheduleRankingIndex.findFeatured(limit));
+        }
         Pageable pageable = PageRequest.of(0, limit, Sort.by("startDate").ascending());
         List<Schedule> schedules = scheduleRepository.findByIsFeaturedTrueOrderByStartDateAsc(pageable);
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+        return scheduleResponseAssembler.toResponseDtos(schedules);
     }
 
     /**
      * 인기 이벤트 목록 조회 (조회수 기준)
+     * 랭킹 적재 후에는 DB 정렬 없이 메모리에서 상위 limit 개를 조회
      * @param limit 조회할 개수
      * @return 인기 이벤트 목록
      */
     public List<ScheduleResponseDto> getPopularSchedules(int limit) {
+        if (scheduleRankingIndex.isReady()) {
+            return withPendingViews(scheduleRankingIndex.findPopular(limit));
+        }
         Pageable pageable = PageRequest.of(0, limit, Sort.by("viewCount").descending());
         List<Schedule> schedules = scheduleRepository.findAllByOrderByViewCountDesc(pageable);
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+        return withPendingViews(scheduleResponseAssembler.toResponseDtos(schedules));
     }
 
     /**
@@ -350,9 +524,7 @@ public class ScheduleService {
     public List<ScheduleResponseDto> getRecentSchedules(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
         List<Schedule> schedules = scheduleRepository.findRecentSchedules(pageable);
-        return schedules.stream()
-                .map(ScheduleResponseDto::from)
-                .collect(Collectors.toList());
+        return scheduleResponseAssembler.toResponseDtos(schedules);
     }
 
     /**
@@ -360,6 +532,12 @@ public class ScheduleService {
      * @return 통계 정보 맵
      */
     public Map<String, Object> getScheduleStatistics() {
+        if (scheduleStatisticsIndex.isReady()) {
+            Map<String, Object> stats = scheduleStatisticsIndex.getStatistics(viewCountAccumulator.getTotalPending());
+            stats.put("totalSubscribers", 0);
+            return stats;
+        }
+
         Map<String, Object> stats = new HashMap<>();
 
         // 전체 통계
@@ -373,7 +551,7 @@ public class ScheduleService {
 
         // 조회수 통계
         Long totalViews = scheduleRepository.sumAllViewCounts();
-        stats.put("totalViews", totalViews != null ? totalViews : 0);
+        stats.put("totalViews", (totalViews != null ? totalViews : 0) + viewCountAccumulator.getTotalPending());
 
         // 구독자 수 (나중에 구현 시 추가)
         stats.put("totalSubscribers", 0);
@@ -384,14 +562,52 @@ public class ScheduleService {
     // === 유틸리티 메서드들 ===
 
     /**
-     * 정렬 조건 생성
+     * 응답 DTO의 조회수에 아직 DB에 반영되지 않은 증가분을 더함
      */
-    private Sort createSort(String sortBy) {
+    private ScheduleResponseDto withPendingViews(ScheduleResponseDto dto) {
+        dto.setViewCount(viewCountAccumulator.currentViewCount(dto.getId(), dto.getViewCount()));
+        return dto;
+    }
+
+    private List<ScheduleResponseDto> withPendingViews(List<ScheduleResponseDto> dtos) {
+        dtos.forEach(this::withPendingViews);
+        return dtos;
+    }
+
+    /**
+     * 조회수를 비운 복사본 목록
+     * 날짜/범위/월/검색 응답은 인덱스·월 캐시의 DTO로 만들어지는데, 이 DTO의 조회수는 적재/수정 시점 값에 머물고
+     * 월 ETag도 조회수 반영으로는 바뀌지 않는다. 오래된 값을 내보내는 대신 싣지 않으며,
+     * 조회수는 단건 조회와 인기/추천 목록(DB 값 + 미반영 증가분)에서 제공한다.
+     */
+    private static List<ScheduleResponseDto> withoutViewCounts(List<ScheduleResponseDto> dtos) {
+        List<ScheduleResponseDto> result = new ArrayList<>(dtos.size());
+        for (ScheduleResponseDto dto : dtos) {
+            result.add(dto.withViewCount(null));
+        }
+        return result;
+    }
+
+    /**
+     * 정렬 기준 정규화 (알 수 없는 값은 date)
+     */
+    private String normalizeSortBy(String sortBy) {
         if (sortBy == null) {
-            sortBy = "date";
+            return "date";
         }
 
         return switch (sortBy.toLowerCase()) {
+            case "priority", "views", "created", "title" -> sortBy.toLowerCase();
+            default -> "date";
+        };
+    }
+
+    /**
+     * 정렬 조건 생성
+     * 각 정렬에 대응하는 복합 인덱스(idx_schedule_sort_*)가 Schedule 엔티티에 정의되어 있음
+     */
+    private Sort createSort(String sortBy) {
+        return switch (normalizeSortBy(sortBy)) {
             case "priority" -> Sort.by(Sort.Direction.ASC, "priority")
                     .and(Sort.by(Sort.Direction.ASC, "startDate"));
             case "views" -> Sort.by(Sort.Direction.DESC, "viewCount")
@@ -426,6 +642,19 @@ public class ScheduleService {
             throw new RuntimeException("링크 URL이 올바르지 않거나 개수 제한을 초과했습니다. (최대 2개)");
         }
 
+        // 반복 규칙 검증
+        RecurrenceRule rule = parseRecurrenceRule(requestDto);
+        if (rule != null && rule.getUntil() != null && rule.getUntil().isBefore(requestDto.getStartDate())) {
+            throw new RuntimeException("반복 종료일(UNTIL)은 시작일보다 이르면 안 됩니다.");
+        }
+        if (rule != null) {
+            try {
+                rule.checkSpan(requestDto.getStartDate());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException(e.getMessage());
+            }
+        }
+
         // 과거 날짜 경고
         if (requestDto.getStartDate().isBefore(LocalDate.now().minusDays(1))) {
             System.out.println("경고: 과거 날짜의 일정이 생성되었습니다. " + requestDto.getStartDate());
@@ -453,6 +682,8 @@ public class ScheduleService {
         schedule.setLinkTitles(requestDto.getLinkTitles());
         schedule.setIsFeatured(requestDto.getIsFeatured() != null ? requestDto.getIsFeatured() : false);
 
+        applyRecurrence(schedule, requestDto);
+
         return schedule;
     }
 
@@ -486,12 +717,47 @@ public class ScheduleService {
             schedule.setIsFeatured(requestDto.getIsFeatured());
         }
 
+        applyRecurrence(schedule, requestDto);
+
         // 링크 제목 자동 생성
         if (schedule.getLinks() != null && !schedule.getLinks().isEmpty()) {
             generateLinkTitlesIfNeeded(schedule);
         }
     }
 
+    /**
+     * 반복 규칙 파싱 (규칙이 없으면 null)
+     */
+    private RecurrenceRule parseRecurrenceRule(ScheduleRequestDto requestDto) {
+        if (requestDto.getRecurrenceRule() == null || requestDto.getRecurrenceRule().isBlank()) {
+            return null;
+        }
+        try {
+            return RecurrenceRule.parse(requestDto.getRecurrenceRule());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("반복 규칙이 올바르지 않습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 반복 규칙/제외 날짜와 시리즈 종료일 반영 (규칙은 정규화된 형태로 저장)
+     */
+    private void applyRecurrence(Schedule schedule, ScheduleRequestDto requestDto) {
+        RecurrenceRule rule = parseRecurrenceRule(requestDto);
+        if (rule == null) {
+            schedule.setRecurrenceRule(null);
+            schedule.setRecurrenceExdates(null);
+            schedule.setSeriesEndDate(null);
+            return;
+        }
+        schedule.setRecurrenceRule(rule.toString());
+        List<LocalDate> exdates = requestDto.getRecurrenceExdates() != null
+                ? requestDto.getRecurrenceExdates().stream().filter(java.util.Objects::nonNull).distinct().sorted().toList()
+                : List.of();
+        schedule.setRecurrenceExdates(exdates.isEmpty() ? null : new ArrayList<>(exdates));
+        schedule.setSeriesEndDate(RecurrenceExpander.seriesEndDate(rule, schedule.getStartDate(), schedule.getEndDate()));
+    }
+
     /**
      * 링크 제목 자동 생성
      */
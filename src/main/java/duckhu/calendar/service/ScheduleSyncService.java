@@ -0,0 +1,181 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleChangesResponseDto;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.entity.ScheduleTombstone;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.exception.SyncTokenExpiredException;
+import duckhu.calendar.repository.ScheduleRepository;
+import duckhu.calendar.repository.ScheduleTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 일정 변경분 동기화 서비스
+ * 토큰은 일정 (updatedAt, id)과 삭제 기록 (deletedAt, id) 두 커서를 담으며, 각 커서 이후의 변경만 keyset으로 읽어
+ * 수정 시각 순으로 합친 한 페이지를 돌려준다. 클라이언트의 갱신 비용이 월 크기가 아니라 변경 수에 비례한다.
+ * 삭제는 물리 삭제와 같은 트랜잭션에서 남기는 삭제 기록(툼스톤)으로 전달한다.
+ */
+@Service
+@Slf4j
+public class ScheduleSyncService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String TOKEN_PREFIX = "c1:";
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleTombstoneRepository scheduleTombstoneRepository;
+    private final ScheduleResponseAssembler scheduleResponseAssembler;
+    private final long syncLagMs;
+    private final long tombstoneRetentionDays;
+
+    public ScheduleSyncService(ScheduleRepository scheduleRepository,
+                               ScheduleTombstoneRepository scheduleTombstoneRepository,
+                               ScheduleResponseAssembler scheduleResponseAssembler,
+                               @Value("${app.schedule.changes.sync-lag-ms:5000}") long syncLagMs,
+                               @Value("${app.schedule.changes.tombstone-retention-days:90}") long tombstoneRetentionDays) {
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleTombstoneRepository = scheduleTombstoneRepository;
+        this.scheduleResponseAssembler = scheduleResponseAssembler;
+        this.syncLagMs = syncLagMs;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    /**
+     * 토큰 이후의 변경분 한 페이지 조회
+     * 토큰이 없으면 전체 일정을 처음부터 내려주고, 그 이전의 삭제는 건너뛴다.
+     * 각 커서는 현재 시각에서 지연 시간을 뺀 수위(upper)까지만 읽어, 늦게 커밋된 변경을 건너뛰지 않는다.
+     * @param token 이전 응답의 nextToken (없으면 처음부터)
+     * @param limit 페이지 크기 (null 이면 기본값, 최대 MAX_PAGE_SIZE)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 토큰
+     * @throws SyncTokenExpiredException 삭제 기록 보관 기간보다 오래된 토큰
+     */
+    public ScheduleChangesResponseDto getChanges(String token, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        LocalDateTime upper = LocalDateTime.now().minus(syncLagMs, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MICROS);
+
+        Cursor cursor = token == null || token.isBlank()
+                ? new Cursor(ORIGIN, 0L, upper, Long.MAX_VALUE)
+                : decode(token);
+        if (cursor.tombstoneAt().isBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays))) {
+            throw new SyncTokenExpiredException("동기화 토큰이 만료되었습니다. 전체 일정을 다시 받아야 합니다.");
+        }
+
+        List<Schedule> changed = scheduleRepository.findChangedSince(
+                cursor.scheduleAt(), cursor.scheduleId(), upper, PageRequest.of(0, pageSize + 1));
+        List<ScheduleTombstone> deleted = scheduleTombstoneRepository.findDeletedSince(
+                cursor.tombstoneAt(), cursor.tombstoneId(), upper, PageRequest.of(0, pageSize + 1));
+
+        // 두 목록을 시각 순으로 합쳐 pageSize 만큼 선택
+        int scheduleCount = 0;
+        int tombstoneCount = 0;
+        while (scheduleCount + tombstoneCount < pageSize
+                && (scheduleCount < changed.size() || tombstoneCount < deleted.size())) {
+            boolean takeSchedule = tombstoneCount >= deleted.size()
+                    || (scheduleCount < changed.size() && !changed.get(scheduleCount).getUpdatedAt()
+                            .isAfter(deleted.get(tombstoneCount).getDeletedAt()));
+            if (takeSchedule) {
+                scheduleCount++;
+            } else {
+                tombstoneCount++;
+            }
+        }
+
+        // 끝까지 읽은 쪽은 수위까지 커서를 옮겨, 변경이 없어도 토큰이 만료되지 않게 함
+        boolean schedulesDone = scheduleCount == changed.size();
+        boolean tombstonesDone = tombstoneCount == deleted.size();
+        Cursor next = new Cursor(
+                schedulesDone ? upper : scheduleCount > 0 ? changed.get(scheduleCount - 1).getUpdatedAt() : cursor.scheduleAt(),
+                schedulesDone ? Long.MAX_VALUE : scheduleCount > 0 ? changed.get(scheduleCount - 1).getId() : cursor.scheduleId(),
+                tombstonesDone ? upper : tombstoneCount > 0 ? deleted.get(tombstoneCount - 1).getDeletedAt() : cursor.tombstoneAt(),
+                tombstonesDone ? Long.MAX_VALUE : tombstoneCount > 0 ? deleted.get(tombstoneCount - 1).getId() : cursor.tombstoneId());
+        if (next.scheduleAt().isBefore(cursor.scheduleAt())) {
+            next = new Cursor(cursor.scheduleAt(), cursor.scheduleId(), next.tombstoneAt(), next.tombstoneId());
+        }
+        if (next.tombstoneAt().isBefore(cursor.tombstoneAt())) {
+            next = new Cursor(next.scheduleAt(), next.scheduleId(), cursor.tombstoneAt(), cursor.tombstoneId());
+        }
+
+        List<ScheduleResponseDto> updated = scheduleResponseAssembler.toResponseDtos(changed.subList(0, scheduleCount));
+        List<Long> deletedIds = new ArrayList<>(tombstoneCount);
+        for (int i = 0; i < tombstoneCount; i++) {
+            deletedIds.add(deleted.get(i).getScheduleId());
+        }
+        return new ScheduleChangesResponseDto(updated, deletedIds, encode(next), !(schedulesDone && tombstonesDone));
+    }
+
+    /**
+     * 일정 삭제 시 같은 트랜잭션 안에서 삭제 기록 저장
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.isDeleted()) {
+            scheduleTombstoneRepository.save(new ScheduleTombstone(event.getScheduleId()));
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${app.schedule.changes.tombstone-cleanup-interval-ms:3600000}")
+    public void purgeExpiredTombstones() {
+        int purged = scheduleTombstoneRepository.deleteExpired(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        if (purged > 0) {
+            log.info("만료된 일정 삭제 기록 정리 - {}건", purged);
+        }
+    }
+
+    // === 토큰 ===
+
+    private static String encode(Cursor cursor) {
+        String raw = TOKEN_PREFIX + micros(cursor.scheduleAt()) + "." + cursor.scheduleId()
+                + "." + micros(cursor.tombstoneAt()) + "." + cursor.tombstoneId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(TOKEN_PREFIX)) {
+                throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다.");
+            }
+            String[] parts = raw.substring(TOKEN_PREFIX.length()).split("\\.");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다.");
+            }
+            return new Cursor(fromMicros(Long.parseLong(parts[0])), Long.parseLong(parts[1]),
+                    fromMicros(Long.parseLong(parts[2])), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | ArithmeticException | java.time.DateTimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다.", e);
+        }
+    }
+
+    private static long micros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.toInstant(ZoneOffset.UTC));
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+
+    private record Cursor(LocalDateTime scheduleAt, long scheduleId, LocalDateTime tombstoneAt, long tombstoneId) {
+    }
+}
@@ -0,0 +1,39 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 일정(발생)이 차지하는 [시작, 종료) 시각 계산
+ * 시작 시간이 없으면 시작일 0시, 종료 시간이 없으면 종료일 다음 날 0시까지로 본다.
+ */
+final class ScheduleTimeWindows {
+
+    private ScheduleTimeWindows() {
+    }
+
+    /**
+     * 시작 또는 종료 시간이 있는 일정인지 (없으면 종일 일정)
+     */
+    static boolean isTimed(ScheduleResponseDto schedule) {
+        return schedule.getStartTime() != null || schedule.getEndTime() != null;
+    }
+
+    static LocalDateTime start(ScheduleResponseDto schedule) {
+        return schedule.getStartDate().atTime(
+                schedule.getStartTime() != null ? schedule.getStartTime() : LocalTime.MIDNIGHT);
+    }
+
+    /**
+     * 종료 시각 (종료가 시작보다 이르게 입력된 경우 시작 시각)
+     */
+    static LocalDateTime end(ScheduleResponseDto schedule) {
+        LocalDateTime end = schedule.getEndTime() != null
+                ? schedule.getEndDate().atTime(schedule.getEndTime())
+                : schedule.getEndDate().plusDays(1).atStartOfDay();
+        LocalDateTime start = start(schedule);
+        return end.isBefore(start) ? start : end;
+    }
+}
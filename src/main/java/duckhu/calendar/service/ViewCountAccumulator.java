@@ -0,0 +1,158 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.event.ViewCountsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 지연 반영(write-behind) 누산기
+ * 조회 요청마다 행을 잠그고 UPDATE 하는 대신 일정별 LongAdder에 증가분을 모아 두고,
+ * 주기적으로(그리고 종료 시) 한 번의 배치 UPDATE로 DB에 더한다.
+ * 단건 조회와 인기/추천 목록에서는 DB 값에 아직 반영되지 않은 증가분을 더해 보여준다.
+ * (날짜/범위/월/검색 목록은 인덱스·캐시 응답이라 조회수를 싣지 않는다)
+ * 반영 후에는 ViewCountsFlushedEvent를 발행해 인메모리 랭킹이 조회수를 따라가게 한다.
+ */
+@Component
+@Slf4j
+public class ViewCountAccumulator {
+
+    private static final String FLUSH_SQL = "UPDATE schedules SET view_count = view_count + ? WHERE id = ?";
+
+    /**
+     * 일정 ID별 미반영 조회수
+     * 반영 시 읽은 값만큼 빼므로 반영 도중 들어온 증가분도 유실되지 않는다.
+     */
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public ViewCountAccumulator(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${app.schedule.view-count.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 조회수 1 증가 (DB 접근 없음)
+     */
+    public void increment(Long scheduleId) {
+        pending.computeIfAbsent(scheduleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingDelta(Long scheduleId) {
+        LongAdder adder = pending.get(scheduleId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * DB 조회수에 미반영 증가분을 더한 값
+     */
+    public int currentViewCount(Long scheduleId, Integer storedViewCount) {
+        long total = (storedViewCount != null ? storedViewCount : 0) + getPendingDelta(scheduleId);
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 전체 미반영 조회수 합계
+     */
+    public long getTotalPending() {
+        long total = 0;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 미반영 조회수를 배치 UPDATE로 DB에 반영
+     * @return 반영한 일정 수
+     */
+    @Scheduled(fixedDelayString = "${app.schedule.view-count.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        Map<Long, Long> deltas = snapshotPending();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int[][] results;
+        try {
+            results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, entries, batchSize,
+                    (ps, entry) -> {
+                        ps.setLong(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    }));
+        } catch (Exception e) {
+            // 증가분은 그대로 남아 있으므로 다음 주기에 다시 시도
+            log.warn("조회수 반영 실패 ({}건) - 다음 주기에 재시도: {}", entries.size(), e.getMessage());
+            return 0;
+        }
+
+        // 반영한 만큼만 차감 (반영 중 들어온 증가분은 남김), 삭제된 일정은 제거
+        Map<Long, Long> flushed = new HashMap<>();
+        int index = 0;
+        for (int[] batch : results != null ? results : new int[0][]) {
+            for (int updated : batch) {
+                Map.Entry<Long, Long> entry = entries.get(index++);
+                if (updated == 0) {
+                    pending.remove(entry.getKey());
+                } else {
+                    pending.get(entry.getKey()).add(-entry.getValue());
+                    flushed.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        if (!flushed.isEmpty()) {
+            eventPublisher.publishEvent(new ViewCountsFlushedEvent(flushed));
+        }
+        log.debug("조회수 {}건 반영 완료", flushed.size());
+        return flushed.size();
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("종료 전 조회수 {}건 반영", flushed);
+        }
+    }
+
+    private Map<Long, Long> snapshotPending() {
+        Map<Long, Long> snapshot = new HashMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                snapshot.put(id, delta);
+            }
+        });
+        return snapshot;
+    }
+}
@@ -0,0 +1,172 @@
+package duckhu.calendar.service.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화·압축이 끝난 응답 본문 캐시
+ * 원문과 gzip 본문을 힙 밖(direct ByteBuffer)에 보관하므로 큰 응답이 GC 대상 힙을 차지하지 않는다.
+ * 라우트(경로 + 쿼리 + Accept)마다 한 항목만 두고 데이터 버전이 다르면 미스로 처리해, 오래된 버전이 쌓이지 않는다.
+ * 전체 용량을 넘으면 가장 오래 사용하지 않은 항목부터 제거한다.
+ */
+@Component
+public class CompressedResponseCache {
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final int minCompressBytes;
+    private final long ttlMs;
+
+    /**
+     * 접근 순서 LinkedHashMap (LRU), entries 로 동기화
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CompressedResponseCache(@Value("${app.cache.response.enabled:true}") boolean enabled,
+                                   @Value("${app.cache.response.max-bytes:67108864}") long maxBytes,
+                                   @Value("${app.cache.response.max-entry-bytes:4194304}") int maxEntryBytes,
+                                   @Value("${app.cache.response.min-compress-bytes:1024}") int minCompressBytes,
+                                   @Value("${app.cache.response.ttl-ms:60000}") long ttlMs) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.minCompressBytes = minCompressBytes;
+        this.ttlMs = ttlMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 응답 조회 (버전이 다르거나 TTL이 지났으면 null)
+     */
+    public Entry get(String route, String version) {
+        synchronized (entries) {
+            Entry entry = entries.get(route);
+            if (entry != null && entry.version().equals(version)
+                    && System.currentTimeMillis() - entry.storedAt() < ttlMs) {
+                hits.incrementAndGet();
+                return entry;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 응답 본문 저장 (gzip 본문은 충분히 크고 실제로 줄어들 때만 함께 보관)
+     * @return 저장한 항목, 항목 하나의 한도를 넘으면 null
+     */
+    public Entry put(String route, String version, byte[] body, String contentType, String etag, String cacheControl) {
+        if (body.length > maxEntryBytes) {
+            return null;
+        }
+        byte[] gzipped = body.length >= minCompressBytes ? gzip(body) : null;
+        Entry entry = new Entry(version, contentType, etag, cacheControl, toDirect(body),
+                gzipped != null && gzipped.length < body.length ? toDirect(gzipped) : null,
+                System.currentTimeMillis());
+
+        synchronized (entries) {
+            Entry previous = entries.put(route, entry);
+            if (previous != null) {
+                totalBytes -= previous.size();
+            }
+            totalBytes += entry.size();
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                if (evicted == entry) {
+                    break;
+                }
+                eldest.remove();
+                totalBytes -= evicted.size();
+                evictions.incrementAndGet();
+            }
+        }
+        return entry;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중/미스/제거 횟수, 힙 밖 사용량)
+     */
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+            stats.put("offHeapBytes", totalBytes);
+        }
+        stats.put("enabled", enabled);
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.get());
+        stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+        return stats;
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 캐시 항목 (본문 버퍼는 읽기 전용이며, 쓸 때마다 duplicate()로 위치를 따로 가진다)
+     * @param gzip gzip 본문 (압축하지 않았으면 null)
+     */
+    public record Entry(String version, String contentType, String etag, String cacheControl,
+                        ByteBuffer identity, ByteBuffer gzip, long storedAt) {
+
+        public ByteBuffer body(boolean gzipAccepted) {
+            return (gzipAccepted && gzip != null ? gzip : identity).duplicate();
+        }
+
+        public boolean isGzip(boolean gzipAccepted) {
+            return gzipAccepted && gzip != null;
+        }
+
+        long size() {
+            return identity.capacity() + (gzip != null ? gzip.capacity() : 0);
+        }
+    }
+}
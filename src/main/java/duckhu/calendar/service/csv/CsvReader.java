@@ -0,0 +1,129 @@
+package duckhu.calendar.service.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV(RFC 4180) 레코드 단위 읽기
+ * 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈과 "" 이스케이프를 처리하며, 한 레코드씩만 메모리에 둔다.
+ */
+public final class CsvReader {
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long line = 1;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드 (입력 끝이면 null, 빈 줄은 건너뜀)
+     * @throws IllegalArgumentException 닫히지 않은 따옴표
+     */
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\n') {
+                line++;
+                continue;
+            }
+            if (c == '\r') {
+                continue;
+            }
+            unread();
+            return readRecord();
+        }
+    }
+
+    /**
+     * 현재 읽는 위치의 줄 번호 (1부터)
+     */
+    public long getLine() {
+        return line;
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        long startLine = line;
+
+        while (true) {
+            int c = read();
+            if (inQuotes) {
+                if (c == -1) {
+                    throw new IllegalArgumentException(startLine + "번째 줄에서 시작한 따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            if (c == -1 || c == '\n') {
+                fields.add(quoted ? field.toString() : field.toString().trim());
+                if (c == '\n') {
+                    line++;
+                }
+                return fields;
+            }
+            if (c == '\r') {
+                continue;
+            }
+            if (c == ',') {
+                fields.add(quoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                inQuotes = true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position >= limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        int c = read();
+        if (c != -1) {
+            unread();
+        }
+        return c;
+    }
+
+    private void unread() {
+        position--;
+    }
+}
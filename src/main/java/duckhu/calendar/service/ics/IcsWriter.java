@@ -0,0 +1,120 @@
+package duckhu.calendar.service.ics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar(RFC 5545) 콘텐츠 줄 기록기
+ * 텍스트 값 이스케이프와 75옥텟 줄 접기(UTF-8 문자 경계 유지)를 처리하고, 버퍼 없이 스트림에 바로 쓴다.
+ */
+public final class IcsWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] FOLD = {'\r', '\n', ' '};
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final OutputStream out;
+
+    public IcsWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * 이미 형식이 맞춰진 값으로 한 줄 기록 (예: "DTSTART;VALUE=DATE", "20250101")
+     */
+    public IcsWriter property(String name, String value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        writeFolded((name + ":" + value).getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    /**
+     * TEXT 값을 이스케이프해 기록 (빈 값이면 생략)
+     */
+    public IcsWriter text(String name, String value) throws IOException {
+        if (value == null || value.isBlank()) {
+            return this;
+        }
+        return property(name, escape(value));
+    }
+
+    public IcsWriter begin(String component) throws IOException {
+        return property("BEGIN", component);
+    }
+
+    public IcsWriter end(String component) throws IOException {
+        return property("END", component);
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    // === 값 형식 ===
+
+    public static String date(LocalDate date) {
+        return date.format(DATE);
+    }
+
+    /**
+     * 지역 시각을 UTC 시각 값으로 변환 (VTIMEZONE 없이도 모든 클라이언트가 같은 시점으로 해석)
+     */
+    public static String utc(LocalDateTime dateTime, ZoneId zone) {
+        return dateTime.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).format(UTC_DATE_TIME);
+    }
+
+    /**
+     * TEXT 이스케이프: 역슬래시, 세미콜론, 쉼표, 줄바꿈
+     */
+    public static String escape(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> builder.append("\\\\");
+                case ';' -> builder.append("\\;");
+                case ',' -> builder.append("\\,");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> {
+                    if (i + 1 < value.length() && value.charAt(i + 1) == '\n') {
+                        continue;
+                    }
+                    builder.append("\\n");
+                }
+                default -> builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 75옥텟을 넘는 줄은 CRLF + 공백으로 접되, UTF-8 연속 바이트 앞에서는 자르지 않음
+     */
+    private void writeFolded(byte[] line) throws IOException {
+        int start = 0;
+        int limit = MAX_LINE_OCTETS;
+        while (line.length - start > limit) {
+            int cut = start + limit;
+            while (cut > start && (line[cut] & 0xC0) == 0x80) {
+                cut--;
+            }
+            out.write(line, start, cut - start);
+            out.write(FOLD);
+            start = cut;
+            limit = MAX_LINE_OCTETS - 1; // 접힌 줄은 앞의 공백 한 칸 포함
+        }
+        out.write(line, start, line.length - start);
+        out.write(CRLF);
+    }
+}
@@ -0,0 +1,142 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.HolidayChangedEvent;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.service.recurrence.RecurrenceExpander;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 월별 데이터 버전 레지스트리
+ * 일정/공휴일 쓰기가 걸친 월의 버전을 단조 증가시키고, 이를 강한 ETag로 노출한다.
+ * 버전은 데이터 반영(인덱스/캐시 갱신) 이후에 올리고 요청 측은 데이터보다 버전을 먼저 읽으므로,
+ * ETag가 실제 응답 데이터보다 새로운 상태를 가리키는 일은 없다.
+ */
+@Component
+@Order(200)
+public class MonthVersionRegistry implements ScheduleIndex {
+
+    /**
+     * 월별로 버전을 올리는 최대 기간 - 이보다 긴 일정(검증 이전에 저장된 긴 시리즈, 아주 긴 단일 일정)은
+     * 끝이 없는 반복처럼 전체 세대를 올려 쓰기마다 수많은 월을 순회하지 않게 함
+     */
+    private static final long MAX_BUMP_MONTHS = 12L * 10;
+
+    /**
+     * 재시작 전후 ETag가 겹치지 않도록 기동 시각을 접두어로 사용
+     */
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * 전체 재적재 세대 (rebuild 시 모든 월의 ETag가 바뀜)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 일정 쓰기 횟수 (날짜와 무관한 목록 응답의 버전)
+     */
+    private final AtomicLong scheduleChanges = new AtomicLong();
+
+    private final Map<YearMonth, AtomicLong> scheduleVersions = new ConcurrentHashMap<>();
+    private final Map<YearMonth, AtomicLong> holidayVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 일정 월 뷰 ETag
+     */
+    public String scheduleMonthETag(int year, int month) {
+        YearMonth key = YearMonth.of(year, month);
+        return "\"s-" + bootId + "." + generation.get() + "-" + key + "-" + versionOf(scheduleVersions, key) + "\"";
+    }
+
+    /**
+     * 공휴일 월 뷰 ETag (국가 코드별로 응답이 다르므로 포함)
+     */
+    public String holidayMonthETag(int year, int month, String countryCode) {
+        YearMonth key = YearMonth.of(year, month);
+        return "\"h-" + bootId + "-" + key + "-" + countryCode + "-" + versionOf(holidayVersions, key) + "\"";
+    }
+
+    /**
+     * 날짜 구간과 무관한 일정 목록(추천 등) ETag - 일정이 하나라도 바뀌면 달라짐
+     */
+    public String scheduleListETag() {
+        return "\"l-" + bootId + "." + generation.get() + "-" + scheduleChanges.get() + "\"";
+    }
+
+    public long getScheduleVersion(YearMonth month) {
+        return versionOf(scheduleVersions, month);
+    }
+
+    public long getHolidayVersion(YearMonth month) {
+        return versionOf(holidayVersions, month);
+    }
+
+    // === 일정 변경 반영 (ScheduleIndexManager가 호출) ===
+
+    @Override
+    public void rebuild(Collection<ScheduleResponseDto> schedules) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void upsert(ScheduleResponseDto schedule) {
+        scheduleChanges.incrementAndGet();
+        LocalDate coverageEnd = RecurrenceExpander.coverageEnd(schedule);
+        if (coverageEnd == null) {
+            generation.incrementAndGet(); // 끝이 없는 반복 일정은 이후 모든 월에 걸치므로 전체 세대 증가
+            return;
+        }
+        if (ChronoUnit.MONTHS.between(YearMonth.from(schedule.getStartDate()), YearMonth.from(coverageEnd)) > MAX_BUMP_MONTHS) {
+            generation.incrementAndGet();
+            return;
+        }
+        bump(scheduleVersions, schedule.getStartDate(), coverageEnd);
+    }
+
+    @Override
+    public void remove(Long scheduleId) {
+        generation.incrementAndGet(); // 기간을 알 수 없으므로 전체 세대 증가
+    }
+
+    @Override
+    public void apply(ScheduleChangedEvent event) {
+        if (event.getPrevious() != null) {
+            upsert(event.getPrevious());
+        }
+        if (event.getCurrent() != null) {
+            upsert(event.getCurrent());
+        }
+    }
+
+    // === 공휴일 변경 반영 ===
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        for (LocalDate date : event.getAffectedDates()) {
+            bump(holidayVersions, date, date);
+        }
+    }
+
+    private void bump(Map<YearMonth, AtomicLong> versions, LocalDate startDate, LocalDate endDate) {
+        YearMonth last = YearMonth.from(endDate);
+        for (YearMonth key = YearMonth.from(startDate); !key.isAfter(last); key = key.plusMonths(1)) {
+            versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private long versionOf(Map<YearMonth, AtomicLong> versions, YearMonth key) {
+        AtomicLong version = versions.get(key);
+        return version != null ? version.get() : 0;
+    }
+}
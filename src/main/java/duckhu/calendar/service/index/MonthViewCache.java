@@ -0,0 +1,161 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.service.recurrence.RecurrenceExpander;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 월별 일정 뷰 캐시
+ * (연, 월) 단위로 응답용 DTO 목록을 보관하고, 일정 변경 시 해당 일정의 [시작일, 종료일]이 걸친 월만 무효화한다.
+ * 구간 인덱스 갱신 이후에 무효화되도록 가장 나중에 이벤트를 받는다.
+ */
+@Component
+@Order(100)
+public class MonthViewCache implements ScheduleIndex {
+
+    private final int maxEntries;
+    private final Map<YearMonth, List<ScheduleResponseDto>> entries;
+
+    /**
+     * 무효화 세대 - 조회 중 무효화가 일어나면 계산 결과를 캐시에 넣지 않음
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MonthViewCache(@Value("${app.cache.month-view.max-entries:120}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, List<ScheduleResponseDto>> eldest) {
+                return size() > MonthViewCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 월 뷰 반환, 없으면 loader로 계산 후 저장
+     */
+    public List<ScheduleResponseDto> get(int year, int month, Supplier<List<ScheduleResponseDto>> loader) {
+        YearMonth key = YearMonth.of(year, month);
+
+        synchronized (entries) {
+            List<ScheduleResponseDto> cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        long observedGeneration = generation.get();
+        List<ScheduleResponseDto> loaded = List.copyOf(loader.get());
+
+        synchronized (entries) {
+            if (generation.get() == observedGeneration) {
+                entries.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 일정 기간이 걸친 월 무효화
+     * @param endDate 끝이 없는 반복 일정이면 null (시작 월 이후 전체)
+     */
+    public void invalidate(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null) {
+            invalidateAll();
+            return;
+        }
+
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth last = endDate != null ? YearMonth.from(endDate) : YearMonth.of(Year.MAX_VALUE, 12);
+
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (ChronoUnit.MONTHS.between(first, last) >= entries.size()) {
+                // 기간이 캐시 크기보다 길면 캐시 키를 순회
+                entries.keySet().removeIf(key -> !key.isBefore(first) && !key.isAfter(last));
+            } else {
+                for (YearMonth key = first; !key.isAfter(last); key = key.plusMonths(1)) {
+                    entries.remove(key);
+                }
+            }
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    @Override
+    public void rebuild(Collection<ScheduleResponseDto> schedules) {
+        invalidateAll();
+    }
+
+    @Override
+    public void upsert(ScheduleResponseDto schedule) {
+        invalidate(schedule.getStartDate(), RecurrenceExpander.coverageEnd(schedule));
+    }
+
+    @Override
+    public void remove(Long scheduleId) {
+        invalidateAll(); // 기간을 알 수 없으므로 전체 무효화
+    }
+
+    @Override
+    public void apply(ScheduleChangedEvent event) {
+        if (event.getPrevious() != null) {
+            upsert(event.getPrevious());
+        }
+        if (event.getCurrent() != null) {
+            upsert(event.getCurrent());
+        }
+        if (event.getPrevious() == null && event.getCurrent() == null) {
+            remove(event.getScheduleId());
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중/미스/무효화 횟수)
+     */
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("invalidations", invalidations.get());
+        stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+        return stats;
+    }
+}
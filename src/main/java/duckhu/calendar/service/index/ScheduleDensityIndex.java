@@ -0,0 +1,196 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleDensityDto;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.service.recurrence.RecurrenceExpander;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 연간 날짜별 일정 밀도(히트맵) 인덱스
+ * 일반 일정은 연도별 차분 배열(difference array)에 시작일 +1, 종료 다음날 -1 로 기록하므로 변경 한 건이 O(1)이고,
+ * 연도 조회 시 누적합으로 날짜별 개수를 만든 뒤 변경 전까지 캐시해 이후 조회는 배열 복사 한 번이다.
+ * 반복 일정은 끝이 없을 수 있어 시리즈로 보관하고, 연도를 처음 계산할 때 그 해의 발생으로 전개해 더한다.
+ */
+@Component
+@Order(90)
+public class ScheduleDensityIndex implements ScheduleIndex {
+
+    private static final int ALL = 0;
+    private static final int FEATURED = 1;
+
+    /**
+     * 일정별 반영된 스냅샷 (변경/삭제 시 이전 기여분을 빼기 위해 보관)
+     */
+    private final Map<Long, ScheduleResponseDto> applied = new HashMap<>();
+
+    /**
+     * 연도별 차분 배열 [ALL/FEATURED][일차] (길이는 연도 일수 + 1)
+     */
+    private final Map<Integer, int[][]> differences = new HashMap<>();
+
+    /**
+     * 반복 일정 시리즈
+     */
+    private final Map<Long, ScheduleResponseDto> series = new HashMap<>();
+
+    /**
+     * 누적합까지 계산한 연도별 결과 (해당 연도가 바뀌면 제거, 반복 일정이 바뀌면 전부 제거)
+     */
+    private final Map<Integer, int[][]> materialized = new HashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * 인덱스 적재 완료 여부 (미적재 시 호출 측에서 일정 조회 결과로 직접 계산)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 연도별 날짜별 일정 수/추천 일정 수
+     */
+    public synchronized ScheduleDensityDto getDensity(int year) {
+        int[][] density = materialized.get(year);
+        if (density == null) {
+            density = materialize(year);
+            materialized.put(year, density);
+        }
+        return new ScheduleDensityDto(year, density[ALL].clone(), density[FEATURED].clone());
+    }
+
+    /**
+     * 이미 전개된 일정 목록으로 연도 밀도 계산 (인덱스 미적재 시 폴백)
+     */
+    public static ScheduleDensityDto compute(int year, Collection<ScheduleResponseDto> occurrences) {
+        int[][] difference = new int[2][daysIn(year) + 1];
+        for (ScheduleResponseDto occurrence : occurrences) {
+            addRange(difference, year, occurrence, 1);
+        }
+        prefixSum(difference);
+        return new ScheduleDensityDto(year, trim(difference[ALL]), trim(difference[FEATURED]));
+    }
+
+    // === 일정 변경 반영 (ScheduleIndexManager가 호출) ===
+
+    @Override
+    public synchronized void rebuild(Collection<ScheduleResponseDto> schedules) {
+        applied.clear();
+        differences.clear();
+        series.clear();
+        materialized.clear();
+        for (ScheduleResponseDto schedule : schedules) {
+            applied.put(schedule.getId(), schedule);
+            add(schedule, 1);
+        }
+        ready = true;
+    }
+
+    @Override
+    public synchronized void upsert(ScheduleResponseDto schedule) {
+        ScheduleResponseDto previous = applied.put(schedule.getId(), schedule);
+        if (previous != null) {
+            add(previous, -1);
+        }
+        add(schedule, 1);
+    }
+
+    @Override
+    public synchronized void remove(Long scheduleId) {
+        ScheduleResponseDto previous = applied.remove(scheduleId);
+        if (previous != null) {
+            add(previous, -1);
+        }
+    }
+
+    /**
+     * 일정 기여분을 차분 배열에 더하거나(sign=1) 뺌(sign=-1)
+     */
+    private void add(ScheduleResponseDto schedule, int sign) {
+        if (schedule.getStartDate() == null || schedule.getEndDate() == null) {
+            return;
+        }
+        if (schedule.isRecurring()) {
+            if (sign > 0) {
+                series.put(schedule.getId(), schedule);
+            } else {
+                series.remove(schedule.getId());
+            }
+            materialized.clear();
+            return;
+        }
+        for (int year = schedule.getStartDate().getYear(); year <= schedule.getEndDate().getYear(); year++) {
+            int[][] difference = differences.computeIfAbsent(year, y -> new int[2][daysIn(y) + 1]);
+            addRange(difference, year, schedule, sign);
+            materialized.remove(year);
+        }
+    }
+
+    /**
+     * 차분 배열 누적합 + 해당 연도 반복 일정 발생 반영
+     */
+    private int[][] materialize(int year) {
+        int[][] difference = new int[2][daysIn(year) + 1];
+        int[][] stored = differences.get(year);
+        if (stored != null) {
+            System.arraycopy(stored[ALL], 0, difference[ALL], 0, difference[ALL].length);
+            System.arraycopy(stored[FEATURED], 0, difference[FEATURED], 0, difference[FEATURED].length);
+        }
+        if (!series.isEmpty()) {
+            LocalDate yearStart = LocalDate.of(year, 1, 1);
+            LocalDate yearEnd = LocalDate.of(year, 12, 31);
+            // 연 단위로 구간이 제한되므로 발생 수는 시리즈 수 x 366 이하 (요청 한도 대신 전체 전개)
+            for (ScheduleResponseDto occurrence
+                    : RecurrenceExpander.expand(series.values(), yearStart, yearEnd, Integer.MAX_VALUE)) {
+                addRange(difference, year, occurrence, 1);
+            }
+        }
+        prefixSum(difference);
+        return new int[][]{trim(difference[ALL]), trim(difference[FEATURED])};
+    }
+
+    /**
+     * 일정 기간 중 해당 연도에 속한 부분을 차분 배열에 기록
+     */
+    private static void addRange(int[][] difference, int year, ScheduleResponseDto schedule, int sign) {
+        int last = difference[ALL].length - 2;
+        int from = schedule.getStartDate().getYear() < year ? 0 : schedule.getStartDate().getDayOfYear() - 1;
+        int to = schedule.getEndDate().getYear() > year ? last : schedule.getEndDate().getDayOfYear() - 1;
+        if (schedule.getStartDate().getYear() > year || schedule.getEndDate().getYear() < year || from > to) {
+            return;
+        }
+        difference[ALL][from] += sign;
+        difference[ALL][to + 1] -= sign;
+        if (schedule.isFeaturedEvent()) {
+            difference[FEATURED][from] += sign;
+            difference[FEATURED][to + 1] -= sign;
+        }
+    }
+
+    private static void prefixSum(int[][] difference) {
+        for (int[] row : difference) {
+            for (int i = 1; i < row.length; i++) {
+                row[i] += row[i - 1];
+            }
+        }
+    }
+
+    /**
+     * 차분 배열의 마지막 칸(종료 다음날 표시용)을 뺀 날짜별 배열
+     */
+    private static int[] trim(int[] row) {
+        int[] result = new int[row.length - 1];
+        System.arraycopy(row, 0, result, 0, result.length);
+        return result;
+    }
+
+    private static int daysIn(int year) {
+        return LocalDate.of(year, 1, 1).lengthOfYear();
+    }
+}
@@ -0,0 +1,47 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.ScheduleChangedEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일정 데이터를 메모리에 유지하는 인덱스 공통 인터페이스
+ * ScheduleIndexManager가 시작 시 전체 적재(rebuild)하고, 커밋된 변경 이벤트를 @Order 순서대로 전달
+ */
+public interface ScheduleIndex {
+
+    /**
+     * 전체 일정으로 인덱스 재구성
+     */
+    void rebuild(Collection<ScheduleResponseDto> schedules);
+
+    /**
+     * 일정 추가 또는 갱신
+     */
+    void upsert(ScheduleResponseDto schedule);
+
+    /**
+     * 일정 제거
+     */
+    void remove(Long scheduleId);
+
+    /**
+     * 커밋된 변경 이벤트 반영 (변경 전 스냅샷이 필요한 경우 재정의)
+     */
+    default void apply(ScheduleChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getScheduleId());
+        } else {
+            upsert(event.getCurrent());
+        }
+    }
+
+    /**
+     * 일괄 변경 이벤트 반영 (변경마다 전체를 다시 만드는 인덱스는 한 번만 재구성하도록 재정의)
+     */
+    default void applyAll(List<ScheduleChangedEvent> events) {
+        events.forEach(this::apply);
+    }
+}
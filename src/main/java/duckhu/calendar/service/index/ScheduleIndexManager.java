@@ -0,0 +1,163 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.ScheduleBatchChangedEvent;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.repository.ScheduleRepository;
+import duckhu.calendar.repository.support.BulkReadExecutor;
+import duckhu.calendar.service.ScheduleResponseAssembler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인메모리 일정 인덱스 관리자
+ * 애플리케이션 시작 후 전체 일정을 한 번 읽어 모든 ScheduleIndex를 적재하고,
+ * 이후에는 커밋된 일정 변경 이벤트를 각 인덱스에 반영한다.
+ * 전체 조회는 호출별 시간 제한 대신 BulkReadExecutor의 시간 제한을 따르며, 시작 시 적재가 실패하면
+ * 성공할 때까지 지수 백오프로 다시 시도한다 (그동안 조회는 리포지토리로 폴백).
+ */
+@Component
+@Slf4j
+public class ScheduleIndexManager {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleResponseAssembler scheduleResponseAssembler;
+    private final List<ScheduleIndex> indexes;
+    private final BulkReadExecutor bulkReadExecutor;
+    private final TaskScheduler taskScheduler;
+    private final long retryInitialBackoffMs;
+    private final long retryMaxBackoffMs;
+
+    private volatile boolean loaded;
+
+    /**
+     * 적재 중 도착한 변경 이벤트 (적재 완료 후 재적용)
+     */
+    private List<ScheduleChangedEvent> pendingEvents;
+
+    public ScheduleIndexManager(ScheduleRepository scheduleRepository,
+                                ScheduleResponseAssembler scheduleResponseAssembler,
+                                List<ScheduleIndex> indexes,
+                                BulkReadExecutor bulkReadExecutor,
+                                TaskScheduler taskScheduler,
+                                @Value("${app.schedule.index.reload-retry.initial-backoff-ms:2000}") long retryInitialBackoffMs,
+                                @Value("${app.schedule.index.reload-retry.max-backoff-ms:300000}") long retryMaxBackoffMs) {
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleResponseAssembler = scheduleResponseAssembler;
+        this.indexes = indexes;
+        this.bulkReadExecutor = bulkReadExecutor;
+        this.taskScheduler = taskScheduler;
+        this.retryInitialBackoffMs = Math.max(1, retryInitialBackoffMs);
+        this.retryMaxBackoffMs = Math.max(this.retryInitialBackoffMs, retryMaxBackoffMs);
+    }
+
+    /**
+     * 애플리케이션 시작 완료 후 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Async
+    public void initializeOnStartup() {
+        loadWithRetry(1);
+    }
+
+    /**
+     * 적재 시도, 실패하면 백오프 후 다시 예약 (그 사이 다른 경로로 적재됐으면 중단)
+     */
+    private void loadWithRetry(int attempt) {
+        if (loaded) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            long backoffMs = Math.min(retryMaxBackoffMs, retryInitialBackoffMs << Math.min(attempt - 1, 20));
+            log.warn("일정 인덱스 적재 실패 (시도 {}회) - {}ms 후 재시도, 그동안 리포지토리 조회로 동작합니다: {}",
+                    attempt, backoffMs, e.getMessage());
+            taskScheduler.schedule(() -> loadWithRetry(attempt + 1), Instant.now().plusMillis(backoffMs));
+        }
+    }
+
+    /**
+     * DB에서 전체 일정을 읽어 모든 인덱스 재구성
+     */
+    public void reload() {
+        synchronized (this) {
+            pendingEvents = new ArrayList<>();
+        }
+
+        try {
+            long started = System.currentTimeMillis();
+            List<ScheduleResponseDto> schedules = bulkReadExecutor.read(
+                    () -> scheduleResponseAssembler.toResponseDtos(scheduleRepository.findAll()));
+
+            synchronized (this) {
+                for (ScheduleIndex index : indexes) {
+                    index.rebuild(schedules);
+                }
+                pendingEvents.forEach(this::dispatch);
+                pendingEvents = null;
+                loaded = true;
+            }
+
+            log.info("일정 인덱스 적재 완료 - {}건, {}개 인덱스, {}ms",
+                    schedules.size(), indexes.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingEvents = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋된 일정 변경을 인덱스에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onScheduleChanged(ScheduleChangedEvent event) {
+        if (pendingEvents != null) {
+            pendingEvents.add(event);
+            return;
+        }
+        dispatch(event);
+    }
+
+    /**
+     * 커밋된 일괄 변경을 인덱스별로 한 번에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onScheduleBatchChanged(ScheduleBatchChangedEvent event) {
+        if (pendingEvents != null) {
+            pendingEvents.addAll(event.getChanges());
+            return;
+        }
+        for (ScheduleIndex index : indexes) {
+            try {
+                index.applyAll(event.getChanges());
+            } catch (Exception e) {
+                log.error("일정 인덱스 일괄 갱신 실패 - {}: {}", index.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        log.debug("일정 인덱스 일괄 갱신 - {} {}건", event.getType(), event.size());
+    }
+
+    private void dispatch(ScheduleChangedEvent event) {
+        for (ScheduleIndex index : indexes) {
+            try {
+                index.apply(event);
+            } catch (Exception e) {
+                log.error("일정 인덱스 갱신 실패 - {}: {}", index.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.service.recurrence.RecurrenceExpander;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일정 기간 인메모리 구간 인덱스
+ * 시작일(epoch day) 기준 정렬 배열을 암묵적 균형 이진 트리로 보고, 각 노드에 서브트리 최대 종료일을 저장한다.
+ * 날짜/범위 겹침 조회를 O(log n + k)로 처리한다.
+ * 쓰기는 정렬 배열을 다시 만들지 않고 작은 변경분(추가/갱신된 일정, 가려진 기존 항목)에만 쌓으며,
+ * 변경분이 상한을 넘으면 정렬된 기존 배열과 한 번에 병합(O(n))해 새 배열로 교체한다.
+ * 반복 일정은 시리즈 전체 기간(끝이 없으면 무한대)을 한 구간으로 넣고, 조회 시 구간 안의 발생만 전개한다.
+ */
+@Component
+@Order(0)
+public class ScheduleIntervalIndex implements ScheduleIndex {
+
+    /**
+     * findSchedulesByDate 와 같은 정렬: 추천 우선, 우선순위, 시작 시간
+     */
+    public static final Comparator<ScheduleResponseDto> DATE_ORDER =
+            Comparator.comparing((ScheduleResponseDto s) -> !Boolean.TRUE.equals(s.getIsFeatured()))
+                    .thenComparing(ScheduleResponseDto::getPriority, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                    .thenComparing(ScheduleResponseDto::getStartTime, Comparator.nullsLast(Comparator.<LocalTime>naturalOrder()));
+
+    /**
+     * findSchedulesByDateRange 와 같은 정렬: 추천 우선, 시작일, 우선순위, 시작 시간
+     */
+    public static final Comparator<ScheduleResponseDto> RANGE_ORDER =
+            Comparator.comparing((ScheduleResponseDto s) -> !Boolean.TRUE.equals(s.getIsFeatured()))
+                    .thenComparing(ScheduleResponseDto::getStartDate)
+                    .thenComparing(ScheduleResponseDto::getPriority, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                    .thenComparing(ScheduleResponseDto::getStartTime, Comparator.nullsLast(Comparator.<LocalTime>naturalOrder()));
+
+    /**
+     * 병합 전까지 쌓아 두는 변경분 상한 (조회마다 선형 확인하므로 작게 유지)
+     */
+    static final int DELTA_LIMIT = 512;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 인덱스 적재 완료 여부 (미적재 시 호출 측에서 리포지토리로 폴백)
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * 인덱스에 해당 일정이 있는지 확인
+     */
+    public boolean contains(Long scheduleId) {
+        Snapshot current = snapshot;
+        return current != null && current.contains(scheduleId);
+    }
+
+    /**
+     * 특정 날짜에 걸친 일정 조회 (반복 일정은 해당 날짜의 발생으로 전개)
+     */
+    public List<ScheduleResponseDto> findByDate(LocalDate date) {
+        List<ScheduleResponseDto> result = RecurrenceExpander.expand(findOverlapping(date, date), date, date);
+        result.sort(DATE_ORDER);
+        return result;
+    }
+
+    /**
+     * 날짜 범위와 겹치는 일정 조회 (반복 일정은 범위 안의 발생으로 전개)
+     */
+    public List<ScheduleResponseDto> findByDateRange(LocalDate startDate, LocalDate endDate) {
+        List<ScheduleResponseDto> result =
+                RecurrenceExpander.expand(findOverlapping(startDate, endDate), startDate, endDate);
+        result.sort(RANGE_ORDER);
+        return result;
+    }
+
+    /**
+     * 정렬 없이 겹치는 일정만 수집 (반복 일정은 전개하지 않은 시리즈 그대로)
+     */
+    public List<ScheduleResponseDto> findOverlapping(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshot;
+        List<ScheduleResponseDto> result = new ArrayList<>();
+        if (current == null) {
+            return result;
+        }
+        int queryStart = (int) startDate.toEpochDay();
+        int queryEnd = (int) endDate.toEpochDay();
+        Base base = current.base;
+        if (base.entries.length > 0) {
+            base.collect(0, base.entries.length, queryStart, queryEnd, current.hidden, result);
+        }
+        for (ScheduleResponseDto schedule : current.delta.values()) {
+            if (startOf(schedule) <= queryEnd && endOf(schedule) >= queryStart) {
+                result.add(schedule);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<ScheduleResponseDto> schedules) {
+        Map<Long, ScheduleResponseDto> byId = new HashMap<>();
+        for (ScheduleResponseDto schedule : schedules) {
+            byId.put(schedule.getId(), schedule);
+        }
+        ScheduleResponseDto[] entries = byId.values().toArray(new ScheduleResponseDto[0]);
+        Arrays.sort(entries, Comparator.comparing(ScheduleResponseDto::getStartDate));
+        snapshot = new Snapshot(new Base(entries), Map.of(), Set.of());
+    }
+
+    @Override
+    public synchronized void upsert(ScheduleResponseDto schedule) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Map<Long, ScheduleResponseDto> delta = new HashMap<>(current.delta);
+        Set<Long> hidden = new HashSet<>(current.hidden);
+        stage(current.base, delta, hidden, schedule.getId(), schedule);
+        publish(current.base, delta, hidden);
+    }
+
+    @Override
+    public synchronized void remove(Long scheduleId) {
+        Snapshot current = snapshot;
+        if (current == null || !current.contains(scheduleId)) {
+            return;
+        }
+        Map<Long, ScheduleResponseDto> delta = new HashMap<>(current.delta);
+        Set<Long> hidden = new HashSet<>(current.hidden);
+        stage(current.base, delta, hidden, scheduleId, null);
+        publish(current.base, delta, hidden);
+    }
+
+    @Override
+    public synchronized void applyAll(List<ScheduleChangedEvent> events) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Map<Long, ScheduleResponseDto> delta = new HashMap<>(current.delta);
+        Set<Long> hidden = new HashSet<>(current.hidden);
+        for (ScheduleChangedEvent event : events) {
+            stage(current.base, delta, hidden, event.getScheduleId(), event.isDeleted() ? null : event.getCurrent());
+        }
+        publish(current.base, delta, hidden);
+    }
+
+    /**
+     * 변경분에 한 건 반영 (schedule 이 null 이면 삭제): 기존 배열의 항목은 가리고, 새 값은 변경분에 둔다
+     */
+    private static void stage(Base base, Map<Long, ScheduleResponseDto> delta, Set<Long> hidden,
+                              Long scheduleId, ScheduleResponseDto schedule) {
+        if (base.byId.containsKey(scheduleId)) {
+            hidden.add(scheduleId);
+        }
+        if (schedule == null) {
+            delta.remove(scheduleId);
+        } else {
+            delta.put(scheduleId, schedule);
+        }
+    }
+
+    /**
+     * 새 스냅샷 교체 (변경분이 상한을 넘으면 기존 배열과 병합)
+     */
+    private void publish(Base base, Map<Long, ScheduleResponseDto> delta, Set<Long> hidden) {
+        if (delta.size() + hidden.size() > DELTA_LIMIT) {
+            snapshot = new Snapshot(base.merge(delta, hidden), Map.of(), Set.of());
+        } else {
+            snapshot = new Snapshot(base, delta, hidden);
+        }
+    }
+
+    private static int startOf(ScheduleResponseDto schedule) {
+        return (int) schedule.getStartDate().toEpochDay();
+    }
+
+    private static int endOf(ScheduleResponseDto schedule) {
+        LocalDate coverageEnd = RecurrenceExpander.coverageEnd(schedule);
+        return coverageEnd != null ? (int) coverageEnd.toEpochDay() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 불변 인덱스 스냅샷 (정렬 배열 + 변경분, hidden 은 base 에 있는 ID만 담는다)
+     */
+    private record Snapshot(Base base, Map<Long, ScheduleResponseDto> delta, Set<Long> hidden) {
+
+        int size() {
+            return base.entries.length - hidden.size() + delta.size();
+        }
+
+        boolean contains(Long scheduleId) {
+            return delta.containsKey(scheduleId)
+                    || (!hidden.contains(scheduleId) && base.byId.containsKey(scheduleId));
+        }
+    }
+
+    /**
+     * 시작일 순 정렬 배열과 서브트리 최대 종료일
+     */
+    private static final class Base {
+        private final Map<Long, ScheduleResponseDto> byId;
+        private final ScheduleResponseDto[] entries;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] maxEnds;
+
+        /**
+         * @param entries 시작일 순으로 정렬된 항목
+         */
+        private Base(ScheduleResponseDto[] entries) {
+            this.byId = new HashMap<>(entries.length * 2);
+            this.entries = entries;
+            this.starts = new int[entries.length];
+            this.ends = new int[entries.length];
+            this.maxEnds = new int[entries.length];
+
+            for (int i = 0; i < entries.length; i++) {
+                byId.put(entries[i].getId(), entries[i]);
+                starts[i] = startOf(entries[i]);
+                ends[i] = endOf(entries[i]);
+            }
+            buildMaxEnds(0, entries.length);
+        }
+
+        /**
+         * 가려진 항목을 빼고 변경분을 끼워 넣은 새 배열 (변경분만 정렬하고 나머지는 선형 병합)
+         */
+        Base merge(Map<Long, ScheduleResponseDto> delta, Set<Long> hidden) {
+            ScheduleResponseDto[] added = delta.values().toArray(new ScheduleResponseDto[0]);
+            Arrays.sort(added, Comparator.comparing(ScheduleResponseDto::getStartDate));
+            ScheduleResponseDto[] merged = new ScheduleResponseDto[entries.length - hidden.size() + added.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < entries.length || j < added.length) {
+                if (i < entries.length && hidden.contains(entries[i].getId())) {
+                    i++;
+                } else if (j >= added.length || (i < entries.length && starts[i] <= startOf(added[j]))) {
+                    merged[k++] = entries[i++];
+                } else {
+                    merged[k++] = added[j++];
+                }
+            }
+            return new Base(merged);
+        }
+
+        /**
+         * [lo, hi) 구간의 루트(mid)에 서브트리 최대 종료일 기록
+         */
+        private int buildMaxEnds(int lo, int hi) {
+            if (lo >= hi) {
+                return Integer.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            int max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+            maxEnds[mid] = max;
+            return max;
+        }
+
+        /**
+         * start <= queryEnd AND end >= queryStart 를 만족하는 항목 수집 (hidden 항목 제외)
+         */
+        private void collect(int lo, int hi, int queryStart, int queryEnd, Set<Long> hidden,
+                             List<ScheduleResponseDto> out) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] < queryStart) {
+                return; // 서브트리 전체가 조회 시작일 이전에 끝남
+            }
+            collect(lo, mid, queryStart, queryEnd, hidden, out);
+            if (starts[mid] > queryEnd) {
+                return; // 오른쪽 서브트리는 모두 조회 종료일 이후에 시작
+            }
+            if (ends[mid] >= queryStart && (hidden.isEmpty() || !hidden.contains(entries[mid].getId()))) {
+                out.add(entries[mid]);
+            }
+            collect(mid + 1, hi, queryStart, queryEnd, hidden, out);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.ViewCountsFlushedEvent;
+import duckhu.calendar.repository.ScheduleRepository;
+import duckhu.calendar.repository.support.BulkReadExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 인기/추천 일정 인메모리 랭킹
+ * 조회수 순(내림차순)과 추천 일정 시작일 순으로 정렬된 스킵 리스트를 유지해 상위 k개를 O(k)로 제공한다.
+ * 조회수는 ViewCountsFlushedEvent로, 추천 여부는 일정 변경 이벤트로 갱신하며,
+ * 주기적으로 DB의 조회수/추천 여부와 대조해 누적 오차를 바로잡는다.
+ */
+@Component
+@Order(50)
+@Slf4j
+public class ScheduleRankingIndex implements ScheduleIndex {
+
+    /**
+     * 조회수 내림차순, 동률이면 최근 등록(id 내림차순) 우선
+     */
+    private static final Comparator<PopularKey> POPULAR_ORDER =
+            Comparator.comparingLong(PopularKey::viewCount).reversed()
+                    .thenComparing(Comparator.comparingLong(PopularKey::id).reversed());
+
+    /**
+     * findByIsFeaturedTrueOrderByStartDateAsc 와 같은 정렬: 시작일 오름차순
+     */
+    private static final Comparator<FeaturedKey> FEATURED_ORDER =
+            Comparator.comparing(FeaturedKey::startDate).thenComparingLong(FeaturedKey::id);
+
+    /**
+     * 보정 중 변경이 끼어들 때 다시 읽는 최대 횟수 (모두 실패하면 다음 주기로 미룸)
+     */
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final ScheduleRepository scheduleRepository;
+    private final BulkReadExecutor bulkReadExecutor;
+
+    private final Map<Long, ScheduleResponseDto> schedules = new ConcurrentHashMap<>();
+    private final Map<Long, PopularKey> popularKeys = new ConcurrentHashMap<>();
+    private final Map<Long, FeaturedKey> featuredKeys = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<PopularKey> popular = new ConcurrentSkipListSet<>(POPULAR_ORDER);
+    private final ConcurrentSkipListSet<FeaturedKey> featured = new ConcurrentSkipListSet<>(FEATURED_ORDER);
+
+    /**
+     * 랭킹 변경 순번 (보정용 DB 조회 중 반영된 변경이 있는지 확인, 잠금 안에서만 접근)
+     */
+    private long changeSequence;
+
+    private volatile boolean ready;
+
+    public ScheduleRankingIndex(ScheduleRepository scheduleRepository, BulkReadExecutor bulkReadExecutor) {
+        this.scheduleRepository = scheduleRepository;
+        this.bulkReadExecutor = bulkReadExecutor;
+    }
+
+    /**
+     * 랭킹 적재 완료 여부 (미적재 시 호출 측에서 리포지토리로 폴백)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 조회수 상위 일정 (DTO의 조회수는 랭킹이 추적하는 DB 반영 조회수)
+     */
+    public List<ScheduleResponseDto> findPopular(int limit) {
+        List<ScheduleResponseDto> result = new ArrayList<>(Math.min(limit, popular.size()));
+        Iterator<PopularKey> iterator = popular.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            PopularKey key = iterator.next();
+            ScheduleResponseDto schedule = schedules.get(key.id());
+            if (schedule != null) {
+                result.add(schedule.withViewCount((int) Math.min(key.viewCount(), Integer.MAX_VALUE)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 시작일 순 추천 일정 (limit 이 음수면 전체)
+     */
+    public List<ScheduleResponseDto> findFeatured(int limit) {
+        int max = limit < 0 ? Integer.MAX_VALUE : limit;
+        List<ScheduleResponseDto> result = new ArrayList<>();
+        Iterator<FeaturedKey> iterator = featured.iterator();
+        while (result.size() < max && iterator.hasNext()) {
+            FeaturedKey key = iterator.next();
+            ScheduleResponseDto schedule = schedules.get(key.id());
+            if (schedule != null) {
+                result.add(schedule.withViewCount(viewCountOf(key.id(), schedule)));
+            }
+        }
+        return result;
+    }
+
+    public long getFeaturedCount() {
+        return featured.size();
+    }
+
+    // === 일정 변경 반영 (ScheduleIndexManager가 호출) ===
+
+    @Override
+    public synchronized void rebuild(Collection<ScheduleResponseDto> all) {
+        changeSequence++;
+        schedules.clear();
+        popularKeys.clear();
+        featuredKeys.clear();
+        popular.clear();
+        featured.clear();
+        for (ScheduleResponseDto schedule : all) {
+            put(schedule, schedule.getViewCount() != null ? schedule.getViewCount() : 0);
+        }
+        ready = true;
+    }
+
+    /**
+     * 추가/갱신 시 조회수는 랭킹이 이미 추적 중인 값을 유지
+     * (이벤트 스냅샷의 조회수는 트랜잭션 시점 값이라 그 사이 반영된 조회수가 빠져 있을 수 있음)
+     */
+    @Override
+    public synchronized void upsert(ScheduleResponseDto schedule) {
+        changeSequence++;
+        PopularKey existing = popularKeys.get(schedule.getId());
+        long viewCount = existing != null ? existing.viewCount()
+                : (schedule.getViewCount() != null ? schedule.getViewCount() : 0);
+        removeKeys(schedule.getId());
+        put(schedule, viewCount);
+    }
+
+    @Override
+    public synchronized void remove(Long scheduleId) {
+        changeSequence++;
+        removeKeys(scheduleId);
+        schedules.remove(scheduleId);
+    }
+
+    /**
+     * DB에 반영된 조회수만큼 순위 갱신
+     */
+    @EventListener
+    public synchronized void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        changeSequence++;
+        event.getDeltas().forEach((id, delta) -> {
+            PopularKey existing = popularKeys.get(id);
+            if (existing != null) {
+                setViewCount(id, existing.viewCount() + delta);
+            }
+        });
+    }
+
+    /**
+     * DB 조회수/추천 여부와 대조해 어긋난 항목 보정
+     * 조회는 잠금 밖에서 하므로, 그 사이 변경 이벤트가 반영됐다면 오래된 스냅샷으로 되돌리지 않고 다시 읽는다.
+     */
+    @Scheduled(initialDelayString = "${app.schedule.ranking.reconcile-interval-ms:600000}",
+            fixedDelayString = "${app.schedule.ranking.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (!ready) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= RECONCILE_ATTEMPTS; attempt++) {
+            long sequence;
+            synchronized (this) {
+                sequence = changeSequence;
+            }
+            List<Object[]> rows = bulkReadExecutor.read(scheduleRepository::findAllRankingKeys);
+            int corrected;
+            synchronized (this) {
+                if (sequence != changeSequence) {
+                    continue;
+                }
+                corrected = apply(rows);
+            }
+            if (corrected > 0) {
+                log.info("일정 랭킹 보정 - {}건", corrected);
+            }
+            return;
+        }
+        log.debug("일정 랭킹 보정 보류 - 조회 중 변경이 계속 발생해 다음 주기에 다시 시도");
+    }
+
+    /**
+     * DB 스냅샷 기준으로 조회수/추천 여부 보정 (잠금 안에서 호출)
+     * @return 보정한 항목 수
+     */
+    private int apply(List<Object[]> rows) {
+        int corrected = 0;
+        Set<Long> featuredIds = new HashSet<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            long viewCount = row[1] != null ? ((Number) row[1]).longValue() : 0;
+            PopularKey existing = popularKeys.get(id);
+            if (existing != null && existing.viewCount() != viewCount) {
+                setViewCount(id, viewCount);
+                corrected++;
+            }
+            if (Boolean.TRUE.equals(row[2])) {
+                featuredIds.add(id);
+            }
+        }
+
+        for (ScheduleResponseDto schedule : schedules.values()) {
+            Long id = schedule.getId();
+            boolean shouldBeFeatured = featuredIds.contains(id);
+            if (shouldBeFeatured != featuredKeys.containsKey(id)) {
+                if (shouldBeFeatured) {
+                    addFeatured(schedule);
+                } else {
+                    featured.remove(featuredKeys.remove(id));
+                }
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private void put(ScheduleResponseDto schedule, long viewCount) {
+        schedules.put(schedule.getId(), schedule);
+        setViewCount(schedule.getId(), viewCount);
+        if (schedule.isFeaturedEvent()) {
+            addFeatured(schedule);
+        }
+    }
+
+    private void setViewCount(Long id, long viewCount) {
+        PopularKey previous = popularKeys.put(id, new PopularKey(viewCount, id));
+        if (previous != null) {
+            popular.remove(previous);
+        }
+        popular.add(popularKeys.get(id));
+    }
+
+    private void addFeatured(ScheduleResponseDto schedule) {
+        LocalDate startDate = schedule.getStartDate() != null ? schedule.getStartDate() : LocalDate.MAX;
+        FeaturedKey key = new FeaturedKey(startDate, schedule.getId());
+        featuredKeys.put(schedule.getId(), key);
+        featured.add(key);
+    }
+
+    private void removeKeys(Long id) {
+        PopularKey popularKey = popularKeys.remove(id);
+        if (popularKey != null) {
+            popular.remove(popularKey);
+        }
+        FeaturedKey featuredKey = featuredKeys.remove(id);
+        if (featuredKey != null) {
+            featured.remove(featuredKey);
+        }
+    }
+
+    private int viewCountOf(Long id, ScheduleResponseDto schedule) {
+        PopularKey key = popularKeys.get(id);
+        long viewCount = key != null ? key.viewCount() : (schedule.getViewCount() != null ? schedule.getViewCount() : 0);
+        return (int) Math.min(viewCount, Integer.MAX_VALUE);
+    }
+
+    private record PopularKey(long viewCount, long id) {
+    }
+
+    private record FeaturedKey(LocalDate startDate, long id) {
+    }
+}
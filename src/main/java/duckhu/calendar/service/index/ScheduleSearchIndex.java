@@ -0,0 +1,341 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일정 전문 검색용 인메모리 역색인
+ * 제목/카테고리/설명을 단어 단위로 나눈 뒤 글자 바이그램(한 글자 단어는 유니그램)을 키로 삼아,
+ * 문서 번호를 오름차순 int 배열 포스팅 리스트에 쌓는다. 형태소 분석 없이도 한국어 부분 일치가 되며,
+ * 질의의 모든 그램을 가진 문서를 교집합으로 찾은 뒤 필드 가중치 점수로 정렬한다.
+ * 갱신은 새 문서 번호를 뒤에 붙이고 이전 번호를 삭제 표시하며, 삭제 표시가 쌓이면 전체를 다시 만든다.
+ */
+@Component
+@Order(60)
+public class ScheduleSearchIndex implements ScheduleIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * 제목에 질의 문구가 그대로 포함/시작될 때의 가산점
+     */
+    private static final int TITLE_PHRASE_BONUS = 20;
+    private static final int TITLE_PREFIX_BONUS = 10;
+
+    /**
+     * 삭제 표시된 문서가 이 수 이상이고 살아 있는 문서 수보다 많으면 재구성
+     */
+    private static final int COMPACTION_MIN_DEAD = 256;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdBySchedule = new HashMap<>();
+    private ScheduleResponseDto[] docs = new ScheduleResponseDto[0];
+    private String[] normalizedTitles = new String[0];
+    private int docCount;
+    private int deadCount;
+
+    private volatile boolean ready;
+
+    /**
+     * 색인 적재 완료 여부 (미적재 시 호출 측에서 리포지토리로 폴백)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdBySchedule.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의어로 일정 검색 (점수 내림차순, 동점이면 시작일 내림차순)
+     * @param query 검색어 (제목/카테고리/설명 대상)
+     * @param category 카테고리 필터 (null 이면 전체)
+     */
+    public List<ScheduleResponseDto> search(String query, String category) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int[] grams = queryGrams(words);
+        String phrase = String.join(" ", words);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return new ArrayList<>();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            int[] cursors = new int[lists.length];
+            PostingList smallest = lists[0];
+            candidates:
+            for (int p = 0; p < smallest.size; p++) {
+                int doc = smallest.docs[p];
+                ScheduleResponseDto schedule = docs[doc];
+                if (schedule == null) {
+                    continue;
+                }
+                int score = smallest.weights[p];
+                for (int i = 1; i < lists.length; i++) {
+                    int position = lists[i].seek(doc, cursors[i]);
+                    cursors[i] = position;
+                    if (position >= lists[i].size || lists[i].docs[position] != doc) {
+                        continue candidates;
+                    }
+                    score += lists[i].weights[position];
+                }
+                if (category != null && !category.equals(schedule.getCategory())) {
+                    continue;
+                }
+                String title = normalizedTitles[doc];
+                if (title.startsWith(phrase)) {
+                    score += TITLE_PHRASE_BONUS + TITLE_PREFIX_BONUS;
+                } else if (title.contains(phrase)) {
+                    score += TITLE_PHRASE_BONUS;
+                }
+                hits.add(new Hit(schedule, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(hit -> hit.schedule().getStartDate(),
+                        Comparator.nullsLast(Comparator.<LocalDate>reverseOrder())));
+        List<ScheduleResponseDto> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            result.add(hit.schedule());
+        }
+        return result;
+    }
+
+    // === 일정 변경 반영 (ScheduleIndexManager가 호출) ===
+
+    @Override
+    public void rebuild(Collection<ScheduleResponseDto> schedules) {
+        lock.writeLock().lock();
+        try {
+            reset(schedules.size());
+            for (ScheduleResponseDto schedule : schedules) {
+                addDocument(schedule);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ScheduleResponseDto schedule) {
+        lock.writeLock().lock();
+        try {
+            markDead(schedule.getId());
+            addDocument(schedule);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            markDead(scheduleId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // === 내부 구현 (쓰기 잠금 하에서 호출) ===
+
+    private void reset(int capacity) {
+        postings.clear();
+        docIdBySchedule.clear();
+        docs = new ScheduleResponseDto[Math.max(16, capacity)];
+        normalizedTitles = new String[docs.length];
+        docCount = 0;
+        deadCount = 0;
+    }
+
+    private void addDocument(ScheduleResponseDto schedule) {
+        if (docCount == docs.length) {
+            docs = Arrays.copyOf(docs, docs.length * 2);
+            normalizedTitles = Arrays.copyOf(normalizedTitles, docs.length);
+        }
+        int doc = docCount++;
+        docs[doc] = schedule;
+        List<String> titleWords = tokenize(schedule.getTitle());
+        normalizedTitles[doc] = String.join(" ", titleWords);
+        docIdBySchedule.put(schedule.getId(), doc);
+
+        Map<Integer, Integer> weights = new HashMap<>();
+        addGrams(weights, titleWords, TITLE_WEIGHT);
+        addGrams(weights, tokenize(schedule.getCategory()), CATEGORY_WEIGHT);
+        addGrams(weights, tokenize(schedule.getDescription()), DESCRIPTION_WEIGHT);
+        weights.forEach((gram, weight) ->
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(doc, weight));
+    }
+
+    private void markDead(Long scheduleId) {
+        Integer doc = docIdBySchedule.remove(scheduleId);
+        if (doc != null) {
+            docs[doc] = null;
+            normalizedTitles[doc] = null;
+            deadCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount < COMPACTION_MIN_DEAD || deadCount <= docIdBySchedule.size()) {
+            return;
+        }
+        List<ScheduleResponseDto> live = new ArrayList<>(docIdBySchedule.size());
+        for (int doc = 0; doc < docCount; doc++) {
+            if (docs[doc] != null) {
+                live.add(docs[doc]);
+            }
+        }
+        reset(live.size());
+        for (ScheduleResponseDto schedule : live) {
+            addDocument(schedule);
+        }
+    }
+
+    // === 토큰화 ===
+
+    /**
+     * 소문자/NFC 정규화 후 글자·숫자가 아닌 문자를 기준으로 단어 분리
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 색인 그램: 각 글자 유니그램 + 인접 글자 바이그램
+     */
+    private static void addGrams(Map<Integer, Integer> weights, List<String> words, int weight) {
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                weights.merge(unigram(word.charAt(i)), weight, Integer::sum);
+                if (i + 1 < word.length()) {
+                    weights.merge(bigram(word.charAt(i), word.charAt(i + 1)), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 질의 그램: 두 글자 이상 단어는 바이그램, 한 글자 단어는 유니그램
+     */
+    private static int[] queryGrams(List<String> words) {
+        Set<Integer> grams = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word.length() == 1) {
+                grams.add(unigram(word.charAt(0)));
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(bigram(word.charAt(i), word.charAt(i + 1)));
+            }
+        }
+        return grams.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 문서 번호 오름차순 포스팅 리스트 (문서 번호와 그램 가중치를 병렬 int 배열로 보관)
+     */
+    private static final class PostingList {
+        private int[] docs = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        private void add(int doc, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        /**
+         * from 이후에서 doc 이상인 첫 위치 (지수 탐색 후 이진 탐색)
+         */
+        private int seek(int doc, int from) {
+            int bound = 1;
+            while (from + bound < size && docs[from + bound] < doc) {
+                bound <<= 1;
+            }
+            int low = from;
+            int high = Math.min(from + bound, size);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (docs[mid] < doc) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Hit(ScheduleResponseDto schedule, int score) {
+    }
+}
@@ -0,0 +1,239 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.ViewCountsFlushedEvent;
+import duckhu.calendar.repository.ScheduleRepository;
+import duckhu.calendar.repository.support.BulkReadExecutor;
+import duckhu.calendar.service.recurrence.RecurrenceExpander;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일정 통계 집계 (전체/추천/우선순위별/카테고리별 개수, 전체 조회수)
+ * 시작 시 전체 적재 후에는 일정 변경 이벤트와 조회수 반영 이벤트로 집계를 증감하므로 통계 조회가 O(1)이다.
+ * 주기적으로 DB에서 다시 계산해 누적 오차를 바로잡는다.
+ */
+@Component
+@Order(80)
+@Slf4j
+public class ScheduleStatisticsIndex implements ScheduleIndex {
+
+    private static final String UNCATEGORIZED = "미분류";
+
+    /**
+     * 보정 중 변경이 끼어들 때 다시 읽는 최대 횟수 (모두 실패하면 다음 주기로 미룸)
+     */
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final ScheduleRepository scheduleRepository;
+    private final BulkReadExecutor bulkReadExecutor;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+
+    /**
+     * 일정별 집계 기여분 (변경/삭제 시 이전 값을 빼기 위해 보관)
+     */
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final Map<String, Long> priorityCounts = new TreeMap<>();
+    private final Map<String, Long> categoryCounts = new TreeMap<>();
+    private long featuredCount;
+    private long totalViews;
+
+    /**
+     * 집계 변경 순번 (보정용 DB 조회 중 반영된 변경이 있는지 확인)
+     */
+    private long changeSequence;
+
+    /**
+     * 오늘 일정 수 캐시 (날짜가 바뀌거나 일정이 변경되면 다시 계산)
+     */
+    private LocalDate todayDate;
+    private long todayCount;
+
+    private volatile boolean ready;
+
+    public ScheduleStatisticsIndex(ScheduleRepository scheduleRepository,
+                                   ScheduleIntervalIndex scheduleIntervalIndex,
+                                   BulkReadExecutor bulkReadExecutor) {
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleIntervalIndex = scheduleIntervalIndex;
+        this.bulkReadExecutor = bulkReadExecutor;
+    }
+
+    /**
+     * 집계 적재 완료 여부 (미적재 시 호출 측에서 리포지토리로 폴백)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 집계 스냅샷
+     * @param pendingViews 아직 DB에 반영되지 않은 조회수
+     */
+    public synchronized Map<String, Object> getStatistics(long pendingViews) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalSchedules", (long) contributions.size());
+        stats.put("featuredSchedules", featuredCount);
+        stats.put("todaySchedules", getTodayCount());
+        stats.put("totalViews", totalViews + pendingViews);
+        stats.put("priorityCounts", new TreeMap<>(priorityCounts));
+        stats.put("categoryCounts", new TreeMap<>(categoryCounts));
+        return stats;
+    }
+
+    // === 일정 변경 반영 (ScheduleIndexManager가 호출) ===
+
+    @Override
+    public synchronized void rebuild(Collection<ScheduleResponseDto> schedules) {
+        changeSequence++;
+        clear();
+        for (ScheduleResponseDto schedule : schedules) {
+            add(schedule.getId(), Contribution.of(schedule.getIsFeatured(), schedule.getPriority(),
+                    schedule.getCategory(), schedule.getViewCount() != null ? schedule.getViewCount() : 0));
+        }
+        ready = true;
+    }
+
+    /**
+     * 조회수는 집계가 이미 추적 중인 값을 유지 (이벤트 스냅샷의 조회수는 트랜잭션 시점 값)
+     */
+    @Override
+    public synchronized void upsert(ScheduleResponseDto schedule) {
+        changeSequence++;
+        Contribution previous = subtract(schedule.getId());
+        long viewCount = previous != null ? previous.viewCount()
+                : (schedule.getViewCount() != null ? schedule.getViewCount() : 0);
+        add(schedule.getId(), Contribution.of(schedule.getIsFeatured(), schedule.getPriority(),
+                schedule.getCategory(), viewCount));
+    }
+
+    @Override
+    public synchronized void remove(Long scheduleId) {
+        changeSequence++;
+        subtract(scheduleId);
+    }
+
+    @EventListener
+    public synchronized void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        changeSequence++;
+        event.getDeltas().forEach((id, delta) -> {
+            Contribution contribution = contributions.get(id);
+            if (contribution != null) {
+                contributions.put(id, contribution.withViewCount(contribution.viewCount() + delta));
+                totalViews += delta;
+            }
+        });
+    }
+
+    /**
+     * DB 기준으로 집계 재계산
+     * 조회는 잠금 밖에서 하므로, 그 사이 변경 이벤트가 반영됐다면 오래된 스냅샷으로 덮어쓰지 않고 다시 읽는다.
+     */
+    @Scheduled(initialDelayString = "${app.schedule.statistics.reconcile-interval-ms:600000}",
+            fixedDelayString = "${app.schedule.statistics.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (!ready) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= RECONCILE_ATTEMPTS; attempt++) {
+            long sequence;
+            synchronized (this) {
+                sequence = changeSequence;
+            }
+            List<Object[]> rows = bulkReadExecutor.read(scheduleRepository::findAllStatisticsRows);
+            synchronized (this) {
+                if (sequence != changeSequence) {
+                    continue;
+                }
+                long previousTotal = contributions.size();
+                long previousViews = totalViews;
+                clear();
+                for (Object[] row : rows) {
+                    add((Long) row[0], Contribution.of((Boolean) row[1], (Integer) row[2], (String) row[3],
+                            row[4] != null ? ((Number) row[4]).longValue() : 0));
+                }
+                if (previousTotal != contributions.size() || previousViews != totalViews) {
+                    log.info("일정 통계 보정 - 일정 수 {} → {}, 조회수 {} → {}",
+                            previousTotal, contributions.size(), previousViews, totalViews);
+                }
+                return;
+            }
+        }
+        log.debug("일정 통계 보정 보류 - 조회 중 변경이 계속 발생해 다음 주기에 다시 시도");
+    }
+
+    private long getTodayCount() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(todayDate)) {
+            todayCount = scheduleIntervalIndex.isReady()
+                    ? RecurrenceExpander.expand(scheduleIntervalIndex.findOverlapping(today, today), today, today).size()
+                    : scheduleRepository.countTodaySchedules(today);
+            todayDate = today;
+        }
+        return todayCount;
+    }
+
+    private void clear() {
+        contributions.clear();
+        priorityCounts.clear();
+        categoryCounts.clear();
+        featuredCount = 0;
+        totalViews = 0;
+        todayDate = null;
+    }
+
+    private void add(Long id, Contribution contribution) {
+        contributions.put(id, contribution);
+        if (contribution.featured()) {
+            featuredCount++;
+        }
+        priorityCounts.merge(contribution.priority(), 1L, Long::sum);
+        categoryCounts.merge(contribution.category(), 1L, Long::sum);
+        totalViews += contribution.viewCount();
+        todayDate = null;
+    }
+
+    private Contribution subtract(Long id) {
+        Contribution contribution = contributions.remove(id);
+        if (contribution == null) {
+            return null;
+        }
+        if (contribution.featured()) {
+            featuredCount--;
+        }
+        decrement(priorityCounts, contribution.priority());
+        decrement(categoryCounts, contribution.category());
+        totalViews -= contribution.viewCount();
+        todayDate = null;
+        return contribution;
+    }
+
+    private static void decrement(Map<String, Long> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private record Contribution(boolean featured, String priority, String category, long viewCount) {
+
+        private static Contribution of(Boolean featured, Integer priority, String category, long viewCount) {
+            return new Contribution(Boolean.TRUE.equals(featured),
+                    String.valueOf(priority),
+                    category != null && !category.isBlank() ? category : UNCATEGORIZED,
+                    viewCount);
+        }
+
+        private Contribution withViewCount(long viewCount) {
+            return new Contribution(featured, priority, category, viewCount);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.dto.SuggestionDto;
+import duckhu.calendar.event.HolidayChangedEvent;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.repository.HolidayRepository;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색어 자동완성 색인 (일정 제목, 카테고리, 공휴일 이름)
+ * 각 항목을 음절 그대로의 키와 초성 키(예: 크리스마스 → ㅋㄹㅅㅁㅅ)로 각각 정렬 배열에 넣고,
+ * 단어 시작 위치마다 키를 추가해 중간 단어로도 찾을 수 있게 한다.
+ * 조회는 이진 탐색으로 접두사 범위를 찾으므로 키 입력마다 DB 조회가 필요 없다.
+ * 쓰기는 전체 키를 다시 정렬하지 않고, 바뀐 일정/카테고리만으로 만든 작은 변경분 테이블을 교체하며
+ * 기존 테이블의 해당 항목은 가린다. 변경분이 상한을 넘으면 전체 테이블을 한 번 다시 만든다.
+ */
+@Component
+@Order(70)
+public class ScheduleSuggestIndex implements ScheduleIndex {
+
+    public static final String TYPE_SCHEDULE = "SCHEDULE";
+    public static final String TYPE_CATEGORY = "CATEGORY";
+    public static final String TYPE_HOLIDAY = "HOLIDAY";
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char HANGUL_FIRST = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    /**
+     * 한 번의 조회에서 살펴볼 최대 키 수 (한 글자 질의처럼 범위가 넓은 경우 상한)
+     */
+    private static final int MAX_SCAN = 5000;
+
+    /**
+     * 전체 재구성 전까지 변경분 테이블에 모아 두는 일정/카테고리 수 상한
+     */
+    static final int DELTA_LIMIT = 512;
+
+    private final HolidayRepository holidayRepository;
+
+    private final Map<Long, ScheduleResponseDto> schedules = new HashMap<>();
+    private final Map<String, Integer> categoryCounts = new HashMap<>();
+    private List<String> holidayNames = List.of();
+
+    /**
+     * 전체 테이블을 만든 뒤 바뀐 일정 ID와 카테고리 (기존 테이블에서 가리고 변경분 테이블에서 다시 찾음)
+     */
+    private final Set<Long> changedIds = new HashSet<>();
+    private final Set<String> changedCategories = new HashSet<>();
+    private Set<String> baseCategories = Set.of();
+
+    private volatile Snapshot snapshot;
+
+    public ScheduleSuggestIndex(HolidayRepository holidayRepository) {
+        this.holidayRepository = holidayRepository;
+    }
+
+    /**
+     * 색인 적재 완료 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 입력 중인 검색어의 자동완성 후보 조회
+     * 초성만 입력하면 초성 키에서, 마지막 글자만 초성이면(예: 크리ㅅ) 다음 음절의 초성까지 맞춰 찾는다.
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        Snapshot current = snapshot;
+        String normalized = normalize(query);
+        if (current == null || normalized.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        current.base.match(normalized).forEach((termId, rank) -> {
+            Term term = current.base.terms[termId];
+            if (!current.hides(term)) {
+                matches.add(new Match(term, rank));
+            }
+        });
+        current.delta.match(normalized).forEach((termId, rank) ->
+                matches.add(new Match(current.delta.terms[termId], rank)));
+        matches.sort(Comparator.comparingInt(Match::rank)
+                .thenComparing(match -> match.term().weight(), Comparator.reverseOrder())
+                .thenComparingInt(match -> match.term().text().length()));
+
+        List<SuggestionDto> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && result.size() < limit; i++) {
+            Term term = matches.get(i).term();
+            result.add(new SuggestionDto(term.type(), term.text(), term.scheduleId()));
+        }
+        return result;
+    }
+
+    // === 일정 변경 반영 (ScheduleIndexManager가 호출) ===
+
+    @Override
+    public synchronized void rebuild(Collection<ScheduleResponseDto> all) {
+        schedules.clear();
+        categoryCounts.clear();
+        for (ScheduleResponseDto schedule : all) {
+            ScheduleResponseDto previous = schedules.put(schedule.getId(), schedule);
+            if (previous != null) {
+                countCategory(previous.getCategory(), -1);
+            }
+            countCategory(schedule.getCategory(), 1);
+        }
+        holidayNames = holidayRepository.findDistinctNames();
+        publish();
+    }
+
+    @Override
+    public synchronized void upsert(ScheduleResponseDto schedule) {
+        if (snapshot == null) {
+            return;
+        }
+        write(schedule.getId(), schedule);
+        publishDelta();
+    }
+
+    @Override
+    public synchronized void remove(Long scheduleId) {
+        if (snapshot == null || !schedules.containsKey(scheduleId)) {
+            return;
+        }
+        write(scheduleId, null);
+        publishDelta();
+    }
+
+    @Override
+    public synchronized void applyAll(List<ScheduleChangedEvent> events) {
+        if (snapshot == null) {
+            return;
+        }
+        for (ScheduleChangedEvent event : events) {
+            write(event.getScheduleId(), event.isDeleted() ? null : event.getCurrent());
+        }
+        publishDelta();
+    }
+
+    /**
+     * 공휴일 변경 시 공휴일 이름 다시 적재
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onHolidayChanged(HolidayChangedEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+        holidayNames = holidayRepository.findDistinctNames();
+        publish();
+    }
+
+    /**
+     * 일정 한 건 반영 (schedule 이 null 이면 삭제, 카테고리별 일정 수도 함께 맞춤)
+     */
+    private void write(Long scheduleId, ScheduleResponseDto schedule) {
+        ScheduleResponseDto previous = schedule == null ? schedules.remove(scheduleId) : schedules.put(scheduleId, schedule);
+        if (previous != null) {
+            countCategory(previous.getCategory(), -1);
+        }
+        if (schedule != null) {
+            countCategory(schedule.getCategory(), 1);
+        }
+        changedIds.add(scheduleId);
+    }
+
+    private void countCategory(String category, int delta) {
+        if (category == null || category.isBlank()) {
+            return;
+        }
+        if (categoryCounts.merge(category, delta, Integer::sum) <= 0) {
+            categoryCounts.remove(category);
+        }
+        changedCategories.add(category);
+    }
+
+    /**
+     * 전체 테이블 재구성 (변경분 초기화)
+     */
+    private void publish() {
+        List<Term> terms = new ArrayList<>();
+        for (ScheduleResponseDto schedule : schedules.values()) {
+            addScheduleTerm(schedule, terms);
+        }
+        for (String category : categoryCounts.keySet()) {
+            terms.add(new Term(TYPE_CATEGORY, category, null, 1));
+        }
+        for (String name : holidayNames) {
+            if (name != null && !name.isBlank()) {
+                terms.add(new Term(TYPE_HOLIDAY, name, null, 1));
+            }
+        }
+        baseCategories = Set.copyOf(categoryCounts.keySet());
+        changedIds.clear();
+        changedCategories.clear();
+        snapshot = new Snapshot(TermTable.of(terms.toArray(new Term[0])), TermTable.EMPTY, Set.of(), Set.of());
+    }
+
+    /**
+     * 바뀐 일정/카테고리만으로 변경분 테이블 교체 (상한을 넘으면 전체 재구성)
+     */
+    private void publishDelta() {
+        if (changedIds.size() + changedCategories.size() > DELTA_LIMIT) {
+            publish();
+            return;
+        }
+        List<Term> terms = new ArrayList<>();
+        for (Long scheduleId : changedIds) {
+            ScheduleResponseDto schedule = schedules.get(scheduleId);
+            if (schedule != null) {
+                addScheduleTerm(schedule, terms);
+            }
+        }
+        Set<String> hiddenCategories = new HashSet<>();
+        for (String category : changedCategories) {
+            boolean present = categoryCounts.containsKey(category);
+            boolean inBase = baseCategories.contains(category);
+            if (present && !inBase) {
+                terms.add(new Term(TYPE_CATEGORY, category, null, 1));
+            } else if (!present && inBase) {
+                hiddenCategories.add(category);
+            }
+        }
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(current.base, TermTable.of(terms.toArray(new Term[0])),
+                Set.copyOf(changedIds), hiddenCategories);
+    }
+
+    private static void addScheduleTerm(ScheduleResponseDto schedule, List<Term> terms) {
+        if (schedule.getTitle() != null && !schedule.getTitle().isBlank()) {
+            terms.add(new Term(TYPE_SCHEDULE, schedule.getTitle(), schedule.getId(),
+                    schedule.isFeaturedEvent() ? 3 : 2));
+        }
+    }
+
+    // === 한글 처리 ===
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 음절을 초성으로 바꾸고 공백은 제거 (한글 외 문자는 그대로)
+     */
+    static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ' ') {
+                builder.append(choseongOf(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static char choseongOf(char c) {
+        if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+            return CHOSEONG.charAt((c - HANGUL_FIRST) / SYLLABLES_PER_CHOSEONG);
+        }
+        return c;
+    }
+
+    private static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    private static boolean isChoseongOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ' ' && !isChoseong(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Term(String type, String text, Long scheduleId, int weight) {
+    }
+
+    private record Match(Term term, int rank) {
+    }
+
+    /**
+     * 불변 색인 스냅샷 (전체 테이블 + 변경분 테이블, 전체 테이블에서 가릴 일정 ID와 카테고리)
+     */
+    private record Snapshot(TermTable base, TermTable delta, Set<Long> hiddenIds, Set<String> hiddenCategories) {
+
+        boolean hides(Term term) {
+            return term.scheduleId() != null ? hiddenIds.contains(term.scheduleId())
+                    : TYPE_CATEGORY.equals(term.type()) && hiddenCategories.contains(term.text());
+        }
+    }
+
+    /**
+     * 항목 목록과 음절/초성 키 테이블
+     */
+    private static final class TermTable {
+        private static final TermTable EMPTY = of(new Term[0]);
+
+        private final Term[] terms;
+        private final KeyTable syllableKeys;
+        private final KeyTable choseongKeys;
+
+        private TermTable(Term[] terms, KeyTable syllableKeys, KeyTable choseongKeys) {
+            this.terms = terms;
+            this.syllableKeys = syllableKeys;
+            this.choseongKeys = choseongKeys;
+        }
+
+        /**
+         * 질의와 맞는 항목별 최선 순위
+         * 초성만 입력하면 초성 키에서, 마지막 글자만 초성이면 다음 음절의 초성까지 맞춰 찾는다.
+         */
+        private Map<Integer, Integer> match(String normalized) {
+            if (isChoseongOnly(normalized)) {
+                return choseongKeys.collect(normalized.replace(" ", ""), (char) 0);
+            }
+            char last = normalized.charAt(normalized.length() - 1);
+            if (normalized.length() > 1 && isChoseong(last)) {
+                return syllableKeys.collect(normalized.substring(0, normalized.length() - 1), last);
+            }
+            return syllableKeys.collect(normalized, (char) 0);
+        }
+
+        private static TermTable of(Term[] terms) {
+            List<KeyEntry> syllables = new ArrayList<>();
+            List<KeyEntry> choseongs = new ArrayList<>();
+            for (int termId = 0; termId < terms.length; termId++) {
+                String text = normalize(terms[termId].text());
+                for (int i = 0; i < text.length(); i++) {
+                    if (i == 0 || text.charAt(i - 1) == ' ') {
+                        int rank = i == 0 ? 0 : 1;
+                        String suffix = text.substring(i);
+                        syllables.add(new KeyEntry(suffix, termId, rank));
+                        choseongs.add(new KeyEntry(toChoseong(suffix), termId, rank));
+                    }
+                }
+            }
+            return new TermTable(terms, KeyTable.of(syllables), KeyTable.of(choseongs));
+        }
+    }
+
+    private record KeyEntry(String key, int termId, int rank) {
+    }
+
+    /**
+     * 키 오름차순 정렬 배열과 병렬 항목 번호/순위 배열
+     */
+    private static final class KeyTable {
+        private final String[] keys;
+        private final int[] termIds;
+        private final byte[] ranks;
+
+        private KeyTable(String[] keys, int[] termIds, byte[] ranks) {
+            this.keys = keys;
+            this.termIds = termIds;
+            this.ranks = ranks;
+        }
+
+        private static KeyTable of(List<KeyEntry> entries) {
+            entries.sort(Comparator.comparing(KeyEntry::key));
+            String[] keys = new String[entries.size()];
+            int[] termIds = new int[entries.size()];
+            byte[] ranks = new byte[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).key();
+                termIds[i] = entries.get(i).termId();
+                ranks[i] = (byte) entries.get(i).rank();
+            }
+            return new KeyTable(keys, termIds, ranks);
+        }
+
+        /**
+         * 접두사로 시작하는 키의 항목별 최선 순위 수집
+         * @param nextChoseong 0이 아니면 접두사 다음 음절의 초성이 이 값인 키만 포함
+         */
+        private Map<Integer, Integer> collect(String prefix, char nextChoseong) {
+            Map<Integer, Integer> bestRanks = new HashMap<>();
+            int index = lowerBound(prefix);
+            for (int scanned = 0; index < keys.length && scanned < MAX_SCAN; index++, scanned++) {
+                String key = keys[index];
+                if (!key.startsWith(prefix)) {
+                    break;
+                }
+                if (nextChoseong != 0
+                        && (key.length() <= prefix.length() || choseongOf(key.charAt(prefix.length())) != nextChoseong)) {
+                    continue;
+                }
+                bestRanks.merge(termIds[index], (int) ranks[index], Math::min);
+            }
+            return bestRanks;
+        }
+
+        /**
+         * prefix 이상인 첫 키의 위치
+         */
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package duckhu.calendar.service.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duckhu.calendar.entity.Notice;
+import duckhu.calendar.event.NoticeChangedEvent;
+import duckhu.calendar.event.ScheduleBatchChangedEvent;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정/공지 변경 실시간 푸시 (Server-Sent Events)
+ * 커밋된 변경을 한 번만 JSON으로 직렬화해 최근 이벤트 링 버퍼에 넣고, 구독자별 제한 큐에 나눠 담는다.
+ * 실제 전송은 pushExecutor가 구독자별로 한 번에 하나씩 처리하므로 구독자마다 톰캣 스레드를 붙잡지 않는다.
+ * 큐가 넘치는 느린 구독자와 한 번의 전송이 시간 예산을 넘겨 멈춘 구독자는 연결을 끊고,
+ * 클라이언트는 Last-Event-ID로 재접속해 놓친 이벤트를 이어 받는다.
+ */
+@Service
+@Slf4j
+public class ChangePushService {
+
+    public static final String SCHEDULE_EVENT = "schedule";
+    public static final String NOTICE_EVENT = "notice";
+
+    /**
+     * 일괄 변경 이벤트 (data: {action, ids} - 변경 내용은 변경분 API로 받음)
+     */
+    public static final String SCHEDULE_BATCH_EVENT = "schedule-batch";
+
+    /**
+     * 링 버퍼에서 이어 받을 수 없을 때 보내는 이벤트 (클라이언트는 /api/schedules/changes 등으로 다시 맞춰야 함)
+     */
+    public static final String RESET_EVENT = "reset";
+
+    private final ObjectMapper objectMapper;
+    private final Executor pushExecutor;
+    private final int clientBufferSize;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutMs;
+
+    /**
+     * 이벤트 ID 앞부분 (재시작 전에 받은 ID는 이어 받을 수 없으므로 구분용)
+     */
+    private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    private final Object lock = new Object();
+    private final PushMessage[] ring;
+    private long lastSequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedSubscriberCount = new AtomicLong();
+    private final AtomicLong rejectedSubscriberCount = new AtomicLong();
+    private final AtomicLong stalledSubscriberCount = new AtomicLong();
+
+    public ChangePushService(ObjectMapper objectMapper,
+                             @Qualifier("pushExecutor") Executor pushExecutor,
+                             @Value("${app.push.replay-buffer-size:1024}") int replayBufferSize,
+                             @Value("${app.push.client-buffer-size:256}") int clientBufferSize,
+                             @Value("${app.push.max-subscribers:1000}") int maxSubscribers,
+                             @Value("${app.push.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                             @Value("${app.push.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.pushExecutor = pushExecutor;
+        this.ring = new PushMessage[Math.max(replayBufferSize, 1)];
+        this.clientBufferSize = Math.max(clientBufferSize, 1);
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    // === 구독 ===
+
+    /**
+     * 구독 등록
+     * lastEventId가 링 버퍼 안에 있으면 그 다음 이벤트부터 재전송하고, 버퍼에서 밀려났거나 다른 기동의 ID면 reset 이벤트를 먼저 보낸다.
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (없으면 null)
+     * @throws IllegalStateException 구독자 수 상한 초과
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            rejectedSubscriberCount.incrementAndGet();
+            throw new IllegalStateException("실시간 알림 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, clientBufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 재전송 목록 계산과 구독자 등록을 발행과 같은 잠금 안에서 해야 사이에 발행된 이벤트가 빠지거나 중복되지 않음
+        synchronized (lock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<PushMessage> replay = replaySince(lastEventId);
+                if (replay == null) {
+                    subscriber.offer(PushMessage.reset(currentEventId()));
+                } else if (replay.size() >= clientBufferSize) {
+                    subscriber.offer(PushMessage.reset(currentEventId())); // 재전송만으로 큐가 넘치면 전체 재조회가 낫다
+                } else {
+                    replay.forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        // 첫 바이트를 바로 보내 프록시/브라우저가 연결을 열린 상태로 인식하게 함
+        subscriber.offer(PushMessage.comment("connected"));
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    /**
+     * lastEventId 이후의 이벤트 목록 (이어 받을 수 없으면 null, lock 보유 상태에서 호출)
+     */
+    private List<PushMessage> replaySince(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash <= 0 || !lastEventId.substring(0, dash).equals(bootId)) {
+            return null;
+        }
+        long sequence;
+        try {
+            sequence = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = Math.max(1, lastSequence - ring.length + 1);
+        if (sequence > lastSequence || sequence < oldest - 1) {
+            return null;
+        }
+        List<PushMessage> replay = new ArrayList<>((int) (lastSequence - sequence));
+        for (long s = sequence + 1; s <= lastSequence; s++) {
+            replay.add(ring[(int) (s % ring.length)]);
+        }
+        return replay;
+    }
+
+    private String currentEventId() {
+        return bootId + "-" + lastSequence;
+    }
+
+    // === 발행 ===
+
+    /**
+     * 커밋된 일정 변경 푸시
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        publish(SCHEDULE_EVENT, event.getType().name(), event.getScheduleId(), event.getCurrent());
+    }
+
+    /**
+     * 커밋된 일괄 변경은 건별이 아니라 한 번만 푸시 (구독자 큐가 넘치지 않도록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleBatchChanged(ScheduleBatchChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("action", event.getType().name());
+        payload.put("ids", event.getScheduleIds());
+        publish(SCHEDULE_BATCH_EVENT, payload);
+    }
+
+    /**
+     * 커밋된 공지사항 변경 푸시
+     * 구독은 인증 없이 열리므로, 지금 공개 화면에 표시되는 공지만 내용을 싣고
+     * 비활성/게시 기간 밖 공지는 {action, id}만 보낸다 (클라이언트는 목록에서 내리기만 하면 됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        Notice notice = event.getCurrent();
+        if (notice != null && notice.isDisplayableAt(LocalDateTime.now())) {
+            publish(NOTICE_EVENT, event.getType().name(), event.getNoticeId(), notice);
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("action", event.getType().name());
+        payload.put("id", event.getNoticeId());
+        publish(NOTICE_EVENT, payload);
+    }
+
+    private void publish(String name, String action, Long id, Object data) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("action", action);
+        payload.put("id", id);
+        payload.put("data", data);
+        publish(name, payload);
+    }
+
+    private void publish(String name, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("실시간 알림 직렬화 실패 - {}: {}", name, e.getMessage());
+            return;
+        }
+
+        synchronized (lock) {
+            long sequence = ++lastSequence;
+            PushMessage message = new PushMessage(bootId + "-" + sequence, name, json);
+            ring[(int) (sequence % ring.length)] = message;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(message)) {
+                    dropSlowSubscriber(subscriber);
+                }
+            }
+        }
+        publishedCount.incrementAndGet();
+        subscribers.forEach(this::scheduleDrain);
+    }
+
+    /**
+     * 연결 유지용 주석 전송 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${app.push.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(PushMessage.comment("heartbeat"));
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 전송이 시간 예산을 넘겨 멈춘 구독자 정리
+     * 소켓 쓰기는 중간에 끊을 수 없으므로 구독 목록에서 빼고 닫힘 표시만 한다.
+     * 더 이상 전송이 예약되지 않고, 막혀 있던 전송 스레드는 쓰기가 끝나거나 실패하는 즉시 연결을 닫고 돌아간다.
+     */
+    @Scheduled(fixedDelayString = "${app.push.stall-check-interval-ms:1000}")
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        long budget = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > budget && subscribers.remove(subscriber)) {
+                stalledSubscriberCount.incrementAndGet();
+                log.debug("실시간 알림 전송 지연으로 구독 종료");
+                subscriber.closed.set(true);
+                subscriber.queue.clear();
+            }
+        }
+    }
+
+    // === 전송 ===
+
+    /**
+     * 느린 구독자 종료 (연결 종료는 전송 스레드에서 처리해 발행 스레드가 막히지 않게 함)
+     */
+    private void dropSlowSubscriber(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            droppedSubscriberCount.incrementAndGet();
+            log.debug("실시간 알림 버퍼 초과로 구독 종료");
+            subscriber.closed.set(true);
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 구독자 큐 비우기 예약 (이미 비우는 중이면 그 작업이 이어서 처리)
+     */
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            pushExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            subscribers.remove(subscriber);
+            subscriber.closed.set(true);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            PushMessage message;
+            while ((message = subscriber.queue.poll()) != null && !subscriber.closed.get()) {
+                subscriber.sendStartedAt = System.nanoTime();
+                try {
+                    subscriber.emitter.send(message.toEvent());
+                } finally {
+                    subscriber.sendStartedAt = 0;
+                }
+            }
+            if (subscriber.closed.get()) {
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김 (onError/onCompletion 콜백에서도 제거됨)
+            subscribers.remove(subscriber);
+            subscriber.closed.set(true);
+            subscriber.queue.clear();
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 비우는 도중 새로 들어온 메시지가 있으면 다시 예약
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 실시간 알림 지표
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("subscribers", subscribers.size());
+        statistics.put("maxSubscribers", maxSubscribers);
+        statistics.put("published", publishedCount.get());
+        statistics.put("droppedSubscribers", droppedSubscriberCount.get());
+        statistics.put("rejectedSubscribers", rejectedSubscriberCount.get());
+        statistics.put("stalledSubscribers", stalledSubscriberCount.get());
+        synchronized (lock) {
+            statistics.put("lastEventId", currentEventId());
+            statistics.put("replayBufferSize", ring.length);
+        }
+        return statistics;
+    }
+
+    // === 내부 타입 ===
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<PushMessage> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * 진행 중인 전송의 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+         */
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private boolean offer(PushMessage message) {
+            return closed.get() || queue.offer(message);
+        }
+    }
+
+    /**
+     * 직렬화를 마친 SSE 메시지 (name이 null이면 주석)
+     */
+    private record PushMessage(String id, String name, String data) {
+
+        static PushMessage comment(String text) {
+            return new PushMessage(null, null, text);
+        }
+
+        static PushMessage reset(String currentId) {
+            return new PushMessage(currentId, RESET_EVENT, "{}");
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            return SseEmitter.event().id(id).name(name).data(data);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package duckhu.calendar.service.recurrence;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 일정 전개
+ * 반복 일정은 DB/인덱스에 시리즈 한 건으로 보관하고, 조회 구간과 겹치는 발생만 그때그때 만들어 낸다.
+ */
+public final class RecurrenceExpander {
+
+    /**
+     * 한 번의 전개로 만들 수 있는 최대 발생 수 (끝이 없는 매일 반복을 아주 넓은 구간으로 전개하는 요청 차단)
+     */
+    public static final int MAX_OCCURRENCES = 50_000;
+
+    private RecurrenceExpander() {
+    }
+
+    /**
+     * 일정이 덮는 마지막 날짜 (반복 일정은 마지막 발생의 종료일, 끝이 없는 반복이면 null)
+     */
+    public static LocalDate coverageEnd(ScheduleResponseDto schedule) {
+        return schedule.isRecurring() ? schedule.getSeriesEndDate() : schedule.getEndDate();
+    }
+
+    /**
+     * 반복 시리즈의 마지막 발생 종료일 계산 (끝이 없으면 null)
+     */
+    public static LocalDate seriesEndDate(RecurrenceRule rule, LocalDate startDate, LocalDate endDate) {
+        LocalDate last = rule.lastOccurrence(startDate);
+        if (last == null) {
+            return rule.isBounded() ? endDate : null; // 발생이 하나도 없으면 첫 구간만 덮음
+        }
+        return last.plusDays(ChronoUnit.DAYS.between(startDate, endDate));
+    }
+
+    /**
+     * 조회 구간 [from, to]와 겹치는 일정으로 전개 (발생 수는 MAX_OCCURRENCES 까지)
+     * 일반 일정은 그대로 두고, 반복 일정은 구간 안의 발생마다 시작/종료일을 옮긴 복사본으로 바꾼다.
+     * @throws IllegalArgumentException 반복 발생이 MAX_OCCURRENCES 를 넘는 경우
+     */
+    public static List<ScheduleResponseDto> expand(Collection<ScheduleResponseDto> schedules,
+                                                   LocalDate from, LocalDate to) {
+        return expand(schedules, from, to, MAX_OCCURRENCES);
+    }
+
+    /**
+     * 발생 수 한도를 지정해 전개
+     * @param maxOccurrences 반복 일정에서 만들 수 있는 최대 발생 수
+     * @throws IllegalArgumentException 반복 발생이 maxOccurrences 를 넘는 경우
+     */
+    public static List<ScheduleResponseDto> expand(Collection<ScheduleResponseDto> schedules,
+                                                   LocalDate from, LocalDate to, int maxOccurrences) {
+        List<ScheduleResponseDto> result = new ArrayList<>(schedules.size());
+        int budget = maxOccurrences;
+        for (ScheduleResponseDto schedule : schedules) {
+            if (!schedule.isRecurring()) {
+                result.add(schedule);
+                continue;
+            }
+            RecurrenceRule rule;
+            try {
+                rule = RecurrenceRule.parse(schedule.getRecurrenceRule());
+            } catch (IllegalArgumentException e) {
+                continue; // 저장 전에 검증하므로 정상적으로는 발생하지 않음
+            }
+            long duration = ChronoUnit.DAYS.between(schedule.getStartDate(), schedule.getEndDate());
+            Set<LocalDate> exdates = schedule.getRecurrenceExdates() != null
+                    ? new HashSet<>(schedule.getRecurrenceExdates()) : Set.of();
+
+            Iterator<LocalDate> occurrences = rule.iterator(schedule.getStartDate(), from.minusDays(duration), to);
+            while (occurrences.hasNext()) {
+                LocalDate start = occurrences.next();
+                if (!exdates.contains(start)) {
+                    if (budget-- <= 0) {
+                        throw new IllegalArgumentException("조회 구간의 반복 일정 발생이 너무 많습니다 (최대 "
+                                + maxOccurrences + "건). 조회 기간을 줄여주세요.");
+                    }
+                    result.add(schedule.asOccurrence(start));
+                }
+            }
+        }
+        return result;
+    }
+}
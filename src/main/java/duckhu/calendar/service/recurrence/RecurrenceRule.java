@@ -0,0 +1,462 @@
+package duckhu.calendar.service.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 반복 규칙 (RFC 5545 RRULE 중 FREQ, INTERVAL, BYDAY, COUNT, UNTIL 지원)
+ * 날짜 단위 일정만 다루므로 UNTIL의 시각 부분은 무시하고, 주의 시작은 월요일(WKST=MO)로 고정한다.
+ * 발생일은 주기(일/주/월/년) 단위로 필요한 만큼만 계산하는 지연 반복자로 제공한다.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    public static final int MAX_INTERVAL = 999;
+    public static final int MAX_COUNT = 1000;
+
+    /**
+     * COUNT/UNTIL로 끝나는 시리즈가 덮을 수 있는 최대 기간 (이보다 길게 반복하려면 끝이 없는 반복으로 등록)
+     */
+    public static final int MAX_SPAN_YEARS = 10;
+
+    /**
+     * 발생일이 하나도 없는 주기가 이만큼 이어지면 반복 종료 (예: 윤년 2월 29일 매년 반복의 무한 탐색 방지)
+     */
+    private static final int MAX_EMPTY_PERIODS = 1000;
+
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDate until;
+    private final List<WeekdayNum> byDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDate until, List<WeekdayNum> byDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    /**
+     * RRULE 문자열 파싱 ("RRULE:" 접두어는 있어도 됨)
+     * @throws IllegalArgumentException 형식이 올바르지 않거나 지원하지 않는 항목이 있는 경우
+     */
+    public static RecurrenceRule parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+        String body = text.trim().toUpperCase(Locale.ROOT);
+        if (body.startsWith("RRULE:")) {
+            body = body.substring("RRULE:".length());
+        }
+
+        Map<String, String> parts = new LinkedHashMap<>();
+        for (String part : body.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq <= 0 || eq == part.length() - 1) {
+                throw new IllegalArgumentException("반복 규칙 항목 형식이 올바르지 않습니다: " + part);
+            }
+            if (parts.put(part.substring(0, eq).trim(), part.substring(eq + 1).trim()) != null) {
+                throw new IllegalArgumentException("반복 규칙 항목이 중복되었습니다: " + part.substring(0, eq));
+            }
+        }
+
+        String freq = parts.remove("FREQ");
+        if (freq == null) {
+            throw new IllegalArgumentException("반복 규칙에 FREQ가 필요합니다.");
+        }
+        Frequency frequency;
+        try {
+            frequency = Frequency.valueOf(freq);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + freq);
+        }
+
+        int interval = parts.containsKey("INTERVAL") ? parsePositive("INTERVAL", parts.remove("INTERVAL"), MAX_INTERVAL) : 1;
+        Integer count = parts.containsKey("COUNT") ? parsePositive("COUNT", parts.remove("COUNT"), MAX_COUNT) : null;
+        LocalDate until = parts.containsKey("UNTIL") ? parseUntil(parts.remove("UNTIL")) : null;
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT와 UNTIL은 함께 사용할 수 없습니다.");
+        }
+
+        List<WeekdayNum> byDay = parts.containsKey("BYDAY") ? parseByDay(parts.remove("BYDAY")) : List.of();
+        for (WeekdayNum weekday : byDay) {
+            if (weekday.ordinal() != 0 && frequency != Frequency.MONTHLY) {
+                throw new IllegalArgumentException("순번이 있는 BYDAY는 MONTHLY에서만 사용할 수 있습니다.");
+            }
+        }
+        if (!byDay.isEmpty() && frequency == Frequency.YEARLY) {
+            throw new IllegalArgumentException("YEARLY 반복에서는 BYDAY를 지원하지 않습니다.");
+        }
+
+        String weekStart = parts.remove("WKST");
+        if (weekStart != null && !"MO".equals(weekStart)) {
+            throw new IllegalArgumentException("WKST는 MO만 지원합니다.");
+        }
+        if (!parts.isEmpty()) {
+            throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + String.join(", ", parts.keySet()));
+        }
+
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    private static int parsePositive(String name, String value, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 1 || parsed > max) {
+                throw new IllegalArgumentException(name + "는 1 이상 " + max + " 이하여야 합니다.");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    /**
+     * YYYYMMDD 또는 YYYYMMDDTHHMMSS[Z] (시각은 무시)
+     */
+    private static LocalDate parseUntil(String value) {
+        String date = value.length() > 8 && value.charAt(8) == 'T' ? value.substring(0, 8) : value;
+        try {
+            return LocalDate.parse(date, BASIC_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("UNTIL 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static List<WeekdayNum> parseByDay(String value) {
+        List<WeekdayNum> result = new ArrayList<>();
+        for (String token : value.split(",")) {
+            String item = token.trim();
+            if (item.length() < 2) {
+                throw new IllegalArgumentException("BYDAY 값이 올바르지 않습니다: " + token);
+            }
+            DayOfWeek day = dayOf(item.substring(item.length() - 2));
+            int ordinal = 0;
+            String prefix = item.substring(0, item.length() - 2);
+            if (!prefix.isEmpty()) {
+                try {
+                    ordinal = Integer.parseInt(prefix.startsWith("+") ? prefix.substring(1) : prefix);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("BYDAY 값이 올바르지 않습니다: " + token);
+                }
+                if (ordinal == 0 || ordinal < -5 || ordinal > 5) {
+                    throw new IllegalArgumentException("BYDAY 순번은 -5~5 (0 제외)여야 합니다: " + token);
+                }
+            }
+            WeekdayNum weekday = new WeekdayNum(ordinal, day);
+            if (!result.contains(weekday)) {
+                result.add(weekday);
+            }
+        }
+        result.sort(Comparator.comparingInt(WeekdayNum::ordinal).thenComparing(WeekdayNum::day));
+        return List.copyOf(result);
+    }
+
+    private static DayOfWeek dayOf(String code) {
+        for (int i = 0; i < DAY_CODES.length; i++) {
+            if (DAY_CODES[i].equals(code)) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        throw new IllegalArgumentException("BYDAY 요일이 올바르지 않습니다: " + code);
+    }
+
+    // === 발생일 계산 ===
+
+    /**
+     * from ~ to 사이에 시작하는 발생일을 오름차순으로 지연 계산
+     * COUNT가 없으면 from 직전 주기로 바로 건너뛰므로 비용은 구간 안 발생 수에 비례한다.
+     * COUNT가 있으면 몇 번째 발생인지 세기 위해 시리즈 시작부터 센다 (최대 MAX_COUNT).
+     * @param seriesStart 시리즈 첫 발생일 (DTSTART), 이보다 이른 날짜는 만들지 않음
+     */
+    public Iterator<LocalDate> iterator(LocalDate seriesStart, LocalDate from, LocalDate to) {
+        return new OccurrenceIterator(seriesStart, from, to);
+    }
+
+    /**
+     * 마지막 발생일 (COUNT/UNTIL이 없어 끝이 없으면 null)
+     */
+    public LocalDate lastOccurrence(LocalDate seriesStart) {
+        if (count == null && until == null) {
+            return null;
+        }
+        LocalDate last = null;
+        Iterator<LocalDate> iterator = iterator(seriesStart, seriesStart, LocalDate.MAX);
+        while (iterator.hasNext()) {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    /**
+     * COUNT/UNTIL로 끝나는 시리즈가 시작일로부터 MAX_SPAN_YEARS 안에 끝나는지 검사 (끝이 없는 반복은 통과)
+     * 끝이 아주 먼 시리즈는 저장할 때마다 마지막 발생 계산과 월별 버전 갱신이 그 기간에 비례해 커지므로 막는다.
+     * COUNT는 기한까지만 발생을 세므로 비용이 기한 안의 주기 수로 제한된다.
+     * @throws IllegalArgumentException 기한을 넘어 끝나는 경우
+     */
+    public void checkSpan(LocalDate seriesStart) {
+        LocalDate limit = seriesStart.plusYears(MAX_SPAN_YEARS);
+        boolean withinLimit;
+        if (until != null) {
+            withinLimit = !until.isAfter(limit);
+        } else if (count != null) {
+            int seen = 0;
+            Iterator<LocalDate> iterator = iterator(seriesStart, seriesStart, limit);
+            while (iterator.hasNext() && seen < count) {
+                iterator.next();
+                seen++;
+            }
+            withinLimit = seen >= count;
+        } else {
+            withinLimit = true;
+        }
+        if (!withinLimit) {
+            throw new IllegalArgumentException("COUNT/UNTIL로 끝나는 반복은 시작일로부터 " + MAX_SPAN_YEARS
+                    + "년 안에 끝나야 합니다. 더 오래 반복하려면 종료 조건 없이 등록해주세요.");
+        }
+    }
+
+    public boolean isBounded() {
+        return count != null || until != null;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * 정규화된 RRULE 문자열 (저장용, "RRULE:" 접두어 없음)
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            builder.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            builder.append(";BYDAY=");
+            for (int i = 0; i < byDay.size(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                WeekdayNum weekday = byDay.get(i);
+                if (weekday.ordinal() != 0) {
+                    builder.append(weekday.ordinal());
+                }
+                builder.append(DAY_CODES[weekday.day().getValue() - 1]);
+            }
+        }
+        if (count != null) {
+            builder.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            builder.append(";UNTIL=").append(until.format(BASIC_DATE));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * period 번째 주기의 발생일 후보 (오름차순)
+     */
+    private List<LocalDate> candidates(LocalDate seriesStart, long period) {
+        long step = period * interval;
+        List<LocalDate> dates = new ArrayList<>(Math.max(1, byDay.size()));
+        switch (frequency) {
+            case DAILY -> {
+                LocalDate date = seriesStart.plusDays(step);
+                if (byDay.isEmpty() || matchesDay(date.getDayOfWeek())) {
+                    dates.add(date);
+                }
+            }
+            case WEEKLY -> {
+                LocalDate weekStart = seriesStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(step);
+                if (byDay.isEmpty()) {
+                    dates.add(weekStart.with(TemporalAdjusters.nextOrSame(seriesStart.getDayOfWeek())));
+                } else {
+                    for (WeekdayNum weekday : byDay) {
+                        dates.add(weekStart.with(TemporalAdjusters.nextOrSame(weekday.day())));
+                    }
+                    dates.sort(null);
+                }
+            }
+            case MONTHLY -> {
+                YearMonth month = YearMonth.from(seriesStart).plusMonths(step);
+                if (byDay.isEmpty()) {
+                    if (month.isValidDay(seriesStart.getDayOfMonth())) {
+                        dates.add(month.atDay(seriesStart.getDayOfMonth()));
+                    }
+                } else {
+                    addMonthlyByDay(month, dates);
+                }
+            }
+            case YEARLY -> {
+                int year = seriesStart.getYear() + (int) step;
+                YearMonth month = YearMonth.of(year, seriesStart.getMonth());
+                if (month.isValidDay(seriesStart.getDayOfMonth())) {
+                    dates.add(month.atDay(seriesStart.getDayOfMonth()));
+                }
+            }
+        }
+        return dates;
+    }
+
+    private void addMonthlyByDay(YearMonth month, List<LocalDate> dates) {
+        for (WeekdayNum weekday : byDay) {
+            LocalDate first = month.atDay(1).with(TemporalAdjusters.nextOrSame(weekday.day()));
+            if (weekday.ordinal() == 0) {
+                for (LocalDate date = first; YearMonth.from(date).equals(month); date = date.plusWeeks(1)) {
+                    dates.add(date);
+                }
+            } else {
+                LocalDate date = weekday.ordinal() > 0
+                        ? first.plusWeeks(weekday.ordinal() - 1)
+                        : month.atEndOfMonth().with(TemporalAdjusters.previousOrSame(weekday.day()))
+                                .plusWeeks(weekday.ordinal() + 1);
+                if (YearMonth.from(date).equals(month)) {
+                    dates.add(date);
+                }
+            }
+        }
+        dates.sort(null);
+        for (int i = dates.size() - 1; i > 0; i--) {
+            if (dates.get(i).equals(dates.get(i - 1))) {
+                dates.remove(i);
+            }
+        }
+    }
+
+    private boolean matchesDay(DayOfWeek day) {
+        for (WeekdayNum weekday : byDay) {
+            if (weekday.day() == day) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * from 이 속한 주기 직전까지 건너뛸 주기 수 (COUNT가 있으면 건너뛸 수 없음)
+     */
+    private long firstPeriod(LocalDate seriesStart, LocalDate from) {
+        if (count != null || !from.isAfter(seriesStart)) {
+            return 0;
+        }
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(seriesStart, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(
+                    seriesStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                    from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(seriesStart), YearMonth.from(from));
+            case YEARLY -> from.getYear() - seriesStart.getYear();
+        };
+        return Math.max(0, units / interval);
+    }
+
+    private final class OccurrenceIterator implements Iterator<LocalDate> {
+        private final LocalDate seriesStart;
+        private final LocalDate from;
+        private final LocalDate to;
+
+        private long period;
+        private List<LocalDate> buffer = List.of();
+        private int position;
+        private int produced;
+        private LocalDate next;
+        private boolean done;
+
+        private OccurrenceIterator(LocalDate seriesStart, LocalDate from, LocalDate to) {
+            this.seriesStart = seriesStart;
+            this.from = from;
+            this.to = to;
+            this.period = firstPeriod(seriesStart, from);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = advance();
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public LocalDate next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LocalDate result = next;
+            next = null;
+            return result;
+        }
+
+        private LocalDate advance() {
+            int emptyPeriods = 0;
+            while (true) {
+                while (position < buffer.size()) {
+                    LocalDate date = buffer.get(position++);
+                    if (date.isBefore(seriesStart)) {
+                        continue;
+                    }
+                    if ((until != null && date.isAfter(until)) || date.isAfter(to)) {
+                        return null;
+                    }
+                    if (count != null && ++produced > count) {
+                        return null;
+                    }
+                    if (!date.isBefore(from)) {
+                        return date;
+                    }
+                }
+                if (emptyPeriods++ > MAX_EMPTY_PERIODS) {
+                    return null;
+                }
+                buffer = candidates(seriesStart, period++);
+                position = 0;
+                if (!buffer.isEmpty()) {
+                    emptyPeriods = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * BYDAY 항목 (ordinal 0이면 해당 주기의 모든 그 요일, 양수/음수면 월의 n번째/끝에서 n번째)
+     */
+    private record WeekdayNum(int ordinal, DayOfWeek day) {
+    }
+}
@@ -0,0 +1,68 @@
+package duckhu.calendar.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월 응답 직렬화 시간 비교 (JSON/Smile/CBOR)
+ * 시간은 환경에 따라 달라 검증하지 않고 출력만 한다. 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@JsonTest
+@Import(JacksonConfig.class)
+@Tag("benchmark")
+class WireFormatBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @Test
+    void serializeMonthPayload() throws Exception {
+        Map<String, Object> payload = WireFormatNegotiationTest.monthPayload(2025, 5, 180);
+
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", objectMapper);
+        formats.put("smile", smileHttpMessageConverter.getObjectMapper());
+        formats.put("cbor", cborHttpMessageConverter.getObjectMapper());
+
+        StringBuilder report = new StringBuilder("\n월 응답 180건 직렬화 비교 (format, bytes, us/op)\n");
+        for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+            ObjectWriter writer = format.getValue().writer();
+            int size = writer.writeValueAsBytes(payload).length;
+
+            long sink = 0;
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                sink += writer.writeValueAsBytes(payload).length;
+            }
+            long started = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                sink += writer.writeValueAsBytes(payload).length;
+            }
+            double microsPerOp = (System.nanoTime() - started) / 1000.0 / MEASURED_ITERATIONS;
+
+            assertThat(sink).isPositive();
+            report.append(String.format("%-6s %8d %10.1f%n", format.getKey(), size, microsPerOp));
+        }
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,224 @@
+package duckhu.calendar.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duckhu.calendar.config.security.AdminAuthUtil;
+import duckhu.calendar.config.security.JwtUtil;
+import duckhu.calendar.controller.HolidayController;
+import duckhu.calendar.controller.NoticeController;
+import duckhu.calendar.controller.ScheduleController;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Notice;
+import duckhu.calendar.service.HolidayService;
+import duckhu.calendar.service.NoticeService;
+import duckhu.calendar.service.ScheduleBulkService;
+import duckhu.calendar.service.ScheduleConflictService;
+import duckhu.calendar.service.ScheduleExportService;
+import duckhu.calendar.service.ScheduleImportService;
+import duckhu.calendar.service.ScheduleService;
+import duckhu.calendar.service.ScheduleSyncService;
+import duckhu.calendar.service.cache.CompressedResponseCache;
+import duckhu.calendar.service.index.MonthVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JSON/Smile/CBOR 콘텐츠 협상과 월 응답 크기 비교
+ * 서비스는 목으로 대신하고 컨트롤러와 메시지 변환기만 띄운다. 직렬화 시간 비교는 WireFormatBenchmark.
+ */
+@WebMvcTest(controllers = {ScheduleController.class, HolidayController.class, NoticeController.class})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(JacksonConfig.class)
+class WireFormatNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HttpMessageConverters httpMessageConverters;
+
+    @MockitoBean
+    private ScheduleService scheduleService;
+    @MockitoBean
+    private ScheduleExportService scheduleExportService;
+    @MockitoBean
+    private ScheduleSyncService scheduleSyncService;
+    @MockitoBean
+    private ScheduleImportService scheduleImportService;
+    @MockitoBean
+    private ScheduleBulkService scheduleBulkService;
+    @MockitoBean
+    private ScheduleConflictService scheduleConflictService;
+    @MockitoBean
+    private HolidayService holidayService;
+    @MockitoBean
+    private NoticeService noticeService;
+    @MockitoBean
+    private CompressedResponseCache compressedResponseCache;
+    @MockitoBean
+    private MonthVersionRegistry monthVersionRegistry;
+    @MockitoBean
+    private AdminAuthUtil adminAuthUtil;
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        @SuppressWarnings("unchecked")
+        List<ScheduleResponseDto> schedules = (List<ScheduleResponseDto>) monthPayload(2025, 1, 5).get("schedules");
+        given(scheduleService.getMonthETag(anyInt(), anyInt())).willReturn("\"s-test\"");
+        given(scheduleService.getSchedulesByMonth(anyInt(), anyInt())).willReturn(schedules);
+        given(holidayService.getMonthETag(anyInt(), anyInt(), anyString())).willReturn("\"h-test\"");
+        given(holidayService.getHolidaysByDateRange(any(), any(), anyString())).willReturn(List.of());
+        given(noticeService.getActiveNotices(anyInt())).willReturn(List.of(new Notice("점검 안내", "서비스 점검이 예정되어 있습니다.")));
+    }
+
+    @Test
+    void controllersHonorBinaryAcceptHeaders() throws Exception {
+        ObjectMapper smileMapper = mapperOf(MappingJackson2SmileHttpMessageConverter.class);
+        ObjectMapper cborMapper = mapperOf(MappingJackson2CborHttpMessageConverter.class);
+
+        for (String url : List.of("/api/schedules/month/2025/1", "/api/holidays/month/2025/1", "/api/notices/active")) {
+            MvcResult smile = mockMvc.perform(get(url).accept(SMILE)).andExpect(status().isOk()).andReturn();
+            assertThat(smile.getResponse().getContentType()).startsWith(SMILE.toString());
+            assertThat(smileMapper.readTree(smile.getResponse().getContentAsByteArray()).isObject()).isTrue();
+
+            MvcResult cbor = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR)).andExpect(status().isOk()).andReturn();
+            assertThat(cbor.getResponse().getContentType()).startsWith(MediaType.APPLICATION_CBOR_VALUE);
+            assertThat(cborMapper.readTree(cbor.getResponse().getContentAsByteArray()).isObject()).isTrue();
+        }
+    }
+
+    @Test
+    void monthETagDiffersPerFormat() throws Exception {
+        for (String url : List.of("/api/schedules/month/2025/1", "/api/holidays/month/2025/1")) {
+            String json = mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String smile = mockMvc.perform(get(url).accept(SMILE))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String cbor = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            assertThat(List.of(json, smile, cbor)).doesNotHaveDuplicates();
+            mockMvc.perform(get(url).accept(SMILE).header(HttpHeaders.IF_NONE_MATCH, json))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get(url).accept(SMILE).header(HttpHeaders.IF_NONE_MATCH, smile))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    @Test
+    void monthPayloadIsSmallerInBinaryFormats() throws Exception {
+        Map<String, Object> payload = monthPayload(2025, 5, 180);
+        ObjectMapper jsonMapper = mapperOf(MappingJackson2HttpMessageConverter.class);
+        JsonNode expected = jsonMapper.readTree(jsonMapper.writeValueAsBytes(payload));
+
+        Map<String, Integer> sizes = new HashMap<>();
+        for (Class<? extends AbstractJackson2HttpMessageConverter> type : List.of(MappingJackson2HttpMessageConverter.class,
+                MappingJackson2SmileHttpMessageConverter.class, MappingJackson2CborHttpMessageConverter.class)) {
+            ObjectMapper mapper = mapperOf(type);
+            byte[] bytes = mapper.writeValueAsBytes(payload);
+            assertThat(mapper.readTree(bytes)).isEqualTo(expected);
+            sizes.put(type.getSimpleName(), bytes.length);
+        }
+
+        int json = sizes.get(MappingJackson2HttpMessageConverter.class.getSimpleName());
+        assertThat(sizes.get(MappingJackson2SmileHttpMessageConverter.class.getSimpleName())).isLessThan(json);
+        assertThat(sizes.get(MappingJackson2CborHttpMessageConverter.class.getSimpleName())).isLessThan(json);
+    }
+
+    private ObjectMapper mapperOf(Class<? extends AbstractJackson2HttpMessageConverter> type) {
+        return httpMessageConverters.getConverters().stream()
+                .filter(type::isInstance)
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * 컨트롤러 월 응답과 같은 구조의 페이로드 (제목/설명은 한글, 일부 일정은 이미지/링크 포함)
+     */
+    static Map<String, Object> monthPayload(int year, int month, int count) {
+        String[] categories = {"공연", "전시", "축제", "팝업", "행사", "생일"};
+        String[] colors = {"#FF6B6B", "#4ECDC4", "#45B7D1", "#96CEB4", "#FFEAA7", "#DDA0DD"};
+        String sentence = "공연 일정과 예매 안내입니다. 입장 시간과 준비물을 꼭 확인해 주세요. ";
+        Random random = new Random(42);
+        LocalDate monthStart = LocalDate.of(year, month, 1);
+
+        List<ScheduleResponseDto> schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = monthStart.plusDays(random.nextInt(monthStart.lengthOfMonth()));
+            ScheduleResponseDto schedule = new ScheduleResponseDto();
+            schedule.setId(1000L + i);
+            schedule.setTitle(categories[i % categories.length] + " 일정 " + i);
+            schedule.setStartDate(start);
+            schedule.setEndDate(start.plusDays(random.nextInt(3)));
+            if (random.nextBoolean()) {
+                schedule.setStartTime(LocalTime.of(10 + random.nextInt(8), 0));
+                schedule.setEndTime(schedule.getStartTime().plusHours(2));
+            }
+            schedule.setDescription(sentence.repeat(1 + random.nextInt(6)));
+            schedule.setPriority(1 + random.nextInt(3));
+            schedule.setColor(colors[random.nextInt(colors.length)]);
+            schedule.setCategory(categories[random.nextInt(categories.length)]);
+            int images = random.nextInt(4);
+            List<String> imageUrls = new ArrayList<>();
+            for (int j = 0; j < images; j++) {
+                imageUrls.add("https://cdn.example.com/schedules/" + (1000 + i) + "/" + j + ".jpg");
+            }
+            schedule.setImages(imageUrls);
+            schedule.setLinks(i % 3 == 0 ? List.of("https://tickets.example.com/events/" + (1000 + i)) : List.of());
+            schedule.setLinkTitles(i % 3 == 0 ? List.of("예매하기") : List.of());
+            schedule.setIsFeatured(i % 10 == 0);
+            schedule.setViewCount(random.nextInt(5000));
+            schedule.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i * 37L));
+            schedule.setUpdatedAt(schedule.getCreatedAt().plusDays(1));
+            schedules.add(schedule);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("year", year);
+        response.put("month", month);
+        response.put("schedules", schedules);
+        response.put("count", schedules.size());
+        response.put("featuredCount", schedules.stream().mapToInt(s -> s.getIsFeatured() ? 1 : 0).sum());
+        return response;
+    }
+}
@@ -0,0 +1,116 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.FreeBusyDto;
+import duckhu.calendar.dto.FreeBusyDto.Interval;
+import duckhu.calendar.dto.HolidayDTO;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class FreeBusyServiceTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2025-10-06");
+
+    private final List<ScheduleResponseDto> stored = new ArrayList<>();
+    private FreeBusyService service;
+
+    @BeforeEach
+    void setUp() {
+        ScheduleService scheduleService = mock(ScheduleService.class);
+        given(scheduleService.getSchedulesByDateRange(any(), any())).willReturn(stored);
+        HolidayService holidayService = mock(HolidayService.class);
+        given(holidayService.getHolidaysByDateRange(any(), any(), eq("KR"))).willReturn(List.of(
+                HolidayDTO.builder().name("한글날").holidayDate(DAY.plusDays(3)).build()));
+        service = new FreeBusyService(scheduleService, holidayService);
+    }
+
+    @Test
+    void mergesOverlappingTouchingAndContainedIntervals() {
+        List<Interval> windows = new ArrayList<>(List.of(
+                interval(DAY, "13:00", DAY, "14:00"),
+                interval(DAY, "09:00", DAY, "11:00"),
+                interval(DAY, "10:00", DAY, "10:30"),
+                interval(DAY, "11:00", DAY, "12:00"),
+                interval(DAY, "16:00", DAY, "17:00"),
+                interval(DAY, "16:30", DAY.plusDays(1), "01:00")));
+
+        assertThat(FreeBusyService.merge(windows)).containsExactly(
+                interval(DAY, "09:00", DAY, "12:00"),
+                interval(DAY, "13:00", DAY, "14:00"),
+                interval(DAY, "16:00", DAY.plusDays(1), "01:00"));
+        assertThat(FreeBusyService.merge(new ArrayList<>())).isEmpty();
+    }
+
+    @Test
+    void countsBusyMinutesPerDayWithoutDoubleCounting() {
+        schedule("공연", DAY.minusDays(1), "20:00", DAY, "02:00");
+        schedule("공연", DAY, "09:00", DAY, "12:00");
+        schedule("공연", DAY, "11:00", DAY, "13:00");
+        schedule("공연", DAY.plusDays(1), "23:00", DAY.plusDays(2), "01:00");
+        schedule("전시", DAY.plusDays(4), "10:00", DAY.plusDays(4), "11:00");
+
+        FreeBusyDto result = service.getFreeBusy(DAY, DAY.plusDays(4), "공연", "KR");
+
+        // 범위 앞에서 시작한 일정은 범위 시작으로 잘림
+        assertThat(result.getBusy()).containsExactly(
+                interval(DAY, "00:00", DAY, "02:00"),
+                interval(DAY, "09:00", DAY, "13:00"),
+                interval(DAY.plusDays(1), "23:00", DAY.plusDays(2), "01:00"));
+        assertThat(result.getBusyMinutes()).containsExactly(360, 60, 60, 0, 0);
+        assertThat(result.getHolidays()).extracting(FreeBusyDto.HolidayMark::date).containsExactly(DAY.plusDays(3));
+        assertThat(result.getFreeDays()).containsExactly(DAY.plusDays(4));
+    }
+
+    @Test
+    void allDaySchedulesFillTheWholeDay() {
+        ScheduleResponseDto allDay = new ScheduleResponseDto();
+        allDay.setTitle("종일 행사");
+        allDay.setStartDate(DAY);
+        allDay.setEndDate(DAY.plusDays(1));
+        stored.add(allDay);
+
+        FreeBusyDto result = service.getFreeBusy(DAY, DAY.plusDays(2), null, null);
+
+        assertThat(result.getBusyMinutes()).containsExactly(1440, 1440, 0);
+        assertThat(result.getHolidays()).isEmpty();
+        assertThat(result.getFreeDays()).containsExactly(DAY.plusDays(2));
+    }
+
+    @Test
+    void rejectsInvalidRanges() {
+        assertThatThrownBy(() -> service.getFreeBusy(DAY, DAY.minusDays(1), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getFreeBusy(DAY, DAY.plusDays(FreeBusyService.MAX_RANGE_DAYS), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void schedule(String category, LocalDate startDate, String startTime, LocalDate endDate, String endTime) {
+        ScheduleResponseDto schedule = new ScheduleResponseDto();
+        schedule.setId((long) stored.size() + 1);
+        schedule.setTitle("일정 " + schedule.getId());
+        schedule.setCategory(category);
+        schedule.setStartDate(startDate);
+        schedule.setEndDate(endDate);
+        schedule.setStartTime(LocalTime.parse(startTime));
+        schedule.setEndTime(LocalTime.parse(endTime));
+        stored.add(schedule);
+    }
+
+    private static Interval interval(LocalDate startDate, String startTime, LocalDate endDate, String endTime) {
+        return new Interval(LocalDateTime.of(startDate, LocalTime.parse(startTime)),
+                LocalDateTime.of(endDate, LocalTime.parse(endTime)));
+    }
+}
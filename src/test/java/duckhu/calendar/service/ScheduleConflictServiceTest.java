@@ -0,0 +1,164 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleConflictDto;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 충돌 sweep 검증 (후보 조회는 목으로 대신)
+ */
+class ScheduleConflictServiceTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2025-09-01");
+
+    private final List<ScheduleResponseDto> stored = new ArrayList<>();
+    private ScheduleService scheduleService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleService = mock(ScheduleService.class);
+        given(scheduleService.getSchedulesByDateRange(any(), any())).willReturn(stored);
+    }
+
+    @Test
+    void findsOverlapsWithinCategoryOnly() {
+        ScheduleResponseDto a = timed(1L, "공연", DAY, "10:00", DAY, "12:00");
+        ScheduleResponseDto b = timed(2L, "공연", DAY, "11:00", DAY, "13:00");
+        ScheduleResponseDto c = timed(3L, "공연", DAY, "12:00", DAY, "13:00");
+        timed(4L, "전시", DAY, "10:00", DAY, "12:00");
+        allDay(5L, "공연", DAY);
+
+        List<ScheduleConflictDto> conflicts = service(500).findConflictsInRange(DAY, DAY, null);
+
+        // 12시에 끝나는 일정과 12시에 시작하는 일정은 맞닿을 뿐 겹치지 않음
+        assertThat(conflicts).hasSize(2);
+        assertConflict(conflicts.get(0), a, b, "11:00", "12:00");
+        assertConflict(conflicts.get(1), b, c, "12:00", "13:00");
+        assertThat(service(500).findConflictsInRange(DAY, DAY, "전시")).isEmpty();
+    }
+
+    @Test
+    void uncategorizedSchedulesFormOneGroup() {
+        ScheduleResponseDto a = timed(1L, null, DAY, "09:00", DAY, "10:00");
+        ScheduleResponseDto b = timed(2L, null, DAY, "09:30", DAY, "11:00");
+
+        List<ScheduleConflictDto> conflicts = service(500).findConflictsInRange(DAY, DAY, null);
+
+        assertThat(conflicts).singleElement().satisfies(conflict -> assertConflict(conflict, a, b, "09:30", "10:00"));
+    }
+
+    @Test
+    void handlesOvernightSchedules() {
+        ScheduleResponseDto overnight = timed(1L, "행사", DAY, "22:00", DAY.plusDays(1), "02:00");
+        ScheduleResponseDto early = timed(2L, "행사", DAY.plusDays(1), "01:00", DAY.plusDays(1), "03:00");
+
+        List<ScheduleConflictDto> conflicts = service(500).findConflictsInRange(DAY, DAY.plusDays(1), null);
+
+        assertThat(conflicts).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getSchedule()).isSameAs(overnight);
+            assertThat(conflict.getConflictWith()).isSameAs(early);
+            assertThat(conflict.getOverlapStart()).isEqualTo(DAY.plusDays(1).atTime(1, 0));
+            assertThat(conflict.getOverlapEnd()).isEqualTo(DAY.plusDays(1).atTime(2, 0));
+        });
+    }
+
+    @Test
+    void subjectOnlyReportsItsOwnConflicts() {
+        ScheduleResponseDto subject = timed(1L, "공연", DAY, "14:00", DAY, "15:00");
+        ScheduleResponseDto x = timed(2L, "공연", DAY, "13:00", DAY, "14:30");
+        timed(3L, "공연", DAY, "13:30", DAY, "13:45");
+
+        List<ScheduleConflictDto> conflicts = service(500).findConflicts(subject);
+
+        // 저장된 자기 자신(1)과, 대상과 겹치지 않는 다른 일정끼리의 충돌(2-3)은 제외
+        assertThat(conflicts).singleElement().satisfies(conflict -> assertConflict(conflict, subject, x, "14:00", "14:30"));
+    }
+
+    @Test
+    void expandsRecurringSubject() {
+        ScheduleResponseDto daily = new ScheduleResponseDto();
+        daily.setTitle("매일 회의");
+        daily.setCategory("회의");
+        daily.setStartDate(DAY);
+        daily.setEndDate(DAY);
+        daily.setStartTime(LocalTime.parse("10:00"));
+        daily.setEndTime(LocalTime.parse("11:00"));
+        daily.setRecurrenceRule("FREQ=DAILY;COUNT=3");
+        daily.setSeriesEndDate(DAY.plusDays(2));
+        ScheduleResponseDto third = timed(7L, "회의", DAY.plusDays(2), "10:30", DAY.plusDays(2), "11:30");
+        timed(8L, "회의", DAY.plusDays(3), "10:00", DAY.plusDays(3), "11:00");
+
+        List<ScheduleConflictDto> conflicts = service(500).findConflicts(daily);
+
+        assertThat(conflicts).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getConflictWith()).isSameAs(third);
+            assertThat(conflict.getOverlapStart()).isEqualTo(DAY.plusDays(2).atTime(10, 30));
+            assertThat(conflict.getOverlapEnd()).isEqualTo(DAY.plusDays(2).atTime(11, 0));
+        });
+    }
+
+    @Test
+    void stopsAtMaxResults() {
+        for (long id = 1; id <= 4; id++) {
+            timed(id, "공연", DAY, "10:00", DAY, "11:00");
+        }
+
+        assertThat(service(500).findConflictsInRange(DAY, DAY, null)).hasSize(6);
+        assertThat(service(2).findConflictsInRange(DAY, DAY, null)).hasSize(2);
+    }
+
+    @Test
+    void rejectsInvalidRanges() {
+        ScheduleConflictService service = service(500);
+
+        assertThatThrownBy(() -> service.findConflictsInRange(DAY, DAY.minusDays(1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.findConflictsInRange(DAY, DAY.plusDays(ScheduleConflictService.MAX_RANGE_DAYS), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ScheduleConflictService service(int maxResults) {
+        return new ScheduleConflictService(scheduleService, 365, maxResults);
+    }
+
+    private static void assertConflict(ScheduleConflictDto conflict, ScheduleResponseDto first,
+                                       ScheduleResponseDto second, String overlapStart, String overlapEnd) {
+        assertThat(conflict.getSchedule()).isSameAs(first);
+        assertThat(conflict.getConflictWith()).isSameAs(second);
+        assertThat(conflict.getOverlapStart()).isEqualTo(LocalDateTime.of(DAY, LocalTime.parse(overlapStart)));
+        assertThat(conflict.getOverlapEnd()).isEqualTo(LocalDateTime.of(DAY, LocalTime.parse(overlapEnd)));
+    }
+
+    private ScheduleResponseDto timed(Long id, String category, LocalDate startDate, String startTime,
+                                      LocalDate endDate, String endTime) {
+        ScheduleResponseDto schedule = allDay(id, category, startDate);
+        schedule.setEndDate(endDate);
+        schedule.setStartTime(LocalTime.parse(startTime));
+        schedule.setEndTime(LocalTime.parse(endTime));
+        return schedule;
+    }
+
+    private ScheduleResponseDto allDay(Long id, String category, LocalDate date) {
+        ScheduleResponseDto schedule = new ScheduleResponseDto();
+        schedule.setId(id);
+        schedule.setTitle("일정 " + id);
+        schedule.setCategory(category);
+        schedule.setStartDate(date);
+        schedule.setEndDate(date);
+        stored.add(schedule);
+        return schedule;
+    }
+}
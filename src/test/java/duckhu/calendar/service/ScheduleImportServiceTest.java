@@ -0,0 +1,160 @@
+package duckhu.calendar.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import duckhu.calendar.dto.ScheduleImportResultDto;
+import duckhu.calendar.dto.ScheduleImportResultDto.RowError;
+import duckhu.calendar.dto.ScheduleRequestDto;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.event.ScheduleBatchChangedEvent;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대량 등록 부분 처리 검증
+ * 배치마다 실제로 커밋되는지 보기 위해 테스트 트랜잭션 없이 실행하고, 끝나면 테이블을 비운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleImportServiceTest {
+
+    private static final String HEADER = "title,startDate,endDate,description,images\n";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+    private ScheduleService scheduleService;
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final List<Object> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        scheduleService = mock(ScheduleService.class);
+        given(scheduleService.prepareNewSchedule(any())).willAnswer(invocation -> {
+            ScheduleRequestDto request = invocation.getArgument(0);
+            if (request.getTitle().startsWith("중복")) {
+                throw new RuntimeException("이미 등록된 일정입니다.");
+            }
+            Schedule schedule = new Schedule(request.getTitle(), request.getStartDate(), request.getEndDate());
+            schedule.setDescription(request.getDescription());
+            schedule.setImages(request.getImages());
+            schedule.setColor("#FF6B6B");
+            return schedule;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedule_images");
+        jdbcTemplate.update("DELETE FROM schedules");
+    }
+
+    @Test
+    void importsCsvWithBomQuotedFieldsAndRowErrors() throws IOException {
+        String csv = "\uFEFF" + HEADER
+                + "\"축제, 첫째 날\",2025-05-01,2025-05-01,\"1부\n2부\",https://img.example.com/a.png|https://img.example.com/b.png\n"
+                + ",2025-05-02,2025-05-02,,\n"
+                + "중복 일정,2025-05-03,2025-05-03,,\n"
+                + "날짜 오류,2025-05-xx,2025-05-04,,\n"
+                + "마지막,2025-05-05,2025-05-06,,\n";
+
+        ScheduleImportResultDto result = service(500, 100).importCsv(stream(csv));
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getAbortReason()).isNull();
+        assertThat(result.getErrors()).extracting(RowError::row).containsExactly(2, 3, 4);
+        assertThat(result.getErrors().get(1).message()).isEqualTo("이미 등록된 일정입니다.");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM schedules WHERE title = '축제, 첫째 날'", String.class))
+                .isEqualTo("1부\n2부");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedule_images", Integer.class)).isEqualTo(2);
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(((ScheduleBatchChangedEvent) event).size()).isEqualTo(2));
+    }
+
+    @Test
+    void keepsCommittedBatchesWhenCsvBreaksMidway() throws IOException {
+        String csv = HEADER
+                + "하나,2025-06-01,2025-06-01,,\n"
+                + "둘,2025-06-02,2025-06-02,,\n"
+                + "셋,2025-06-03,2025-06-03,,\n"
+                + "\"닫히지 않음,2025-06-04,2025-06-04,,\n"
+                + "다섯,2025-06-05,2025-06-05,,\n";
+
+        ScheduleImportResultDto result = service(2, 100).importCsv(stream(csv));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getAbortReason()).contains("4번째 행부터");
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM schedules ORDER BY id", String.class))
+                .containsExactly("하나", "둘", "셋");
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(((ScheduleBatchChangedEvent) event).size()).isEqualTo(3));
+    }
+
+    @Test
+    void stopsAtMaxRows() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int day = 1; day <= 5; day++) {
+            csv.append("일정 ").append(day).append(",2025-07-0").append(day).append(",2025-07-0").append(day).append(",,\n");
+        }
+
+        ScheduleImportResultDto result = service(2, 3).importCsv(stream(csv.toString()));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getAbortReason()).contains("최대 3건");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedules", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void skipsMalformedJsonElementsAndStopsOnBrokenArray() throws IOException {
+        String json = "[{\"title\":\"하나\",\"startDate\":\"2025-08-01\",\"endDate\":\"2025-08-01\"},"
+                + "{\"title\":\"둘\",\"startDate\":\"8월 2일\",\"endDate\":\"2025-08-02\"},"
+                + "{\"title\":\"셋\",\"startDate\":\"2025-08-03\",\"endDate\":\"2025-08-03\"},"
+                + "{\"title\":\"넷\",";
+
+        ScheduleImportResultDto result = service(500, 100).importJson(stream(json));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(RowError::row).containsExactly(2);
+        assertThat(result.getAbortReason()).contains("4번째 항목부터");
+    }
+
+    private ScheduleImportService service(int batchSize, int maxRows) {
+        return new ScheduleImportService(scheduleService,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                objectMapper, jdbcTemplate, transactionManager, events::add, batchSize, maxRows, 1000);
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.repository.ScheduleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ScheduleResponseAssembler.class)
+class ScheduleResponseAssemblerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleResponseAssembler assembler;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithResultSize() {
+        long smallPage = countStatementsForListing(5);
+        long largePage = countStatementsForListing(50);
+
+        // 일정 목록 1회 + 이미지/링크/링크 제목 각 1회
+        assertThat(smallPage).isEqualTo(4);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void collectionsAreAssignedToTheirOwnSchedule() {
+        persistSchedules(3);
+
+        List<ScheduleResponseDto> dtos = assembler.toResponseDtos(scheduleRepository.findAllByOrderByStartDateDesc());
+
+        assertThat(dtos).hasSize(3);
+        for (ScheduleResponseDto dto : dtos) {
+            assertThat(dto.getImages()).containsExactlyInAnyOrder(
+                    "https://img.example.com/" + dto.getTitle() + "/1.png",
+                    "https://img.example.com/" + dto.getTitle() + "/2.png");
+            assertThat(dto.getLinks()).containsExactly("https://example.com/" + dto.getTitle());
+            assertThat(dto.getLinkTitles()).containsExactly(dto.getTitle() + " 링크");
+        }
+    }
+
+    private long countStatementsForListing(int size) {
+        scheduleRepository.deleteAllInBatch();
+        persistSchedules(size);
+
+        statistics.clear();
+        List<ScheduleResponseDto> dtos = assembler.toResponseDtos(scheduleRepository.findAllByOrderByStartDateDesc());
+        dtos.forEach(dto -> assertThat(dto.getImages()).hasSize(2));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistSchedules(int size) {
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < size; i++) {
+            String title = "event-" + i;
+            Schedule schedule = new Schedule(title, base.plusDays(i), base.plusDays(i + 1));
+            schedule.setImages(new ArrayList<>(List.of(
+                    "https://img.example.com/" + title + "/1.png",
+                    "https://img.example.com/" + title + "/2.png")));
+            schedule.setLinks(new ArrayList<>(List.of("https://example.com/" + title)));
+            schedule.setLinkTitles(new ArrayList<>(List.of(title + " 링크")));
+            entityManager.persist(schedule);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,202 @@
+package duckhu.calendar.service;
+
+import duckhu.calendar.dto.ScheduleChangesResponseDto;
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.entity.Schedule;
+import duckhu.calendar.entity.ScheduleTombstone;
+import duckhu.calendar.exception.SyncTokenExpiredException;
+import duckhu.calendar.repository.ScheduleRepository;
+import duckhu.calendar.repository.ScheduleTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 변경분 커서 병합/토큰 검증
+ * 리포지토리는 keyset 조건을 그대로 흉내 내는 목으로 대신한다.
+ */
+class ScheduleSyncServiceTest {
+
+    private final LocalDateTime base = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MICROS);
+    private final List<Schedule> schedules = new ArrayList<>();
+    private final List<ScheduleTombstone> tombstones = new ArrayList<>();
+
+    private ScheduleSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        given(scheduleRepository.findChangedSince(any(), any(), any(), any())).willAnswer(invocation ->
+                page(schedules, Schedule::getUpdatedAt, Schedule::getId, invocation));
+
+        ScheduleTombstoneRepository tombstoneRepository = mock(ScheduleTombstoneRepository.class);
+        given(tombstoneRepository.findDeletedSince(any(), any(), any(), any())).willAnswer(invocation ->
+                page(tombstones, ScheduleTombstone::getDeletedAt, ScheduleTombstone::getId, invocation));
+
+        ScheduleResponseAssembler assembler = mock(ScheduleResponseAssembler.class);
+        given(assembler.toResponseDtos(any())).willAnswer(invocation -> {
+            List<Schedule> page = invocation.getArgument(0);
+            return page.stream().map(ScheduleResponseDto::detached).toList();
+        });
+
+        service = new ScheduleSyncService(scheduleRepository, tombstoneRepository, assembler, 0, 90);
+    }
+
+    @Test
+    void mergesSchedulesAndTombstonesInTimeOrderAcrossPages() {
+        schedule(1L, 1);
+        tombstone(1L, 10L, 2);
+        schedule(2L, 3);
+        schedule(3L, 3);
+        tombstone(2L, 11L, 3);
+        tombstone(3L, 12L, 5);
+        schedule(4L, 6);
+
+        ScheduleChangesResponseDto page1 = service.getChanges(token(base, base), 2);
+        assertThat(updatedIds(page1)).containsExactly(1L);
+        assertThat(page1.getDeleted()).containsExactly(10L);
+        assertThat(page1.hasMore()).isTrue();
+
+        // 같은 시각이면 일정이 먼저, 같은 시각의 일정끼리는 ID 순
+        ScheduleChangesResponseDto page2 = service.getChanges(page1.getNextToken(), 2);
+        assertThat(updatedIds(page2)).containsExactly(2L, 3L);
+        assertThat(page2.getDeleted()).isEmpty();
+
+        ScheduleChangesResponseDto page3 = service.getChanges(page2.getNextToken(), 2);
+        assertThat(updatedIds(page3)).isEmpty();
+        assertThat(page3.getDeleted()).containsExactly(11L, 12L);
+        assertThat(page3.hasMore()).isTrue();
+
+        ScheduleChangesResponseDto page4 = service.getChanges(page3.getNextToken(), 2);
+        assertThat(updatedIds(page4)).containsExactly(4L);
+        assertThat(page4.getDeleted()).isEmpty();
+        assertThat(page4.hasMore()).isFalse();
+
+        ScheduleChangesResponseDto idle = service.getChanges(page4.getNextToken(), 2);
+        assertThat(updatedIds(idle)).isEmpty();
+        assertThat(idle.getDeleted()).isEmpty();
+        assertThat(idle.hasMore()).isFalse();
+    }
+
+    @Test
+    void laterChangesArePickedUpWithPreviousToken() throws InterruptedException {
+        schedule(1L, 1);
+        ScheduleChangesResponseDto first = service.getChanges(token(base, base), 10);
+        assertThat(updatedIds(first)).containsExactly(1L);
+        assertThat(first.hasMore()).isFalse();
+
+        // 끝까지 읽은 커서는 수위(upper)까지 옮겨지고, 그 뒤의 변경은 다음 조회에서 받는다
+        Thread.sleep(5);
+        LocalDateTime later = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        schedules.get(0).setUpdatedAt(later);
+        tombstone(1L, 20L, 0).setDeletedAt(later);
+        Thread.sleep(5);
+
+        ScheduleChangesResponseDto next = service.getChanges(first.getNextToken(), 10);
+        assertThat(updatedIds(next)).containsExactly(1L);
+        assertThat(next.getDeleted()).containsExactly(20L);
+    }
+
+    @Test
+    void initialSyncSkipsEarlierDeletions() {
+        schedule(1L, 1);
+        tombstone(1L, 10L, 2);
+
+        ScheduleChangesResponseDto result = service.getChanges(null, 10);
+
+        assertThat(updatedIds(result)).containsExactly(1L);
+        assertThat(result.getDeleted()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    void rejectsTokensOlderThanTombstoneRetention() {
+        LocalDateTime expired = LocalDateTime.now().minusDays(91);
+
+        assertThatThrownBy(() -> service.getChanges(token(base, expired), 10))
+                .isInstanceOf(SyncTokenExpiredException.class);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String wrongPrefix = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("c0:1.2.3.4".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : List.of("not a token", wrongPrefix, encode("c1:1.2.3"), encode("c1:a.b.c.d"))) {
+            assertThatThrownBy(() -> service.getChanges(token, 10))
+                    .as(token)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    // === 도우미 ===
+
+    private void schedule(Long id, int minutes) {
+        Schedule schedule = new Schedule("일정 " + id, base.toLocalDate(), base.toLocalDate());
+        schedule.setId(id);
+        schedule.setUpdatedAt(base.plusMinutes(minutes));
+        schedules.add(schedule);
+    }
+
+    private ScheduleTombstone tombstone(Long id, Long scheduleId, int minutes) {
+        ScheduleTombstone tombstone = new ScheduleTombstone(scheduleId);
+        tombstone.setId(id);
+        tombstone.setDeletedAt(base.plusMinutes(minutes));
+        tombstones.add(tombstone);
+        return tombstone;
+    }
+
+    /**
+     * (시각, ID) keyset 조건과 정렬, 페이지 크기를 적용한 조회 결과
+     */
+    private static <T> List<T> page(List<T> rows, Function<T, LocalDateTime> at, Function<T, Long> id,
+                                    InvocationOnMock invocation) {
+        LocalDateTime after = invocation.getArgument(0);
+        Long afterId = invocation.getArgument(1);
+        LocalDateTime upper = invocation.getArgument(2);
+        Pageable pageable = invocation.getArgument(3);
+        return rows.stream()
+                .filter(row -> !at.apply(row).isAfter(upper))
+                .filter(row -> at.apply(row).isAfter(after) || (at.apply(row).isEqual(after) && id.apply(row) > afterId))
+                .sorted(Comparator.comparing(at).thenComparing(id))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static List<Long> updatedIds(ScheduleChangesResponseDto response) {
+        return response.getUpdated().stream().map(ScheduleResponseDto::getId).toList();
+    }
+
+    /**
+     * 두 커서를 지정한 시각으로 둔 토큰 (ScheduleSyncService 의 c1 형식)
+     */
+    private static String token(LocalDateTime scheduleAt, LocalDateTime tombstoneAt) {
+        return encode("c1:" + micros(scheduleAt) + ".0." + micros(tombstoneAt) + ".0");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long micros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.toInstant(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,69 @@
+package duckhu.calendar.service.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithCommasAndEscapedQuotes() throws IOException {
+        CsvReader reader = reader(" a ,\"b, c\",\"say \"\"hi\"\"\",\" kept \"\n");
+
+        assertThat(reader.next()).containsExactly("a", "b, c", "say \"hi\"", " kept ");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotesAndCountsLines() throws IOException {
+        CsvReader reader = reader("\"first\r\nsecond\",x\r\n\r\nnext,y");
+
+        assertThat(reader.next()).containsExactly("first\r\nsecond", "x");
+        assertThat(reader.getLine()).isEqualTo(3);
+        assertThat(reader.next()).containsExactly("next", "y");
+        assertThat(reader.getLine()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void keepsEmptyTrailingFields() throws IOException {
+        CsvReader reader = reader("a,,\n,b\n");
+
+        assertThat(reader.next()).containsExactly("a", "", "");
+        assertThat(reader.next()).containsExactly("", "b");
+    }
+
+    @Test
+    void readsRecordsLongerThanBuffer() throws IOException {
+        String longValue = "가".repeat(20_000);
+        CsvReader reader = reader("\"" + longValue + "\",end\n");
+
+        assertThat(reader.next()).containsExactly(longValue, "end");
+    }
+
+    @Test
+    void rejectsUnclosedQuoteWithStartLine() throws IOException {
+        CsvReader reader = reader("ok,1\n\"broken,2\nmore\n");
+
+        assertThat(reader.next()).containsExactly("ok", "1");
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째 줄");
+    }
+
+    @Test
+    void leavesByteOrderMarkToCaller() throws IOException {
+        CsvReader reader = reader("\uFEFFtitle,startDate\n");
+
+        assertThat(reader.next()).containsExactly("\uFEFFtitle", "startDate");
+    }
+
+    private static CsvReader reader(String text) {
+        return new CsvReader(new StringReader(text));
+    }
+}
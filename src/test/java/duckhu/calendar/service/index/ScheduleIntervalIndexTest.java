@@ -0,0 +1,83 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleIntervalIndexTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2025-03-10");
+
+    @Test
+    void writesAreVisibleBeforeMerge() {
+        ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+        index.rebuild(List.of(schedule(1L, "2025-03-01", "2025-03-20"), schedule(2L, "2025-03-09", "2025-03-09")));
+
+        index.upsert(schedule(2L, "2025-03-10", "2025-03-11"));
+        index.upsert(schedule(3L, "2025-03-05", "2025-03-12"));
+        index.remove(1L);
+
+        assertThat(ids(index.findOverlapping(DAY, DAY))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.contains(1L)).isFalse();
+        assertThat(index.contains(2L)).isTrue();
+    }
+
+    @Test
+    void mergedIndexMatchesOverlay() {
+        ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+        List<ScheduleResponseDto> initial = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            initial.add(schedule(id, DAY.minusDays(id % 30), DAY.minusDays(id % 30).plusDays(id % 7)));
+        }
+        index.rebuild(initial);
+
+        List<ScheduleChangedEvent> events = new ArrayList<>();
+        for (long id = 1; id <= ScheduleIntervalIndex.DELTA_LIMIT + 10; id++) {
+            if (id % 3 == 0) {
+                events.add(ScheduleChangedEvent.deleted(initial.get((int) id - 1)));
+            } else {
+                events.add(ScheduleChangedEvent.updated(initial.get((int) id - 1), schedule(id, DAY, DAY)));
+            }
+        }
+        index.applyAll(events);
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            boolean deleted = id <= ScheduleIntervalIndex.DELTA_LIMIT + 10 && id % 3 == 0;
+            boolean updated = id <= ScheduleIntervalIndex.DELTA_LIMIT + 10 && !deleted;
+            ScheduleResponseDto original = initial.get((int) id - 1);
+            if (updated || (!deleted && !original.getEndDate().isBefore(DAY))) {
+                expected.add(id);
+            }
+        }
+        assertThat(ids(index.findOverlapping(DAY, DAY))).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(index.size()).isEqualTo(1000 - (ScheduleIntervalIndex.DELTA_LIMIT + 10) / 3);
+
+        index.upsert(schedule(2000L, "2025-03-10", "2025-03-10"));
+        assertThat(ids(index.findOverlapping(DAY, DAY))).contains(2000L);
+    }
+
+    private static List<Long> ids(List<ScheduleResponseDto> schedules) {
+        return schedules.stream().map(ScheduleResponseDto::getId).toList();
+    }
+
+    private static ScheduleResponseDto schedule(Long id, String start, String end) {
+        return schedule(id, LocalDate.parse(start), LocalDate.parse(end));
+    }
+
+    private static ScheduleResponseDto schedule(Long id, LocalDate start, LocalDate end) {
+        ScheduleResponseDto schedule = new ScheduleResponseDto();
+        schedule.setId(id);
+        schedule.setTitle("일정 " + id);
+        schedule.setStartDate(start);
+        schedule.setEndDate(end);
+        return schedule;
+    }
+}
@@ -0,0 +1,68 @@
+package duckhu.calendar.service.index;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import duckhu.calendar.dto.SuggestionDto;
+import duckhu.calendar.event.ScheduleChangedEvent;
+import duckhu.calendar.repository.HolidayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScheduleSuggestIndexTest {
+
+    private ScheduleSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        HolidayRepository holidayRepository = mock(HolidayRepository.class);
+        when(holidayRepository.findDistinctNames()).thenReturn(List.of("크리스마스"));
+        index = new ScheduleSuggestIndex(holidayRepository);
+        index.rebuild(List.of(schedule(1L, "축제 준비 회의", "행사"), schedule(2L, "동아리 정기 모임", "동아리")));
+    }
+
+    @Test
+    void writesReplaceAndHideIndexedTerms() {
+        index.upsert(schedule(1L, "봄 축제 리허설", "공연"));
+        index.remove(2L);
+        index.upsert(schedule(3L, "축하 공연", "공연"));
+
+        assertThat(texts(index.suggest("축", 10))).containsExactly("축하 공연", "봄 축제 리허설");
+        assertThat(texts(index.suggest("ㄷㅇㄹ", 10))).isEmpty();
+        assertThat(texts(index.suggest("행사", 10))).isEmpty();
+        assertThat(index.suggest("공연", 10)).extracting(SuggestionDto::getType)
+                .contains(ScheduleSuggestIndex.TYPE_CATEGORY);
+        assertThat(texts(index.suggest("크리ㅅ", 10))).containsExactly("크리스마스");
+    }
+
+    @Test
+    void rebuildsTablesOnceDeltaIsFull() {
+        List<ScheduleChangedEvent> events = new ArrayList<>();
+        for (long id = 10; id < 10 + ScheduleSuggestIndex.DELTA_LIMIT + 1; id++) {
+            events.add(ScheduleChangedEvent.created(schedule(id, "정기 점검 " + id, null)));
+        }
+        index.applyAll(events);
+        index.upsert(schedule(1L, "정기 점검 회고", "행사"));
+
+        assertThat(index.suggest("정기 점검", 1000)).hasSize(ScheduleSuggestIndex.DELTA_LIMIT + 2);
+        assertThat(texts(index.suggest("축제", 10))).isEmpty();
+        assertThat(texts(index.suggest("동아리", 10))).containsExactly("동아리 정기 모임", "동아리");
+    }
+
+    private static List<String> texts(List<SuggestionDto> suggestions) {
+        return suggestions.stream().map(SuggestionDto::getText).toList();
+    }
+
+    private static ScheduleResponseDto schedule(Long id, String title, String category) {
+        ScheduleResponseDto schedule = new ScheduleResponseDto();
+        schedule.setId(id);
+        schedule.setTitle(title);
+        schedule.setCategory(category);
+        return schedule;
+    }
+}
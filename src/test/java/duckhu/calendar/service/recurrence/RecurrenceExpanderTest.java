@@ -0,0 +1,69 @@
+package duckhu.calendar.service.recurrence;
+
+import duckhu.calendar.dto.ScheduleResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceExpanderTest {
+
+    @Test
+    void skipsExcludedDates() {
+        ScheduleResponseDto daily = schedule("FREQ=DAILY", "2025-01-01", "2025-01-01");
+        daily.setRecurrenceExdates(List.of(LocalDate.parse("2025-01-02")));
+
+        List<ScheduleResponseDto> result = RecurrenceExpander.expand(List.of(daily),
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-03"));
+
+        assertThat(result).extracting(ScheduleResponseDto::getStartDate)
+                .containsExactly(LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-03"));
+        assertThat(result).allSatisfy(occurrence ->
+                assertThat(occurrence.getSeriesStartDate()).isEqualTo(LocalDate.parse("2025-01-01")));
+    }
+
+    @Test
+    void includesOccurrencesStartingBeforeRangeThatOverlapIt() {
+        ScheduleResponseDto twoDays = schedule("FREQ=DAILY", "2025-01-01", "2025-01-02");
+
+        List<ScheduleResponseDto> result = RecurrenceExpander.expand(List.of(twoDays),
+                LocalDate.parse("2025-01-05"), LocalDate.parse("2025-01-05"));
+
+        assertThat(result).extracting(ScheduleResponseDto::getStartDate)
+                .containsExactly(LocalDate.parse("2025-01-04"), LocalDate.parse("2025-01-05"));
+        assertThat(result).extracting(ScheduleResponseDto::getEndDate)
+                .containsExactly(LocalDate.parse("2025-01-05"), LocalDate.parse("2025-01-06"));
+    }
+
+    @Test
+    void leavesSingleSchedulesUntouched() {
+        ScheduleResponseDto single = schedule(null, "2025-01-01", "2025-01-03");
+
+        assertThat(RecurrenceExpander.expand(List.of(single),
+                LocalDate.parse("2025-01-02"), LocalDate.parse("2025-01-02"))).containsExactly(single);
+    }
+
+    @Test
+    void rejectsExpansionOverBudget() {
+        ScheduleResponseDto daily = schedule("FREQ=DAILY", "2000-01-01", "2000-01-01");
+
+        assertThat(RecurrenceExpander.expand(List.of(daily),
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-05"), 5)).hasSize(5);
+        assertThatThrownBy(() -> RecurrenceExpander.expand(List.of(daily),
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-06"), 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ScheduleResponseDto schedule(String rule, String start, String end) {
+        ScheduleResponseDto schedule = new ScheduleResponseDto();
+        schedule.setId(1L);
+        schedule.setTitle("반복 일정");
+        schedule.setStartDate(LocalDate.parse(start));
+        schedule.setEndDate(LocalDate.parse(end));
+        schedule.setRecurrenceRule(rule);
+        return schedule;
+    }
+}
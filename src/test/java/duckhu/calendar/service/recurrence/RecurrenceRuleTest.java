@@ -0,0 +1,123 @@
+package duckhu.calendar.service.recurrence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    @Test
+    void normalizesRuleText() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:freq=weekly;byday=we,mo;interval=1");
+
+        assertThat(rule.toString()).isEqualTo("FREQ=WEEKLY;BYDAY=MO,WE");
+    }
+
+    @Test
+    void rejectsInvalidCombinations() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20250110"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=1MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=6MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYHOUR=9"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void monthlyByDayOrdinals() {
+        RecurrenceRule secondTuesday = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=2TU");
+        assertThat(dates(secondTuesday, "2025-01-14", "2025-01-01", "2025-03-31"))
+                .containsExactly(date("2025-01-14"), date("2025-02-11"), date("2025-03-11"));
+
+        RecurrenceRule lastFriday = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=-1FR");
+        assertThat(dates(lastFriday, "2025-01-31", "2025-01-01", "2025-03-31"))
+                .containsExactly(date("2025-01-31"), date("2025-02-28"), date("2025-03-28"));
+    }
+
+    @Test
+    void countIsCountedFromSeriesStart() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=5");
+
+        assertThat(dates(rule, "2025-01-06", "2025-01-14", "2025-12-31"))
+                .containsExactly(date("2025-01-15"), date("2025-01-20"));
+        assertThat(rule.lastOccurrence(date("2025-01-06"))).isEqualTo(date("2025-01-20"));
+    }
+
+    @Test
+    void untilIsInclusiveAndIgnoresTime() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2;UNTIL=20250109T235959Z");
+
+        assertThat(dates(rule, "2025-01-01", "2025-01-01", "2025-12-31"))
+                .containsExactly(date("2025-01-01"), date("2025-01-03"), date("2025-01-05"),
+                        date("2025-01-07"), date("2025-01-09"));
+        assertThat(rule.lastOccurrence(date("2025-01-01"))).isEqualTo(date("2025-01-09"));
+    }
+
+    @Test
+    void openEndedRuleHasNoLastOccurrence() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+        assertThat(rule.isBounded()).isFalse();
+        assertThat(rule.lastOccurrence(date("2025-01-01"))).isNull();
+    }
+
+    @Test
+    void skipsToPeriodContainingFromWithoutLosingAlignment() {
+        RecurrenceRule everyOtherMonday = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2");
+        assertThat(dates(everyOtherMonday, "2025-01-06", "2025-03-01", "2025-03-31"))
+                .containsExactly(date("2025-03-03"), date("2025-03-17"), date("2025-03-31"));
+
+        RecurrenceRule quarterlyOn31st = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=3");
+        assertThat(dates(quarterlyOn31st, "2020-01-31", "2025-01-01", "2025-12-31"))
+                .containsExactly(date("2025-01-31"), date("2025-07-31"), date("2025-10-31"));
+
+        RecurrenceRule daily = RecurrenceRule.parse("FREQ=DAILY");
+        assertThat(dates(daily, "2000-01-01", "2025-06-01", "2025-06-03"))
+                .containsExactly(date("2025-06-01"), date("2025-06-02"), date("2025-06-03"));
+    }
+
+    @Test
+    void yearlyOnLeapDayOnlyOccursInLeapYears() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY");
+
+        assertThat(dates(rule, "2024-02-29", "2024-01-01", "2033-12-31"))
+                .containsExactly(date("2024-02-29"), date("2028-02-29"), date("2032-02-29"));
+        assertThat(dates(rule, "2024-02-29", "2025-01-01", "2027-12-31")).isEmpty();
+        assertThat(RecurrenceRule.parse("FREQ=YEARLY;COUNT=3").lastOccurrence(date("2024-02-29")))
+                .isEqualTo(date("2032-02-29"));
+    }
+
+    @Test
+    void checkSpanLimitsBoundedSeries() {
+        LocalDate start = date("2025-01-01");
+
+        RecurrenceRule.parse("FREQ=DAILY;UNTIL=20350101").checkSpan(start);
+        RecurrenceRule.parse("FREQ=YEARLY;COUNT=11").checkSpan(start);
+        RecurrenceRule.parse("FREQ=DAILY;COUNT=1000").checkSpan(start);
+        RecurrenceRule.parse("FREQ=DAILY").checkSpan(start);
+
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=20350102").checkSpan(start))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY;COUNT=12").checkSpan(start))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<LocalDate> dates(RecurrenceRule rule, String seriesStart, String from, String to) {
+        List<LocalDate> result = new ArrayList<>();
+        Iterator<LocalDate> iterator = rule.iterator(date(seriesStart), date(from), date(to));
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+}